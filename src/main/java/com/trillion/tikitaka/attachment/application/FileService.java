@@ -8,6 +8,7 @@ import com.trillion.tikitaka.global.exception.CustomException;
 import com.trillion.tikitaka.global.exception.ErrorCode;
 import com.trillion.tikitaka.ticket.domain.Ticket;
 import com.trillion.tikitaka.ticketcomment.domain.TicketComment;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.exception.UserNotFoundException;
@@ -51,6 +52,7 @@ public class FileService {
     private final S3Client s3Client;
     private final AttachmentRepository attachmentRepository;
     private final UserRepository userRepository;
+    private final ManagerDirectory managerDirectory;
 
     @Transactional
     public void uploadUserProfile(MultipartFile file, Long userId) {
@@ -117,6 +119,7 @@ public class FileService {
 
             user.updateProfileImageUrl(fileUrl);
             userRepository.save(user);
+            if (user.getRole() == Role.MANAGER) managerDirectory.invalidate();
         } catch (IOException e) {
             log.error("[파일 업로드] 파일 업로드 실패");
             throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
@@ -0,0 +1,17 @@
+package com.trillion.tikitaka.global.cache;
+
+/**
+ * 캐시 생성 이후 누적 조회 적중/실패 횟수와 현재 항목 수
+ */
+public record CacheStats(long hitCount, long missCount, int size) {
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    // 조회가 없었으면 0
+    public double hitRate() {
+        long requests = requestCount();
+        return (requests == 0) ? 0.0 : (double) hitCount / requests;
+    }
+}
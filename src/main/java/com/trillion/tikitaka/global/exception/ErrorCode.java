@@ -51,6 +51,9 @@ public enum ErrorCode {
     TICKET_REVIEW_NOT_REQUIRED(HttpStatus.BAD_REQUEST, "TI006", "검토를 요청하지 않은 티켓입니다."),
     TICKET_REVIEW_ALREADY_DONE(HttpStatus.BAD_REQUEST, "TI007", "이미 검토한 티켓입니다."),
     INVALID_TICKET_DEADLINE(HttpStatus.BAD_REQUEST,"TI008","마감기한이 유효하지않습니다."),
+    INVALID_TICKET_CURSOR(HttpStatus.BAD_REQUEST, "TI009", "유효하지 않은 페이지 커서입니다."),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "TI010", "검색어를 입력해주세요."),
+    TICKET_SEARCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TI011", "티켓 검색 중 오류가 발생했습니다."),
 
     // Subtask
     SUBTASK_NOT_FOUND(HttpStatus.NOT_FOUND,"S001","해당 하위태스크를 찾을수없습니다"),
@@ -96,7 +99,11 @@ public enum ErrorCode {
     INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "O005", "허용되지 않는 파일 확장자입니다."),
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "O006", "파일을 찾을 수 없습니다."),
     FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "O007", "파일 삭제 중 오류가 발생했습니다."),
-    UNAUTHORIZED_FILE_ACCESS(HttpStatus.FORBIDDEN, "O008", "파일에 대한 접근 권한이 없습니다.");
+    UNAUTHORIZED_FILE_ACCESS(HttpStatus.FORBIDDEN, "O008", "파일에 대한 접근 권한이 없습니다."),
+
+    // Statistics
+    INVALID_STATISTICS_PERIOD(HttpStatus.BAD_REQUEST, "ST001", "통계 조회 기간이 유효하지 않습니다."),
+    TOO_MANY_TIMESERIES_BUCKETS(HttpStatus.BAD_REQUEST, "ST002", "조회 구간 수가 너무 많습니다. 기간을 줄이거나 구간 단위를 늘려주세요.");
 
     private final HttpStatus httpStatus;
     private final String errorCode;
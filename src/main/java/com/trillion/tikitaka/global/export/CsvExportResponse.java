@@ -0,0 +1,31 @@
+package com.trillion.tikitaka.global.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 내보내기 응답. 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로
+ * 본문 작성 중에 필요한 트랜잭션은 본문 안에서 직접 연다.
+ */
+public final class CsvExportResponse {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private CsvExportResponse() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> of(String filename, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(TEXT_CSV)
+                .body(body);
+    }
+}
@@ -0,0 +1,64 @@
+package com.trillion.tikitaka.global.export;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 행 단위로 바로 내보내는 CSV 작성기. 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다.
+ * 버퍼가 찰 때마다 하위 스트림으로 흘려보내므로 전체 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+public class CsvWriter implements Flushable {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) throws IOException {
+        out.write(UTF8_BOM);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(format(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private String format(Object value) {
+        if (value == null) return "";
+        if (value instanceof LocalDateTime dateTime) return dateTime.format(DATE_TIME_FORMAT);
+        if (value instanceof LocalDate date) return date.toString();
+        if (value instanceof Enum<?> constant) return constant.name();
+        return value.toString();
+    }
+
+    // 엑셀에서 수식으로 실행되지 않도록 =, +, -, @ 로 시작하는 문자열 앞에 ' 를 붙인다.
+    private String escape(String value) {
+        if (value.isEmpty()) return value;
+
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') value = "'" + value;
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,16 @@
+package com.trillion.tikitaka.global.export;
+
+/**
+ * 내보내기 조회용 힌트 값.
+ */
+public final class ExportQueryHints {
+
+    /**
+     * MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한꺼번에 받지 않고 행 단위로 스트리밍한다.
+     * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 내보내기 중에는 추가 조회를 하지 않는다.
+     */
+    public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private ExportQueryHints() {
+    }
+}
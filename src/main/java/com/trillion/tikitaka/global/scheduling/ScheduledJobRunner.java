@@ -0,0 +1,99 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스에서 같은 @Scheduled 작업이 동시에 깨어나도 한 인스턴스만 실행하도록 DB 잠금(scheduler_lock)을 건다.
+ *
+ * - lockAtMostFor: 실행 중인 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 잠금을 가져갈 수 있다. 작업 최대 소요 시간보다 길게 잡는다.
+ * - lockAtLeastFor: 작업이 빨리 끝나도 이 시간 동안은 잠금을 유지한다. 인스턴스 간 실행 시각 차이보다 길게 잡는다.
+ *
+ * 작업을 파티션으로 나누면 파티션마다 따로 잠그므로, 동시에 깨어난 인스턴스들이 서로 다른 파티션을 나눠 실행한다.
+ */
+@Slf4j
+@Component
+public class ScheduledJobRunner {
+
+    private final SchedulerLockService lockService;
+    private final String instanceId;
+
+    public ScheduledJobRunner(SchedulerLockService lockService,
+                              @Value("${scheduler.instance-id:}") String instanceId) {
+        this.lockService = lockService;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행한다. 작업 예외는 실행 이력에 남기고 로그로 기록한다. Error 는 실패로 기록한 뒤 다시 던진다.
+     *
+     * @return 이 인스턴스에서 실행했으면 true
+     */
+    public boolean run(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        Long historyId = lockService.tryLock(jobName, instanceId, lockAtMostFor);
+        if (historyId == null) {
+            log.info("[스케줄러 잠금] 다른 인스턴스에서 실행 중이거나 이미 실행됨 - 건너뜀: {}", jobName);
+            return false;
+        }
+
+        Throwable error = null;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            error = e;
+            log.error("[스케줄러 잠금] 작업 실패: {}, 인스턴스: {}", jobName, instanceId, e);
+        } catch (Error e) {
+            // Error 도 실패로 기록하되 삼키지 않고 다시 던진다.
+            error = e;
+            log.error("[스케줄러 잠금] 작업 실패: {}, 인스턴스: {}", jobName, instanceId, e);
+            throw e;
+        } finally {
+            lockService.unlock(jobName, instanceId, lockAtLeastFor, historyId, error);
+        }
+        return true;
+    }
+
+    /**
+     * 파티션별로 잠금을 걸어 실행한다. 인스턴스마다 파티션 순서를 섞어, 동시에 깨어난 인스턴스가 서로 다른 파티션부터 가져가게 한다.
+     *
+     * @return 이 인스턴스에서 실행한 파티션 수
+     */
+    public int runPartitioned(String jobName, List<String> partitions,
+                              Duration lockAtMostFor, Duration lockAtLeastFor, Consumer<String> task) {
+        List<String> order = new ArrayList<>(partitions);
+        Collections.shuffle(order);
+
+        int executed = 0;
+        for (String partition : order) {
+            if (run(jobName + ":" + partition, lockAtMostFor, lockAtLeastFor, () -> task.accept(partition))) {
+                executed++;
+            }
+        }
+        return executed;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    // 같은 호스트에서 재시작한 인스턴스도 구분되도록 임의 값을 붙인다.
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,43 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행이 없을 때만 만료된 상태로 만든다. 이미 있으면 아무것도 바꾸지 않는다.
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO scheduler_lock (name, locked_until, locked_at, locked_by)
+            VALUES (:name, NOW(6), NOW(6), '')
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // 만료된 잠금만 가져온다. 반영된 행이 1 이면 이 인스턴스가 잠금을 얻은 것이다.
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_lock
+            SET locked_until = DATE_ADD(NOW(6), INTERVAL :lockAtMostMillis * 1000 MICROSECOND),
+                locked_at = NOW(6),
+                locked_by = :instanceId
+            WHERE name = :name
+              AND locked_until <= NOW(6)
+            """, nativeQuery = true)
+    int acquire(@Param("name") String name,
+                @Param("instanceId") String instanceId,
+                @Param("lockAtMostMillis") long lockAtMostMillis);
+
+    // 최소 유지 시간(lockAtLeast)이 지나기 전에 끝나면 그때까지 잠금을 유지해, 조금 늦게 깨어난 다른 인스턴스가 다시 실행하지 않게 한다.
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_lock
+            SET locked_until = GREATEST(NOW(6), DATE_ADD(locked_at, INTERVAL :lockAtLeastMillis * 1000 MICROSECOND))
+            WHERE name = :name
+              AND locked_by = :instanceId
+            """, nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("instanceId") String instanceId,
+                @Param("lockAtLeastMillis") long lockAtLeastMillis);
+}
@@ -0,0 +1,40 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * 잠금 획득/해제와 실행 이력 기록. 작업 트랜잭션과 무관하게 바로 커밋되어야 다른 인스턴스가 볼 수 있으므로
+ * 항상 별도 트랜잭션에서 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+    private final SchedulerRunHistoryRepository historyRepository;
+
+    /**
+     * 잠금을 얻으면 실행 이력을 남기고 이력 ID 를, 다른 인스턴스가 잠금 중이면 null 을 반환한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long tryLock(String name, String instanceId, Duration lockAtMostFor) {
+        lockRepository.insertIfAbsent(name);
+        if (lockRepository.acquire(name, instanceId, lockAtMostFor.toMillis()) == 0) return null;
+
+        return historyRepository.save(SchedulerRunHistory.builder()
+                .lockName(name)
+                .instanceId(instanceId)
+                .build()).getId();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void unlock(String name, String instanceId, Duration lockAtLeastFor, Long historyId, Throwable error) {
+        lockRepository.release(name, instanceId, lockAtLeastFor.toMillis());
+        historyRepository.findById(historyId).ifPresent(history -> history.finish(error));
+    }
+}
@@ -0,0 +1,69 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력. 잠금을 얻어 실제로 실행한 경우만 남긴다.
+ */
+@Entity
+@Table(name = "scheduler_run_history", indexes = {
+        @Index(name = "idx_scheduler_run_history_name_started", columnList = "lock_name, started_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerRunHistory {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lock_name", nullable = false, length = 100)
+    private String lockName;
+
+    @Column(name = "instance_id", nullable = false, length = 100)
+    private String instanceId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Builder
+    public SchedulerRunHistory(String lockName, String instanceId) {
+        this.lockName = lockName;
+        this.instanceId = instanceId;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void finish(Throwable error) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = (error == null) ? Status.SUCCEEDED : Status.FAILED;
+        if (error != null) {
+            String message = String.valueOf(error.getMessage());
+            this.errorMessage = (message.length() > MAX_ERROR_MESSAGE_LENGTH)
+                    ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                    : message;
+        }
+    }
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -0,0 +1,8 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SchedulerRunHistoryRepository extends JpaRepository<SchedulerRunHistory, Long> {
+
+    boolean existsByLockNameAndStatus(String lockName, SchedulerRunHistory.Status status);
+}
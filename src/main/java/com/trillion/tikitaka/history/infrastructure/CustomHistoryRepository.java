@@ -4,6 +4,10 @@ import com.trillion.tikitaka.history.dto.response.HistoryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CustomHistoryRepository {
     Page<HistoryResponse> getHistory(Pageable pageable, Long updatedById, Long ticketId, String updateType);
+
+    List<HistoryResponse> getLatestHistory(Long ticketId, int limit);
 }
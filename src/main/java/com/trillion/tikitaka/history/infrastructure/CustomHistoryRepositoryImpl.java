@@ -58,6 +58,28 @@ public class CustomHistoryRepositoryImpl implements CustomHistoryRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public List<HistoryResponse> getLatestHistory(Long ticketId, int limit) {
+        QTicketHistory history = QTicketHistory.ticketHistory;
+        QTicket ticket = QTicket.ticket;
+
+        return queryFactory
+                .select(new QHistoryResponse(
+                        history.id,
+                        history.ticket.id,
+                        ticket.title,
+                        history.updatedBy.username,
+                        history.updatedAt,
+                        history.updateType
+                ))
+                .from(history)
+                .leftJoin(history.ticket, ticket)
+                .where(ticketIdEq(ticketId))
+                .orderBy(history.updatedAt.desc(), history.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     private BooleanExpression updatedByEq(Long updatedById) {
         QTicketHistory history = QTicketHistory.ticketHistory;
         return updatedById != null ? history.updatedBy.id.eq(updatedById) : null;
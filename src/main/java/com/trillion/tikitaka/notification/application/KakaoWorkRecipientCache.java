@@ -0,0 +1,113 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.global.cache.CacheStats;
+import com.trillion.tikitaka.global.cache.LocalCache;
+import com.trillion.tikitaka.infrastructure.kakaowork.KakaoWorkClient;
+import com.trillion.tikitaka.notification.exception.KakaoWorkFetchingUserIdException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 카카오워크 수신자 캐시 (이메일 → 카카오워크 사용자 ID → 채팅방 ID).
+ * 알림 수신자는 대부분 같은 담당자들이므로, 캐시가 차면 알림마다 메시지 전송 요청 한 번만 보낸다.
+ * - 카카오워크에 없는 이메일은 짧은 TTL 로 따로 기억해, 그동안은 조회 없이 바로 실패시킨다.
+ * - 사용자 삭제 등으로 이메일의 주인이 바뀌거나 메시지 전송이 실패하면 해당 이메일 항목을 비운다.
+ * 인스턴스마다 따로 캐시하며, 다른 인스턴스의 변경은 TTL 안에 반영된다.
+ */
+@Slf4j
+@Component
+public class KakaoWorkRecipientCache {
+
+    private static final int MAX_RECIPIENTS = 1_000;
+
+    private final KakaoWorkClient kakaoWorkClient;
+    private final LocalCache<String, String> userIds;
+    private final LocalCache<String, String> conversationIds;
+    private final LocalCache<String, Boolean> unknownEmails;
+
+    public KakaoWorkRecipientCache(KakaoWorkClient kakaoWorkClient,
+                                   @Value("${notification.kakaowork.recipient-cache.ttl-minutes:1440}") long ttlMinutes,
+                                   @Value("${notification.kakaowork.recipient-cache.negative-ttl-minutes:10}") long negativeTtlMinutes) {
+        this.kakaoWorkClient = kakaoWorkClient;
+        this.userIds = new LocalCache<>(Duration.ofMinutes(ttlMinutes), MAX_RECIPIENTS);
+        this.conversationIds = new LocalCache<>(Duration.ofMinutes(ttlMinutes), MAX_RECIPIENTS);
+        this.unknownEmails = new LocalCache<>(Duration.ofMinutes(negativeTtlMinutes), MAX_RECIPIENTS);
+    }
+
+    /**
+     * 이메일 사용자와의 1:1 채팅방 ID. 캐시에 없는 단계만 카카오워크에 요청한다.
+     */
+    public Mono<String> conversationIdOf(String email) {
+        return userIdOf(email).flatMap(this::conversationIdOfUser);
+    }
+
+    private Mono<String> userIdOf(String email) {
+        if (unknownEmails.getIfPresent(email) != null) {
+            log.info("[사용자 조회 생략] 카카오워크에 없는 이메일: {}", email);
+            return Mono.error(new KakaoWorkFetchingUserIdException());
+        }
+        String cached = userIds.getIfPresent(email);
+        if (cached != null) return Mono.just(cached);
+
+        return kakaoWorkClient.findUserIdByEmail(email)
+                .flatMap(response -> (response.getUser() != null)
+                        ? Mono.just(response.getUser().getId())
+                        : Mono.<String>error(new KakaoWorkFetchingUserIdException()))
+                .doOnNext(userId -> {
+                    log.info("[사용자 조회 성공] userId={}", userId);
+                    userIds.put(email, userId);
+                })
+                .doOnError(e -> {
+                    log.error("[사용자 조회 오류] 사용자 조회 오류: {}", e.getMessage());
+                    // 카카오워크가 응답한 조회 실패만 기억한다. 네트워크 오류는 다음 시도에서 다시 조회한다.
+                    if (e instanceof KakaoWorkFetchingUserIdException) unknownEmails.put(email, Boolean.TRUE);
+                });
+    }
+
+    private Mono<String> conversationIdOfUser(String userId) {
+        String cached = conversationIds.getIfPresent(userId);
+        if (cached != null) return Mono.just(cached);
+
+        return kakaoWorkClient.openConversation(userId)
+                .map(response -> response.getConversation().getId())
+                .doOnNext(conversationId -> {
+                    log.info("[채팅방 생성 성공] convId={}", conversationId);
+                    conversationIds.put(userId, conversationId);
+                })
+                .doOnError(e -> log.error("[채팅방 생성 오류] 채팅방 생성 오류: {}", e.getMessage()));
+    }
+
+    /**
+     * 이메일에 대한 캐시 항목(사용자 ID, 채팅방 ID, 미등록 표시)을 모두 비운다.
+     */
+    public void invalidate(String email) {
+        if (email == null) return;
+        String userId = userIds.getIfPresent(email);
+        if (userId != null) conversationIds.invalidate(userId);
+        userIds.invalidate(email);
+        unknownEmails.invalidate(email);
+    }
+
+    public CacheStats userIdStats() {
+        return userIds.stats();
+    }
+
+    public CacheStats conversationIdStats() {
+        return conversationIds.stats();
+    }
+
+    @Scheduled(fixedRate = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void logStats() {
+        CacheStats users = userIds.stats();
+        CacheStats conversations = conversationIds.stats();
+        log.info("[카카오워크 수신자 캐시] 사용자 ID 적중률: {}% ({}/{}), 채팅방 ID 적중률: {}% ({}/{}), 미등록 이메일 수: {}",
+                Math.round(users.hitRate() * 100), users.hitCount(), users.requestCount(),
+                Math.round(conversations.hitRate() * 100), conversations.hitCount(), conversations.requestCount(),
+                unknownEmails.size());
+    }
+}
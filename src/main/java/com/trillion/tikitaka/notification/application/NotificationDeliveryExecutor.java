@@ -0,0 +1,118 @@
+package com.trillion.tikitaka.notification.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 전송 전용 스레드 풀. 전송 워커가 가져간 알림 묶음을 여기서 전송해, 다른 스케줄 작업이 전송 대기로 밀리지 않게 한다.
+ * - 스레드 수와 대기열 크기를 제한하고, 가득 차면 작업을 받지 않는다. 받지 못한 알림은 outbox 에 그대로 두어 다음 주기에 보낸다.
+ * - 애플리케이션 종료 시 새 작업을 받지 않고, 진행 중/대기 중인 전송이 끝날 때까지 최대 shutdown-timeout 동안 기다린다.
+ *   그 안에 끝나지 않은 알림은 임대가 끝난 뒤 다른 인스턴스가 다시 보낸다.
+ * Spring Boot 기본 applicationTaskExecutor(CSV 내보내기 등 MVC 비동기 응답용)를 대신하지 않도록 빈으로 등록하지 않고 직접 관리한다.
+ */
+@Slf4j
+@Component
+public class NotificationDeliveryExecutor implements SmartLifecycle {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private volatile boolean running;
+
+    public NotificationDeliveryExecutor(@Value("${notification.executor.pool-size:4}") int poolSize,
+                                        @Value("${notification.executor.queue-capacity:4}") int queueCapacity,
+                                        @Value("${notification.executor.shutdown-timeout-seconds:30}") int shutdownTimeoutSeconds) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCount.increment();
+            throw new RejectedExecutionException("알림 전송 대기열이 가득 참");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+        executor.initialize();
+        this.running = true;
+    }
+
+    /**
+     * 바로 실행하거나 대기열에 넣을 자리가 있는지. 전송 워커가 알림을 가져가기 전에 확인한다.
+     */
+    public boolean hasCapacity() {
+        return running && (executor.getActiveCount() < poolSize || executor.getQueueSize() < queueCapacity);
+    }
+
+    /**
+     * 작업을 넣고, 자리가 없거나 종료 중이면 false 를 반환한다.
+     */
+    public boolean trySubmit(Runnable task) {
+        if (!running) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("[알림 전송 스레드] 작업 실패", e);
+                }
+            });
+            submittedCount.increment();
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("[알림 전송 스레드] 작업 거절 - 대기열: {}/{}, 실행 중: {}/{}",
+                    executor.getQueueSize(), queueCapacity, executor.getActiveCount(), poolSize);
+            return false;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(executor.getActiveCount(), poolSize, executor.getQueueSize(), queueCapacity,
+                submittedCount.sum(), rejectedCount.sum());
+    }
+
+    @Scheduled(fixedRate = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void logStats() {
+        Stats stats = stats();
+        log.info("[알림 전송 스레드] 실행 중: {}/{}, 대기열: {}/{}, 누적 작업: {}, 누적 거절: {}",
+                stats.activeCount(), stats.poolSize(), stats.queueDepth(), stats.queueCapacity(),
+                stats.submittedCount(), stats.rejectedCount());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 빈 소멸 전에(DB 연결이 살아 있을 때) 호출되므로, 남은 전송 결과까지 기록하고 끝난다.
+    @Override
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Stats stats = stats();
+        log.info("[알림 전송 스레드] 종료 시작 - 실행 중: {}, 대기열: {}", stats.activeCount(), stats.queueDepth());
+        executor.shutdown();
+        log.info("[알림 전송 스레드] 종료 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public record Stats(int activeCount, int poolSize, int queueDepth, int queueCapacity,
+                        long submittedCount, long rejectedCount) {
+    }
+}
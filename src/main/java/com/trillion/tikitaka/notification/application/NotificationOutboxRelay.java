@@ -0,0 +1,85 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.notification.application.NotificationOutboxService.DeliveryResult;
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.dto.response.Block;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * outbox 전송 워커. PENDING 알림을 묶음으로 가져가 최대 CONCURRENCY 건씩 동시에 전송하고 결과를 기록한다.
+ * 가져갈 때 SKIP LOCKED 로 잠그므로 여러 인스턴스에서 동시에 돌아도 같은 알림을 중복으로 가져가지 않아, 스케줄 잠금 없이 모든 인스턴스에서 실행한다.
+ * 수신자별 전송 한도(RecipientRateLimiter)를 넘은 알림은 보내지 않고 다음 토큰이 생기는 시각으로 미룬다.
+ * 전송 스레드 풀이 가득 차면 더 가져가지 않고, 이미 가져간 묶음을 맡기지 못하면 outbox 로 되돌려 다음 주기에 보낸다.
+ * 전송 중 인스턴스가 죽으면 임대(LEASE)가 끝난 뒤 다른 워커가 다시 전송한다(최소 1회 전송).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    static final int BATCH_SIZE = 50;
+    private static final int CONCURRENCY = 8;
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+    // 전송 스레드 풀 대기열에서 기다리는 시간과 한 묶음을 모두 보내는 데 걸리는 최대 시간을 합친 것보다 길게 잡는다.
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final NotificationOutboxService outboxService;
+    private final KakaoWorkNotificationService notificationService;
+    private final BlockJsonConverter blockJsonConverter;
+    private final RecipientRateLimiter rateLimiter;
+    private final NotificationDeliveryExecutor deliveryExecutor;
+
+    // 스케줄 스레드에서는 알림을 가져가기만 하고, 전송과 결과 기록은 전송 스레드 풀(NotificationDeliveryExecutor)에 맡긴다.
+    @Scheduled(fixedDelay = 2000)
+    public void relay() {
+        List<Notification> notifications;
+        do {
+            if (!deliveryExecutor.hasCapacity()) return;
+
+            notifications = outboxService.claim(BATCH_SIZE, LEASE);
+            if (notifications.isEmpty()) return;
+
+            log.info("[알림 전송 워커] 전송할 알림 수: {}", notifications.size());
+            List<Notification> batch = notifications;
+            if (!deliveryExecutor.trySubmit(() -> outboxService.complete(deliver(batch)))) {
+                outboxService.release(batch.stream().map(Notification::getId).toList());
+                return;
+            }
+        } while (notifications.size() == BATCH_SIZE);
+    }
+
+    List<DeliveryResult> deliver(List<Notification> notifications) {
+        // 전체 담당자 알림은 같은 메시지이므로 묶음 안에서 한 번만 역직렬화한다.
+        Map<String, List<Block>> blocksByJson = new ConcurrentHashMap<>();
+        return Flux.fromIterable(notifications)
+                .flatMap(notification -> deliver(notification, blocksByJson), CONCURRENCY)
+                .collectList()
+                .block();
+    }
+
+    private Mono<DeliveryResult> deliver(Notification notification, Map<String, List<Block>> blocksByJson) {
+        Duration wait = rateLimiter.tryAcquire(notification.getRecipientEmail());
+        if (!wait.isZero()) {
+            return Mono.just(DeliveryResult.deferred(notification.getId(), LocalDateTime.now().plus(wait)));
+        }
+
+        return Mono.defer(() -> notificationService.sendKakaoWorkNotification(
+                        notification.getRecipientEmail(),
+                        notification.getPreviewText(),
+                        blocksByJson.computeIfAbsent(notification.getMessageJson(), blockJsonConverter::convertJsonToBlocks)))
+                .timeout(SEND_TIMEOUT)
+                .thenReturn(DeliveryResult.success(notification.getId()))
+                .onErrorResume(e -> Mono.just(DeliveryResult.failure(notification.getId(), e)));
+    }
+}
@@ -0,0 +1,188 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.domain.NotificationStatus;
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.dto.response.Block;
+import com.trillion.tikitaka.notification.infrastructure.NotificationRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.dto.response.UserResponse;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 outbox.
+ * - enqueue: 알림을 발생시킨 트랜잭션에 참여해 PENDING 알림을 저장한다. 트랜잭션이 롤백되면 알림도 남지 않는다.
+ * - enqueueToManagers: 같은 메시지를 전체 담당자 수만큼 JDBC 배치로 저장한다.
+ * - claim/complete: 전송 워커가 짧은 트랜잭션으로 알림을 가져가고 결과를 기록한다. 전송(HTTP) 중에는 행 잠금을 잡고 있지 않는다.
+ * - release: 전송 스레드 풀이 가득 차 맡기지 못한 알림을 outbox 로 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (receiver_id, recipient_email, preview_text, message_json, type, status,
+                                       error_message, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 'PENDING', '', 0, ?, ?, ?)
+            """;
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final ManagerDirectory managerDirectory;
+    private final BlockJsonConverter blockJsonConverter;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public Notification enqueue(String email, NotificationType type, String previewText, List<Block> blocks) {
+        return enqueue(email, type, previewText, blocks, null, null, null);
+    }
+
+    /**
+     * 모아 보내기 알림을 저장한다. sendAfter 전까지는 전송하지 않으며, 그사이 같은 digestKey 의 알림은 이 알림에 합쳐진다.
+     */
+    @Transactional
+    public Notification enqueue(String email, NotificationType type, String previewText, List<Block> blocks,
+                                String digestKey, String digestItems, LocalDateTime sendAfter) {
+        User receiver = userRepository.findByEmail(email).orElse(null);
+        if (receiver == null) {
+            log.warn("[수신자 조회 실패] 이메일 {}에 해당하는 사용자를 찾을 수 없음", email);
+        }
+
+        Notification notification = notificationRepository.save(Notification.builder()
+                .receiver(receiver)
+                .recipientEmail(email)
+                .previewText(previewText)
+                .messageJson(blockJsonConverter.convertBlocksToJson(blocks))
+                .type(type)
+                .status(NotificationStatus.PENDING)
+                .digestKey(digestKey)
+                .digestItems(digestItems)
+                .nextAttemptAt(sendAfter)
+                .build());
+        log.info("[알림 저장] 알림 ID: {}, 이메일: {}, 알림 유형: {}", notification.getId(), email, type);
+        return notification;
+    }
+
+    /**
+     * 전체 담당자에게 같은 알림을 저장하고 저장한 건수를 반환한다. 메시지 직렬화와 담당자 조회는 한 번만 한다.
+     */
+    @Transactional
+    public int enqueueToManagers(NotificationType type, String previewText, List<Block> blocks) {
+        List<UserResponse> managers = managerDirectory.getManagers();
+        if (managers.isEmpty()) {
+            log.warn("[담당자 조회 실패] 매니저가 존재하지 않음 - 알림 유형: {}", type);
+            return 0;
+        }
+
+        String messageJson = blockJsonConverter.convertBlocksToJson(blocks);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, managers, BATCH_SIZE, (ps, manager) -> {
+            ps.setLong(1, manager.getUserId());
+            ps.setString(2, manager.getEmail());
+            ps.setString(3, previewText);
+            ps.setString(4, messageJson);
+            ps.setString(5, type.name());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        log.info("[알림 저장] 전체 담당자 알림 - 알림 유형: {}, 수신자 수: {}", type, managers.size());
+        return managers.size();
+    }
+
+    /**
+     * 전송할 차례가 된 알림을 최대 batchSize 건 가져온다. 가져간 알림은 lease 동안 다른 워커가 가져가지 않는다.
+     */
+    @Transactional
+    public List<Notification> claim(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = notificationRepository.findDueForUpdateSkipLocked(now, batchSize);
+        notifications.forEach(notification -> notification.claim(now.plus(lease)));
+        return notifications;
+    }
+
+    /**
+     * 가져갔지만 전송을 맡기지 못한 알림을 시도 횟수 변경 없이 바로 다시 가져갈 수 있게 되돌린다.
+     */
+    @Transactional
+    public void release(List<Long> notificationIds) {
+        LocalDateTime now = LocalDateTime.now();
+        notificationRepository.findAllById(notificationIds).forEach(notification -> notification.defer(now));
+        log.info("[알림 반환] 전송 대기열이 가득 차 outbox 로 되돌린 알림 수: {}", notificationIds.size());
+    }
+
+    /**
+     * 전송 결과를 기록한다.
+     */
+    @Transactional
+    public void complete(List<DeliveryResult> results) {
+        Map<Long, Notification> notifications = notificationRepository
+                .findAllById(results.stream().map(DeliveryResult::notificationId).toList())
+                .stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (DeliveryResult result : results) {
+            Notification notification = notifications.get(result.notificationId());
+            if (notification == null) continue;
+
+            if (result.deferredUntil() != null) {
+                notification.defer(result.deferredUntil());
+                log.info("[알림 전송 보류] 수신자 전송 한도 초과 - 알림 ID: {}, 다음 시도: {}",
+                        notification.getId(), result.deferredUntil());
+            } else if (result.errorMessage() == null) {
+                notification.markSent();
+                log.info("[알림 전송 최종 성공] 알림 ID: {}", notification.getId());
+            } else {
+                notification.markFailed(result.errorMessage(), now);
+                if (notification.getStatus() == NotificationStatus.FAIL) {
+                    log.error("[알림 전송 최종 실패] 알림 ID: {}, 시도 횟수: {}, 에러: {}",
+                            notification.getId(), notification.getAttempts(), result.errorMessage());
+                } else {
+                    log.warn("[재시도] 알림 ID: {}, {}번째 시도 실패, 다음 시도: {}",
+                            notification.getId(), notification.getAttempts(), notification.getNextAttemptAt());
+                }
+            }
+        }
+    }
+
+    /**
+     * 알림 한 건의 전송 결과. errorMessage 가 있으면 실패, deferredUntil 이 있으면 전송 한도에 걸려 보내지 않은 것이다.
+     */
+    public record DeliveryResult(Long notificationId, String errorMessage, LocalDateTime deferredUntil) {
+
+        public DeliveryResult(Long notificationId, String errorMessage) {
+            this(notificationId, errorMessage, null);
+        }
+
+        public static DeliveryResult success(Long notificationId) {
+            return new DeliveryResult(notificationId, null);
+        }
+
+        public static DeliveryResult failure(Long notificationId, Throwable error) {
+            String message = (error.getMessage() != null) ? error.getMessage() : error.getClass().getSimpleName();
+            return new DeliveryResult(notificationId, message);
+        }
+
+        public static DeliveryResult deferred(Long notificationId, LocalDateTime until) {
+            return new DeliveryResult(notificationId, null, until);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 수신자별 알림 전송 한도(토큰 버킷). 수신자마다 capacity 건까지 연달아 보낼 수 있고, 이후에는 분당 refillPerMinute 건씩 늘어난다.
+ * 인스턴스마다 따로 센다. 오래 쓰지 않은 수신자의 버킷은 캐시에서 빠지며, 다시 만들면 가득 찬 상태로 시작한다.
+ */
+@Component
+public class RecipientRateLimiter {
+
+    private static final int MAX_RECIPIENTS = 10_000;
+    private static final Duration IDLE_TTL = Duration.ofMinutes(10);
+
+    private final int capacity;
+    private final double refillPerMilli;
+    private final Clock clock;
+    private final LocalCache<String, TokenBucket> buckets;
+
+    public RecipientRateLimiter(@Value("${notification.rate-limit.capacity:10}") int capacity,
+                                @Value("${notification.rate-limit.refill-per-minute:20}") int refillPerMinute) {
+        this(capacity, refillPerMinute, Clock.systemUTC());
+    }
+
+    public RecipientRateLimiter(int capacity, int refillPerMinute, Clock clock) {
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerMinute / 60_000.0;
+        this.clock = clock;
+        this.buckets = new LocalCache<>(IDLE_TTL, MAX_RECIPIENTS, clock);
+    }
+
+    /**
+     * 보낼 수 있으면 토큰을 하나 쓰고 Duration.ZERO 를, 한도를 넘었으면 다음 토큰이 생길 때까지 남은 시간을 반환한다.
+     */
+    public Duration tryAcquire(String recipient) {
+        TokenBucket bucket = buckets.get(recipient, key -> new TokenBucket(capacity, clock.millis()));
+        return bucket.tryAcquire(clock.millis());
+    }
+
+    private final class TokenBucket {
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        private synchronized Duration tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMilli);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofMillis((long) Math.ceil((1 - tokens) / refillPerMilli));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.notification.dto.response.*;
+import com.trillion.tikitaka.notification.event.NotificationEvent;
+import com.trillion.tikitaka.notification.event.TicketAssignmentEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.trillion.tikitaka.notification.dto.response.ButtonBlock.END_POINT;
+
+@Component
+public class TicketAssignmentMessageBuilder implements KakaoWorkMessageBuilder<TicketAssignmentEvent> {
+
+    // 메시지가 길어지지 않도록 티켓은 일부만 나열한다.
+    private static final int MAX_LISTED_TICKETS = 10;
+
+    @Override
+    public List<Block> buildMessage(TicketAssignmentEvent event) {
+        List<Block> blocks = new ArrayList<>();
+        List<TicketAssignmentEvent.AssignedTicket> tickets = event.getTickets();
+
+        // 1. Header Block
+        blocks.add(new HeaderBlock("티켓 배정 알림", "blue"));
+
+        // 2. Text Block
+        String textValue = String.format("미배정 티켓 %d건이 배정되었습니다.", tickets.size());
+        List<Inline> inlineTexts = List.of(new Inline("styled", textValue, true, "blue"));
+        blocks.add(new TextBlock(textValue, inlineTexts));
+
+        // 3. Description Block for 배정된 티켓
+        for (TicketAssignmentEvent.AssignedTicket ticket : tickets.subList(0, Math.min(tickets.size(), MAX_LISTED_TICKETS))) {
+            String ticketText = String.format("[#%s] %s", ticket.ticketId(), ticket.title());
+            List<Inline> inlineTicket = List.of(new Inline("styled", ticketText, false));
+            blocks.add(new DescriptionBlock(new Content(ticketText, inlineTicket), "티켓", true));
+        }
+        if (tickets.size() > MAX_LISTED_TICKETS) {
+            String moreText = String.format("외 %d건", tickets.size() - MAX_LISTED_TICKETS);
+            List<Inline> inlineMore = List.of(new Inline("styled", moreText, false));
+            blocks.add(new DescriptionBlock(new Content(moreText, inlineMore), "티켓", true));
+        }
+
+        // 4. Button Block for "확인하기" (첫 번째 티켓)
+        String url = END_POINT + "/manager/detail/" + tickets.get(0).ticketId();
+        ButtonAction action = new ButtonAction("open_system_browser", "확인하기", url);
+        blocks.add(new ButtonBlock("확인하기", "default", action));
+
+        return blocks;
+    }
+
+    @Override
+    public boolean supports(NotificationEvent event) {
+        return event instanceof TicketAssignmentEvent;
+    }
+
+    @Override
+    public String buildPreviewText(TicketAssignmentEvent event) {
+        String date = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        return String.format("%s 티켓 %d건 배정", date, event.getTickets().size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.trillion.tikitaka.notification.application;
+
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.dto.response.Block;
+import com.trillion.tikitaka.notification.event.TicketUpdateEvent;
+import com.trillion.tikitaka.notification.infrastructure.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 티켓 수정 알림 모아 보내기.
+ * 같은 수신자에게 같은 티켓의 수정 알림이 window 안에 여러 번 생기면, 아직 보내지 않은 첫 알림에 변경 항목을 합쳐 한 메시지로 보낸다.
+ * 첫 알림은 window 가 지난 뒤에 전송되므로, 연속 수정이 길게 이어져도 알림이 window 이상 늦어지지 않는다.
+ */
+@Slf4j
+@Component
+public class TicketUpdateDigester {
+
+    private static final String ITEM_DELIMITER = ",";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxService outboxService;
+    private final TicketUpdateMessageBuilder messageBuilder;
+    private final BlockJsonConverter blockJsonConverter;
+    private final Duration window;
+
+    public TicketUpdateDigester(NotificationRepository notificationRepository,
+                                NotificationOutboxService outboxService,
+                                TicketUpdateMessageBuilder messageBuilder,
+                                BlockJsonConverter blockJsonConverter,
+                                @Value("${notification.digest.window-seconds:60}") long windowSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.outboxService = outboxService;
+        this.messageBuilder = messageBuilder;
+        this.blockJsonConverter = blockJsonConverter;
+        this.window = Duration.ofSeconds(windowSeconds);
+    }
+
+    @Transactional
+    public void enqueue(TicketUpdateEvent event) {
+        String email = event.getEmail();
+        String digestKey = digestKeyOf(event);
+        Optional<Notification> pending = notificationRepository.findDigestTargetForUpdate(email, digestKey);
+
+        List<String> items = new ArrayList<>(pending.map(n -> parseItems(n.getDigestItems())).orElseGet(List::of));
+        if (!items.contains(event.getModification())) items.add(event.getModification());
+
+        List<Block> blocks = messageBuilder.buildMessage(event, items);
+        String previewText = messageBuilder.buildPreviewText(event);
+        String digestItems = String.join(ITEM_DELIMITER, items);
+
+        if (pending.isPresent()) {
+            Notification notification = pending.get();
+            notification.mergeDigest(blockJsonConverter.convertBlocksToJson(blocks), previewText, digestItems);
+            log.info("[알림 모아 보내기] 알림 ID: {}, 이메일: {}, 변경 항목: {}", notification.getId(), email, digestItems);
+            return;
+        }
+        outboxService.enqueue(email, event.getType(), previewText, blocks,
+                digestKey, digestItems, LocalDateTime.now().plus(window));
+    }
+
+    private String digestKeyOf(TicketUpdateEvent event) {
+        return event.getType().name() + ":" + event.getTicketSnapshot().getId();
+    }
+
+    private List<String> parseItems(String digestItems) {
+        if (digestItems == null || digestItems.isBlank()) return List.of();
+        return Arrays.asList(digestItems.split(ITEM_DELIMITER));
+    }
+}
@@ -18,6 +18,13 @@ public class TicketUpdateMessageBuilder implements KakaoWorkMessageBuilder<Ticke
 
     @Override
     public List<Block> buildMessage(TicketUpdateEvent event) {
+        return buildMessage(event, List.of(event.getModification()));
+    }
+
+    /**
+     * 짧은 시간 안의 여러 수정을 한 메시지로 모아 보낼 때 사용한다. 변경자/담당자 등은 마지막 수정 기준이다.
+     */
+    public List<Block> buildMessage(TicketUpdateEvent event, List<String> modifications) {
         List<Block> blocks = new ArrayList<>();
         var ticket = event.getTicketSnapshot();
 
@@ -35,7 +42,7 @@ public class TicketUpdateMessageBuilder implements KakaoWorkMessageBuilder<Ticke
         blocks.add(new DescriptionBlock(new Content(modifierText, inlineType), "변경자", true));
 
         // 4. Description Block for "변경 필드"
-        String modificationText = event.getModification();
+        String modificationText = String.join(", ", modifications);
         List<Inline> inlineCategory = List.of(new Inline("styled", modificationText, true));
         blocks.add(new DescriptionBlock(new Content(modificationText, inlineCategory), "변경유형", true));
 
@@ -8,12 +8,26 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 카카오워크 알림. 알림을 발생시킨 트랜잭션 안에서 PENDING 으로 저장되고(outbox),
+ * 전송 워커(NotificationOutboxRelay)가 가져가 전송한 뒤 SUCCESS/FAIL 로 바꾼다.
+ */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_notifications_digest", columnList = "recipient_email, digest_key, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
 
+    public static final int MAX_ATTEMPTS = 4;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(60);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,6 +36,12 @@ public class Notification extends BaseEntity {
     @JoinColumn(name = "receiver_id")
     private User receiver;
 
+    @Column(name = "recipient_email")
+    private String recipientEmail;
+
+    @Column(name = "preview_text", length = 1000)
+    private String previewText;
+
     @Lob
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String messageJson;
@@ -38,13 +58,35 @@ public class Notification extends BaseEntity {
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String errorMessage;
 
+    // 전송 시도 횟수와 다음 전송 가능 시각. 전송 중에는 임대 만료 시각으로 쓰여, 전송 중 인스턴스가 죽으면 다시 가져갈 수 있다.
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 모아 보내기 대상 알림의 묶음 키(예: 티켓 수정 알림은 티켓별)와 지금까지 모은 변경 항목
+    @Column(name = "digest_key", length = 100)
+    private String digestKey;
+
+    @Column(name = "digest_items", length = 1000)
+    private String digestItems;
+
     @Builder
-    public Notification(User receiver, String messageJson, NotificationType type, NotificationStatus status) {
+    public Notification(User receiver, String recipientEmail, String previewText, String messageJson,
+                        NotificationType type, NotificationStatus status,
+                        String digestKey, String digestItems, LocalDateTime nextAttemptAt) {
         this.receiver = receiver;
+        this.recipientEmail = recipientEmail;
+        this.previewText = previewText;
         this.messageJson = messageJson;
         this.type = type;
         this.status = status;
         this.errorMessage = "";
+        this.attempts = 0;
+        this.digestKey = digestKey;
+        this.digestItems = digestItems;
+        this.nextAttemptAt = (nextAttemptAt != null) ? nextAttemptAt : LocalDateTime.now();
     }
 
     public void updateStatus(NotificationStatus status) {
@@ -54,4 +96,41 @@ public class Notification extends BaseEntity {
     public void updateMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
+
+    // 아직 보내지 않은 모아 보내기 알림에 새 변경 내용을 합친다. 전송 시각은 처음 알림 기준으로 유지한다.
+    public void mergeDigest(String messageJson, String previewText, String digestItems) {
+        this.messageJson = messageJson;
+        this.previewText = previewText;
+        this.digestItems = digestItems;
+    }
+
+    // 전송 워커가 가져갈 때 호출한다. leaseUntil 까지는 다른 워커가 가져가지 않는다.
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = NotificationStatus.SUCCESS;
+        this.errorMessage = "";
+        this.nextAttemptAt = null;
+    }
+
+    // 수신자별 전송 한도에 걸려 보내지 않은 경우. 시도 횟수에 넣지 않고 until 이후에 다시 보낸다.
+    public void defer(LocalDateTime until) {
+        this.attempts = Math.max(0, attempts - 1);
+        this.nextAttemptAt = until;
+    }
+
+    // 최대 시도 횟수 전까지는 지수 백오프 후 다시 전송하고, 넘으면 실패로 끝낸다.
+    public void markFailed(String errorMessage, LocalDateTime now) {
+        this.errorMessage = (errorMessage != null) ? errorMessage : "";
+        if (attempts >= MAX_ATTEMPTS) {
+            this.status = NotificationStatus.FAIL;
+            this.nextAttemptAt = null;
+            return;
+        }
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.max(0, attempts - 1));
+        this.nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+    }
 }
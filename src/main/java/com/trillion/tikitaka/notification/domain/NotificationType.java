@@ -5,4 +5,5 @@ public enum NotificationType {
     TICKET_CREATE,
     TICKET_UPDATE,
     COMMENT_CREATE,
+    TICKET_ASSIGNMENT,
 }
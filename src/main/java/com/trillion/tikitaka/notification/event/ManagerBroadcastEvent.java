@@ -0,0 +1,18 @@
+package com.trillion.tikitaka.notification.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 전체 담당자에게 같은 내용을 보내는 알림.
+ * message 는 메시지를 만들 원본 알림이며(수신 이메일은 쓰지 않는다), 메시지는 한 번만 만들어 모든 담당자에게 저장한다.
+ */
+@Getter
+public class ManagerBroadcastEvent extends ApplicationEvent {
+    private final NotificationEvent message;
+
+    public ManagerBroadcastEvent(Object source, NotificationEvent message) {
+        super(source);
+        this.message = message;
+    }
+}
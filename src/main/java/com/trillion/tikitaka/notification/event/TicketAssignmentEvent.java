@@ -0,0 +1,28 @@
+package com.trillion.tikitaka.notification.event;
+
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 자동 배정 알림. 한 번의 배정 실행에서 같은 담당자에게 배정된 티켓을 모아 한 번만 알린다.
+ * 알림은 비동기로 만들어지므로 엔티티 대신 필요한 값만 담는다.
+ */
+@Getter
+public class TicketAssignmentEvent extends ApplicationEvent implements NotificationEvent {
+    private final String email;
+    private final List<AssignedTicket> tickets;
+    private final NotificationType type;
+
+    public TicketAssignmentEvent(Object source, String email, List<AssignedTicket> tickets) {
+        super(source);
+        this.email = email;
+        this.tickets = List.copyOf(tickets);
+        this.type = NotificationType.TICKET_ASSIGNMENT;
+    }
+
+    public record AssignedTicket(Long ticketId, String title) {
+    }
+}
@@ -2,6 +2,37 @@ package com.trillion.tikitaka.notification.infrastructure;
 
 import com.trillion.tikitaka.notification.domain.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 전송할 차례가 된 알림을 잠근다. 시각은 엔티티에서 정한 값과 맞추기 위해 애플리케이션 시각으로 비교한다.
+    // 다른 워커가 잠근 행은 기다리지 않고 건너뛰므로 워커 여러 개가 서로 다른 알림을 가져간다.
+    @Query(value = """
+            SELECT * FROM notifications
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Notification> findDueForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 아직 전송 워커가 가져가지 않은(attempts = 0) 같은 수신자/묶음 키의 알림. 워커가 가져가는 중이면 끝날 때까지 기다린 뒤 다시 확인한다.
+    @Query(value = """
+            SELECT * FROM notifications
+            WHERE recipient_email = :email
+              AND digest_key = :digestKey
+              AND status = 'PENDING'
+              AND attempts = 0
+            ORDER BY id DESC
+            LIMIT 1
+            FOR UPDATE
+            """, nativeQuery = true)
+    Optional<Notification> findDigestTargetForUpdate(@Param("email") String email, @Param("digestKey") String digestKey);
 }
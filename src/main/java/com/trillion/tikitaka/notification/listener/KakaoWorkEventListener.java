@@ -2,39 +2,74 @@ package com.trillion.tikitaka.notification.listener;
 
 import com.trillion.tikitaka.notification.application.KakaoWorkMessageBuilder;
 import com.trillion.tikitaka.notification.application.KakaoWorkMessageBuilderDispatcher;
-import com.trillion.tikitaka.notification.application.KakaoWorkNotificationService;
-import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.application.NotificationOutboxService;
+import com.trillion.tikitaka.notification.application.TicketUpdateDigester;
 import com.trillion.tikitaka.notification.dto.response.Block;
+import com.trillion.tikitaka.notification.event.ManagerBroadcastEvent;
 import com.trillion.tikitaka.notification.event.NotificationEvent;
+import com.trillion.tikitaka.notification.event.TicketUpdateEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 
+/**
+ * 알림 이벤트를 outbox 에 저장한다. 커밋 직전에 같은 트랜잭션에서 저장하므로,
+ * 티켓/댓글 변경이 롤백되면 알림도 저장되지 않고 커밋되면 알림이 함께 남는다. 전송은 NotificationOutboxRelay 가 한다.
+ * 트랜잭션 밖에서 발행된 이벤트는 바로 저장한다.
+ * 전체 담당자 알림(ManagerBroadcastEvent)은 메시지를 한 번만 만들어 담당자 수만큼 저장한다.
+ * 티켓 수정 알림은 TicketUpdateDigester 가 수신자/티켓별로 모아 한 메시지로 저장한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KakaoWorkEventListener {
 
-    private final KakaoWorkNotificationService notificationService;
+    private final NotificationOutboxService outboxService;
     private final KakaoWorkMessageBuilderDispatcher builderDispatcher;
+    private final TicketUpdateDigester ticketUpdateDigester;
 
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleKakaoWorkNotificationEvent(NotificationEvent event) {
         log.info("[알림 요청 이벤트 수신] 이메일: {}, 알림 유형: {}", event.getEmail(), event.getType());
-        String email = event.getEmail();
-        NotificationType type = event.getType();
 
-        KakaoWorkMessageBuilder<NotificationEvent> builder = builderDispatcher.getBuilder(event);
+        if (event instanceof TicketUpdateEvent updateEvent && updateEvent.getEmail() != null) {
+            ticketUpdateDigester.enqueue(updateEvent);
+            return;
+        }
 
-        List<Block> blocks = builder.buildMessage(event);
-        String previewText = builder.buildPreviewText(event);
+        Message message = buildMessage(event);
+        if (message == null) return;
 
-        notificationService.sendKakaoWorkNotification(email, previewText, blocks, type)
-                .subscribe();
+        outboxService.enqueue(event.getEmail(), event.getType(), message.previewText(), message.blocks());
+    }
+
+    // 수신자마다 같은 메시지이므로 한 번만 만들어 전체 담당자 알림으로 저장한다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleManagerBroadcastEvent(ManagerBroadcastEvent event) {
+        NotificationEvent source = event.getMessage();
+        log.info("[알림 요청 이벤트 수신] 전체 담당자, 알림 유형: {}", source.getType());
+
+        Message message = buildMessage(source);
+        if (message == null) return;
+
+        outboxService.enqueueToManagers(source.getType(), message.previewText(), message.blocks());
+    }
+
+    private Message buildMessage(NotificationEvent event) {
+        try {
+            KakaoWorkMessageBuilder<NotificationEvent> builder = builderDispatcher.getBuilder(event);
+            return new Message(builder.buildMessage(event), builder.buildPreviewText(event));
+        } catch (RuntimeException e) {
+            // 메시지를 만들지 못했다고 티켓/댓글 변경까지 롤백하지는 않는다.
+            log.error("[알림 메시지 생성 실패] 이메일: {}, 알림 유형: {}", event.getEmail(), event.getType(), e);
+            return null;
+        }
+    }
+
+    private record Message(List<Block> blocks, String previewText) {
     }
 }
@@ -14,6 +14,7 @@ import com.trillion.tikitaka.registration.exception.DuplicatedUsernameException;
 import com.trillion.tikitaka.registration.exception.RegistrationAlreadyProcessedException;
 import com.trillion.tikitaka.registration.exception.RegistrationNotFoundException;
 import com.trillion.tikitaka.registration.infrastructure.RegistrationRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.infrastructure.UserRepository;
@@ -38,6 +39,7 @@ public class RegistrationService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final ManagerDirectory managerDirectory;
 
     @Transactional
     public void createRegistration(RegistrationRequest registrationRequest) {
@@ -152,6 +154,7 @@ public class RegistrationService {
                 .role(role)
                 .build();
         userRepository.save(user);
+        if (role == Role.MANAGER) managerDirectory.invalidate();
 
         return rawPassword;
     }
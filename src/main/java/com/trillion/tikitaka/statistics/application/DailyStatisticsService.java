@@ -1,100 +1,90 @@
 package com.trillion.tikitaka.statistics.application;
 
-import com.trillion.tikitaka.category.domain.Category;
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
 import com.trillion.tikitaka.statistics.dto.AllDoneUser;
+import com.trillion.tikitaka.statistics.dto.CategoryTicketCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
 import com.trillion.tikitaka.statistics.dto.response.DailyCategoryStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.DailyStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.DailyTypeStatisticsResponse;
-import com.trillion.tikitaka.ticket.domain.Ticket;
-import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
 import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
-import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.dto.response.UserResponse;
-import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DailyStatisticsService {
 
-    private final TicketRepository ticketRepository;
-    private final UserRepository userRepository;
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
+    private final ManagerDirectory managerDirectory;
     private final TicketTypeRepository ticketTypeRepository;
 
 
     public DailyStatisticsResponse getDailySummary() {
-        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfToday = startOfToday.plusDays(1);
-
-        int createdTickets = ticketRepository.countCreatedToday(startOfToday, endOfToday);
-        int inProgressTickets = ticketRepository.countInProgressToday(
-                startOfToday, endOfToday, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW
-        );
-        int doneTickets = ticketRepository.countDoneToday(
-                startOfToday, endOfToday, Ticket.Status.DONE
-        );
-
-        return new DailyStatisticsResponse(createdTickets, inProgressTickets, doneTickets);
+        LocalDate today = LocalDate.now();
+
+        DailyTicketStatsCount total = dailyTicketStatsRepository.sumBetween(today, today.plusDays(1), null);
+
+        return new DailyStatisticsResponse(total.getCreated(), total.getInProgress(), total.getDone());
     }
 
 
     public List<AllDoneUser> getDailyManagerSummary() {
-        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfToday = startOfToday.plusDays(1);
+        LocalDate today = LocalDate.now();
 
-        List<UserResponse> users = userRepository.getAllUsers();
+        // 담당자 수와 관계없이 담당자 목록(캐시) 1회, 담당자별 집계 1회만 조회한다.
+        List<UserResponse> managers = managerDirectory.getManagers();
+        Map<Long, DailyTicketStatsCount> countsByManager = dailyTicketStatsRepository
+                .sumGroupByManager(today, today.plusDays(1)).stream()
+                .collect(Collectors.toMap(DailyTicketStatsCount::getManagerId, Function.identity()));
 
         List<AllDoneUser> managerStats = new ArrayList<>();
 
-        for (UserResponse userResponse : users) {
-            if (userResponse.getRole() == Role.MANAGER) {
-                int inProgressTickets = ticketRepository.countByManagerAndStatus(
-                        userResponse.getUserId(), startOfToday, endOfToday,
-                        List.of(Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW)
-                );
-
-                int doneTickets = ticketRepository.countByManagerAndStatus(
-                        userResponse.getUserId(), startOfToday, endOfToday,
-                        List.of(Ticket.Status.DONE)
-                );
-
-                AllDoneUser stats = new AllDoneUser();
-                stats.updateAllUser(
-                        userResponse.getUsername(),
-                        userResponse.getEmail(),
-                        userResponse.getUserId(),
-                        userResponse.getProfileImageUrl(),
-                        doneTickets,
-                        inProgressTickets
-                );
-
-                managerStats.add(stats);
-            }
+        for (UserResponse manager : managers) {
+            DailyTicketStatsCount counts = countsByManager.get(manager.getUserId());
+
+            AllDoneUser stats = new AllDoneUser();
+            stats.updateAllUser(
+                    manager.getUsername(),
+                    manager.getEmail(),
+                    manager.getUserId(),
+                    manager.getProfileImageUrl(),
+                    (counts != null) ? counts.getDone() : 0,
+                    (counts != null) ? counts.getInProgress() : 0
+            );
+
+            managerStats.add(stats);
         }
         return managerStats;
     }
 
 
     public List<DailyTypeStatisticsResponse> getDailyTypeSummary() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
+        LocalDate today = LocalDate.now();
 
         List<TicketType> ticketTypes = ticketTypeRepository.findAll();
+        Map<Long, DailyTicketStatsCount> countsByType = dailyTicketStatsRepository
+                .sumGroupByType(today, today.plusDays(1)).stream()
+                .collect(Collectors.toMap(DailyTicketStatsCount::getTypeId, Function.identity()));
 
         return ticketTypes.stream()
                 .map(ticketType -> {
-                    int count = ticketRepository.countByCreatedAtBetweenAndTicketType(startOfDay, endOfDay, ticketType);
+                    DailyTicketStatsCount counts = countsByType.get(ticketType.getId());
+                    int count = (counts != null) ? counts.getCreated() : 0;
                     return new DailyTypeStatisticsResponse(ticketType.getId(), ticketType.getName(), count);
                 })
                 .collect(Collectors.toList());
@@ -102,37 +92,49 @@ public class DailyStatisticsService {
 
 
     public List<DailyCategoryStatisticsResponse> getDailyCategorySummary() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-
-        List<Object[]> firstCategoryStats = ticketRepository.countByFirstCategoryToday(startOfDay, endOfDay);
-        List<DailyCategoryStatisticsResponse> responseList = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        return getCategorySummary(today, today);
+    }
 
-        for (Object[] row : firstCategoryStats) {
-            Category firstCategory = (Category) row[0];
-            int firstCategoryTicketCount = ((Number) row[1]).intValue();
+    /**
+     * [startDate, endDate] 기간의 1차/2차 카테고리별 생성 건수. 날짜를 생략하면 금일 기준이다.
+     */
+    public List<DailyCategoryStatisticsResponse> getCategorySummary(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = (endDate != null) ? endDate : LocalDate.now();
+        LocalDate start = (startDate != null) ? startDate : end;
+        if (start.isAfter(end)) {
+            log.error("[카테고리별 통계 조회] 시작일이 종료일보다 늦음: {} ~ {}", start, end);
+            throw new CustomException(ErrorCode.INVALID_STATISTICS_PERIOD);
+        }
 
-            List<Object[]> secondCategoryStats = ticketRepository.countBySecondCategoryToday(startOfDay, endOfDay, firstCategory);
+        // (1차, 2차) 카테고리 순으로 정렬되어 있으므로 1차 카테고리가 바뀔 때마다 트리 노드를 닫는다.
+        List<CategoryTicketCount> rows = dailyTicketStatsRepository.countCreatedByCategory(start, end.plusDays(1));
 
-            List<DailyCategoryStatisticsResponse.SecondCategoryInfo> secondCategories = secondCategoryStats.stream()
-                    .map(subRow -> new DailyCategoryStatisticsResponse.SecondCategoryInfo(
-                            ((Category) subRow[0]).getId(),
-                            ((Category) subRow[0]).getName(),
-                            ((Number) subRow[1]).intValue()
-                    ))
-                    .collect(Collectors.toList());
+        List<DailyCategoryStatisticsResponse> responseList = new ArrayList<>();
+        CategoryTicketCount first = null;
+        List<DailyCategoryStatisticsResponse.SecondCategoryInfo> secondCategories = new ArrayList<>();
+        int firstCategoryTicketCount = 0;
+
+        for (CategoryTicketCount row : rows) {
+            if (first != null && !first.getFirstCategoryId().equals(row.getFirstCategoryId())) {
+                responseList.add(new DailyCategoryStatisticsResponse(
+                        first.getFirstCategoryId(), first.getFirstCategoryName(), secondCategories, firstCategoryTicketCount));
+                secondCategories = new ArrayList<>();
+                firstCategoryTicketCount = 0;
+            }
+            first = row;
+            firstCategoryTicketCount += row.getCreated();
 
+            if (row.getSecondCategoryName() != null) {
+                secondCategories.add(new DailyCategoryStatisticsResponse.SecondCategoryInfo(
+                        row.getSecondCategoryId(), row.getSecondCategoryName(), row.getCreated()));
+            }
+        }
+        if (first != null) {
             responseList.add(new DailyCategoryStatisticsResponse(
-                    firstCategory.getId(),
-                    firstCategory.getName(),
-                    secondCategories,
-                    firstCategoryTicketCount
-            ));
+                    first.getFirstCategoryId(), first.getFirstCategoryName(), secondCategories, firstCategoryTicketCount));
         }
 
         return responseList;
     }
-
-
 }
-
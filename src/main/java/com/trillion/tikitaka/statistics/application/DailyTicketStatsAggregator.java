@@ -0,0 +1,117 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.statistics.domain.DailyTicketStats;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간 단위 티켓 처리 현황(daily_ticket_stats) 증분 집계기.
+ * 변경 전 스냅샷의 기여분을 빼고 변경 후 스냅샷의 기여분을 더한다.
+ *
+ * 기여 규칙
+ * - 생성, 긴급: 생성 시각
+ * - 완료(DONE): 완료 시각(doneAt)
+ * - 처리 중(IN_PROGRESS, REVIEW): 최초 처리 시작 시각(firstInProgressAt)
+ * 진행률 갱신처럼 변경 이벤트 없이 updated_at 만 바뀌는 쓰기가 있으므로, 마지막 수정 시각이 아닌 처리 이력 시각으로 나눈다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyTicketStatsAggregator {
+
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @Transactional
+    public void applyChange(TicketSnapshot before, TicketSnapshot after) {
+        Map<BucketKey, Counts> deltas = new TreeMap<>();
+        contribute(deltas, before, -1);
+        contribute(deltas, after, 1);
+
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) return;
+            dailyTicketStatsRepository.addCounts(key.statDate(), key.statHour(), key.managerId(), key.typeId(),
+                    key.firstCategoryId(), key.secondCategoryId(),
+                    delta.created, delta.done, delta.inProgress, delta.urgent);
+        });
+    }
+
+    /**
+     * 해당 날짜의 집계 행을 티켓 테이블에서 다시 만든다. 여러 번 실행해도 결과가 같다.
+     */
+    @Transactional
+    public int rebuild(LocalDate date) {
+        dailyTicketStatsRepository.deleteByStatDateRange(date, date.plusDays(1));
+        int written = dailyTicketStatsRepository.insertFromTickets(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        log.info("[일간 통계 재집계] {}, 갱신된 집계 행 수: {}", date, written);
+        return written;
+    }
+
+    private void contribute(Map<BucketKey, Counts> target, TicketSnapshot snapshot, int sign) {
+        if (snapshot == null) return;
+
+        if (snapshot.createdAt() != null) {
+            Counts counts = target.computeIfAbsent(BucketKey.of(snapshot.createdAt(), snapshot), k -> new Counts());
+            counts.created += sign;
+            if (snapshot.urgent()) counts.urgent += sign;
+        }
+
+        boolean done = snapshot.status() == Ticket.Status.DONE;
+        boolean inProgress = snapshot.status() == Ticket.Status.IN_PROGRESS || snapshot.status() == Ticket.Status.REVIEW;
+        if (done && snapshot.doneAt() != null) {
+            target.computeIfAbsent(BucketKey.of(snapshot.doneAt(), snapshot), k -> new Counts()).done += sign;
+        }
+        if (inProgress && snapshot.firstInProgressAt() != null) {
+            target.computeIfAbsent(BucketKey.of(snapshot.firstInProgressAt(), snapshot), k -> new Counts()).inProgress += sign;
+        }
+    }
+
+    private record BucketKey(LocalDate statDate, int statHour, long managerId, long typeId,
+                             long firstCategoryId, long secondCategoryId) implements Comparable<BucketKey> {
+
+        private static final Comparator<BucketKey> ORDER = Comparator
+                .comparing(BucketKey::statDate)
+                .thenComparingInt(BucketKey::statHour)
+                .thenComparingLong(BucketKey::managerId)
+                .thenComparingLong(BucketKey::typeId)
+                .thenComparingLong(BucketKey::firstCategoryId)
+                .thenComparingLong(BucketKey::secondCategoryId);
+
+        static BucketKey of(LocalDateTime at, TicketSnapshot snapshot) {
+            return new BucketKey(at.toLocalDate(), at.getHour(),
+                    orNone(snapshot.managerId()), orNone(snapshot.ticketTypeId()),
+                    orNone(snapshot.firstCategoryId()), orNone(snapshot.secondCategoryId()));
+        }
+
+        private static long orNone(Long id) {
+            return (id != null) ? id : DailyTicketStats.NONE;
+        }
+
+        // 동시 갱신 시 교착 상태가 생기지 않도록 항상 같은 순서로 갱신한다.
+        @Override
+        public int compareTo(BucketKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static class Counts {
+        private int created;
+        private int done;
+        private int inProgress;
+        private int urgent;
+
+        boolean isZero() {
+            return created == 0 && done == 0 && inProgress == 0 && urgent == 0;
+        }
+    }
+}
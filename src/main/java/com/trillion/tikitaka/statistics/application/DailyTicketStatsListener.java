@@ -0,0 +1,26 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 티켓 변경이 커밋된 뒤 별도 트랜잭션에서 시간 단위 처리 현황 집계에 반영한다.
+ * 같은 시간대의 집계 행을 여러 티켓 트랜잭션이 끝까지 잠그지 않도록 커밋 후에 반영하고, 누락분은 일별 재집계로 복구한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyTicketStatsListener {
+
+    private final DailyTicketStatsAggregator dailyTicketStatsAggregator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleTicketChange(TicketChangeEvent event) {
+        dailyTicketStatsAggregator.applyChange(event.getBefore(), event.getAfter());
+    }
+}
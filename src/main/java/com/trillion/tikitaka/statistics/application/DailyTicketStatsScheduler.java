@@ -0,0 +1,37 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.scheduling.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyTicketStatsScheduler {
+
+    static final String JOB_NAME = "daily-ticket-stats-rebuild";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+    private final DailyTicketStatsAggregator dailyTicketStatsAggregator;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    /**
+     * 매일 00:20 에 실행
+     * - 처리 현황 집계는 티켓 변경 시 증분 반영되므로, 여기서는 누락분 보정을 위해 전날을 재집계한다.
+     */
+    @Scheduled(cron = "0 20 0 * * ?")
+    public void rebuildYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () -> {
+            log.info("[스케줄러] 일간 통계 재집계 시작: {}", yesterday);
+            dailyTicketStatsAggregator.rebuild(yesterday);
+            log.info("[스케줄러] 일간 통계 재집계 완료: {}", yesterday);
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.statistics.domain.DurationSketch;
+import com.trillion.tikitaka.statistics.domain.MonthlyDurationHistogram;
+import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.dto.response.DurationStatisticsResponse;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyDurationHistogramRepository;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 월별 처리 기간(완료/응답) 통계. 평균은 월별 통계 행의 합계/건수를, 분위수는 구간별 건수를 기간 전체로 합쳐 계산한다.
+ * 티켓 테이블을 다시 읽지 않으므로 조회 기간이 길어도 월 수 x 구간 수 만큼만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DurationStatisticsService {
+
+    private final MonthlyStatisticsRepository statisticsRepository;
+    private final MonthlyDurationHistogramRepository histogramRepository;
+
+    /**
+     * [startMonth, endMonth] 기간의 처리 기간 통계. 월을 생략하면 당월이며, 카테고리/담당자/유형 중 하나로 좁힐 수 있다.
+     */
+    public DurationStatisticsResponse getDurations(YearMonth startMonth, YearMonth endMonth,
+                                                   Long categoryId, Long userId, Long typeId) {
+        YearMonth end = (endMonth != null) ? endMonth : YearMonth.now();
+        YearMonth start = (startMonth != null) ? startMonth : end;
+        String dimensionKey = MonthlyStatistics.dimensionKeyOf(categoryId, userId, typeId);
+        log.info("[처리 기간 통계 조회] 기간: {} ~ {}, 집계 차원: {}", start, end, dimensionKey);
+
+        if (start.isAfter(end)) {
+            log.error("[처리 기간 통계 조회] 시작월이 종료월보다 늦음: {} ~ {}", start, end);
+            throw new CustomException(ErrorCode.INVALID_STATISTICS_PERIOD);
+        }
+
+        int fromMonth = monthIndexOf(start);
+        int toMonth = monthIndexOf(end);
+
+        Map<MonthlyDurationHistogram.Metric, DurationSketch> sketches = new EnumMap<>(MonthlyDurationHistogram.Metric.class);
+        for (MonthlyDurationHistogram.Metric metric : MonthlyDurationHistogram.Metric.values()) {
+            sketches.put(metric, new DurationSketch());
+        }
+        for (MonthlyDurationHistogramRepository.BucketCount row : histogramRepository.sumBuckets(dimensionKey, fromMonth, toMonth)) {
+            sketches.get(row.getMetric()).addToBucket(row.getBucket(), row.getTicketCount());
+        }
+
+        MonthlyStatisticsRepository.DurationTotal total = statisticsRepository.sumDurations(dimensionKey, fromMonth, toMonth);
+
+        return new DurationStatisticsResponse(start, end, dimensionKey,
+                summaryOf(total.getCompletionTimeSum(), total.getCompletionTimeCount(), sketches.get(MonthlyDurationHistogram.Metric.COMPLETION)),
+                summaryOf(total.getResponseTimeSum(), total.getResponseTimeCount(), sketches.get(MonthlyDurationHistogram.Metric.RESPONSE)));
+    }
+
+    private DurationStatisticsResponse.Summary summaryOf(Long sum, Long count, DurationSketch sketch) {
+        long total = (count != null) ? count : 0L;
+        float average = MonthlyStatistics.averageOf((sum != null) ? sum : 0L, total);
+        return new DurationStatisticsResponse.Summary(total, average, sketch.quantile(0.5), sketch.quantile(0.9));
+    }
+
+    // 저장소 조회 조건과 같은 (연 * 12 + 월) 값
+    private int monthIndexOf(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue();
+    }
+}
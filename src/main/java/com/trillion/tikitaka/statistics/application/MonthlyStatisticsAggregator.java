@@ -0,0 +1,314 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.statistics.domain.DurationSketch;
+import com.trillion.tikitaka.statistics.domain.MonthlyDurationHistogram;
+import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyDurationHistogramRepository;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 월별 통계(monthly_statistics) 증분 집계기.
+ * 티켓 하나가 각 통계 행에 기여하는 값을 스냅샷으로부터 계산하고,
+ * 변경 전/후 기여분의 차이만 해당 행에 더한다. 전체 재집계도 같은 기여도 계산을 사용하므로
+ * 증분 반영 결과와 재집계 결과는 항상 같다.
+ *
+ * 기여 규칙 (기존 월별 통계 쿼리와 동일)
+ * - 생성: 생성월, 전체/가장 하위 카테고리/담당자/유형
+ * - 긴급, 처리 중: 생성월, 전체/1차 카테고리/담당자/유형
+ * - 완료, 완료 기간(생성 ~ 완료): 완료 상태 티켓의 완료월, 전체/1차 카테고리/담당자/유형
+ * - 응답 기간(생성 ~ 최초 처리 시작): 처리 시작월, 전체/1차 카테고리/담당자/유형
+ * 처리 기간은 합계/건수와 함께 구간별 건수(DurationSketch)로도 반영해 분위수를 계산할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyStatisticsAggregator {
+
+    private final MonthlyStatisticsRepository statisticsRepository;
+    private final MonthlyDurationHistogramRepository histogramRepository;
+    private final TicketRepository ticketRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+
+    @Transactional
+    public void applyChange(TicketSnapshot before, TicketSnapshot after) {
+        Map<StatisticsKey, Counts> deltas = new TreeMap<>();
+        contribute(deltas, before, -1);
+        contribute(deltas, after, 1);
+
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) return;
+            statisticsRepository.addDelta(key.year(), key.month(), key.dimensionKey(),
+                    key.categoryId(), key.userId(), key.typeId(),
+                    delta.created, delta.completed, delta.urgent, delta.inProgress,
+                    delta.completionTimeSum, (int) delta.completionTimes.getCount(),
+                    delta.responseTimeSum, (int) delta.responseTimes.getCount());
+            addBuckets(key, delta);
+        });
+    }
+
+    /**
+     * 해당 월의 통계를 티켓 테이블에서 다시 계산해 덮어쓴다. 여러 번 실행해도 결과가 같다.
+     * 증분 반영이 누락된 경우의 복구용이며, 건수는 기준별 GROUP BY 조회 결과를 그대로 사용하고
+     * 처리 기간은 해당 월에 완료/처리 시작된 티켓에 증분 반영과 같은 기여도 계산을 적용한다.
+     */
+    @Transactional
+    public int rebuild(int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        LocalDateTime start = target.atDay(1).atStartOfDay();
+        LocalDateTime end = target.plusMonths(1).atDay(1).atStartOfDay();
+
+        Map<String, Counts> expectedByDimension = new HashMap<>();
+        Map<String, StatisticsKey> keysByDimension = new HashMap<>();
+        countByDimension(target).forEach((key, counts) -> {
+            expectedByDimension.put(key.dimensionKey(), counts);
+            keysByDimension.put(key.dimensionKey(), key);
+        });
+
+        Map<StatisticsKey, Counts> durations = new TreeMap<>();
+        for (TicketSnapshot snapshot : ticketRepository.findDurationSnapshots(start, end)) {
+            contributeDurations(durations, snapshot, 1);
+        }
+        durations.forEach((key, duration) -> {
+            if (key.year() != year || key.month() != month) return;
+            keysByDimension.put(key.dimensionKey(), key);
+            expectedByDimension.computeIfAbsent(key.dimensionKey(), k -> new Counts()).addDurations(duration);
+        });
+        histogramRepository.deleteMonth(year, month);
+
+        int written = 0;
+        for (MonthlyStatistics statistics : statisticsRepository.findAllByStatYearAndStatMonth(year, month)) {
+            Counts counts = expectedByDimension.remove(statistics.getDimensionKey());
+            if (counts == null) counts = new Counts();
+            statistics.updateStatistics(counts.created, counts.completed, counts.urgent, counts.inProgress, counts.completionRatio());
+            statistics.updateDurations(counts.completionTimeSum, (int) counts.completionTimes.getCount(),
+                    counts.responseTimeSum, (int) counts.responseTimes.getCount());
+            StatisticsKey key = keysByDimension.get(statistics.getDimensionKey());
+            if (key != null) addBuckets(key, counts);
+            written++;
+        }
+
+        for (Map.Entry<String, Counts> missing : expectedByDimension.entrySet()) {
+            StatisticsKey key = keysByDimension.get(missing.getKey());
+            Counts counts = missing.getValue();
+            statisticsRepository.save(MonthlyStatistics.builder()
+                    .statYear(year)
+                    .statMonth(month)
+                    .dimensionKey(key.dimensionKey())
+                    .category(key.categoryId() != null ? categoryRepository.getReferenceById(key.categoryId()) : null)
+                    .user(key.userId() != null ? userRepository.getReferenceById(key.userId()) : null)
+                    .type(key.typeId() != null ? ticketTypeRepository.getReferenceById(key.typeId()) : null)
+                    .totalCreated(counts.created)
+                    .totalCompleted(counts.completed)
+                    .urgentTickets(counts.urgent)
+                    .inProgressCount(counts.inProgress)
+                    .completionTimeSum(counts.completionTimeSum)
+                    .completionTimeCount((int) counts.completionTimes.getCount())
+                    .averageCompletionTime(MonthlyStatistics.averageOf(counts.completionTimeSum, counts.completionTimes.getCount()))
+                    .responseTimeSum(counts.responseTimeSum)
+                    .responseTimeCount((int) counts.responseTimes.getCount())
+                    .averageResponseTime(MonthlyStatistics.averageOf(counts.responseTimeSum, counts.responseTimes.getCount()))
+                    .completionRatio(counts.completionRatio())
+                    .lastUpdatedAt(LocalDateTime.now())
+                    .build());
+            addBuckets(key, counts);
+            written++;
+        }
+
+        log.info("[월별 통계 재집계] {}-{}, 갱신된 통계 행 수: {}", year, month, written);
+        return written;
+    }
+
+    /**
+     * 해당 월의 건수를 통계 행 없이 티켓 테이블에서 바로 집계해 집계 차원 키별로 반환한다. (재집계와 같은 규칙)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, MonthlyTicketCount> countMonth(int year, int month) {
+        Map<String, MonthlyTicketCount> result = new HashMap<>();
+        countByDimension(YearMonth.of(year, month)).forEach((key, counts) -> result.put(key.dimensionKey(),
+                new MonthlyTicketCount(key.dimensionId(), counts.created, counts.completed, counts.urgent, counts.inProgress)));
+        return result;
+    }
+
+    // 기준별 GROUP BY 조회 결과를 통계 행 단위로 합친다. 카테고리 행은 생성 건수만 가장 하위 카테고리 기준, 나머지는 1차 카테고리 기준이다.
+    private Map<StatisticsKey, Counts> countByDimension(YearMonth target) {
+        LocalDateTime start = target.atDay(1).atStartOfDay();
+        LocalDateTime end = target.plusMonths(1).atDay(1).atStartOfDay();
+
+        Map<StatisticsKey, Counts> countsByKey = new TreeMap<>();
+        for (MonthlyTicketCount.Dimension dimension : MonthlyTicketCount.Dimension.values()) {
+            for (MonthlyTicketCount row : ticketRepository.countMonthlyTickets(dimension, start, end)) {
+                boolean leaf = (dimension == MonthlyTicketCount.Dimension.LEAF_CATEGORY);
+                boolean first = (dimension == MonthlyTicketCount.Dimension.FIRST_CATEGORY);
+
+                int created = first ? 0 : row.getCreated();
+                int completed = leaf ? 0 : row.getCompleted();
+                int urgent = leaf ? 0 : row.getUrgent();
+                int inProgress = leaf ? 0 : row.getInProgress();
+                if (created == 0 && completed == 0 && urgent == 0 && inProgress == 0) continue;
+
+                Counts counts = countsByKey.computeIfAbsent(keyOf(target, dimension, row.getDimensionId()), k -> new Counts());
+                counts.created += created;
+                counts.completed += completed;
+                counts.urgent += urgent;
+                counts.inProgress += inProgress;
+            }
+        }
+        return countsByKey;
+    }
+
+    private void contribute(Map<StatisticsKey, Counts> target, TicketSnapshot snapshot, int sign) {
+        if (snapshot == null || snapshot.createdAt() == null) return;
+
+        YearMonth createdMonth = YearMonth.from(snapshot.createdAt());
+        Long leafCategoryId = (snapshot.secondCategoryId() != null) ? snapshot.secondCategoryId() : snapshot.firstCategoryId();
+
+        for (StatisticsKey key : keysOf(createdMonth, leafCategoryId, snapshot)) {
+            target.computeIfAbsent(key, k -> new Counts()).created += sign;
+        }
+
+        boolean urgent = snapshot.urgent();
+        boolean inProgress = snapshot.status() == Ticket.Status.IN_PROGRESS;
+        if (urgent || inProgress) {
+            for (StatisticsKey key : keysOf(createdMonth, snapshot.firstCategoryId(), snapshot)) {
+                Counts counts = target.computeIfAbsent(key, k -> new Counts());
+                if (urgent) counts.urgent += sign;
+                if (inProgress) counts.inProgress += sign;
+            }
+        }
+
+        if (snapshot.status() == Ticket.Status.DONE && snapshot.doneAt() != null) {
+            for (StatisticsKey key : keysOf(YearMonth.from(snapshot.doneAt()), snapshot.firstCategoryId(), snapshot)) {
+                target.computeIfAbsent(key, k -> new Counts()).completed += sign;
+            }
+        }
+
+        contributeDurations(target, snapshot, sign);
+    }
+
+    private void contributeDurations(Map<StatisticsKey, Counts> target, TicketSnapshot snapshot, int sign) {
+        if (snapshot.createdAt() == null) return;
+
+        if (snapshot.status() == Ticket.Status.DONE && snapshot.doneAt() != null) {
+            long minutes = minutesBetween(snapshot.createdAt(), snapshot.doneAt());
+            for (StatisticsKey key : keysOf(YearMonth.from(snapshot.doneAt()), snapshot.firstCategoryId(), snapshot)) {
+                Counts counts = target.computeIfAbsent(key, k -> new Counts());
+                counts.completionTimeSum += sign * minutes;
+                counts.completionTimes.addToBucket(DurationSketch.bucketOf(minutes), sign);
+            }
+        }
+
+        if (snapshot.firstInProgressAt() != null) {
+            long minutes = minutesBetween(snapshot.createdAt(), snapshot.firstInProgressAt());
+            for (StatisticsKey key : keysOf(YearMonth.from(snapshot.firstInProgressAt()), snapshot.firstCategoryId(), snapshot)) {
+                Counts counts = target.computeIfAbsent(key, k -> new Counts());
+                counts.responseTimeSum += sign * minutes;
+                counts.responseTimes.addToBucket(DurationSketch.bucketOf(minutes), sign);
+            }
+        }
+    }
+
+    private long minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).toMinutes());
+    }
+
+    private void addBuckets(StatisticsKey key, Counts counts) {
+        addBuckets(key, MonthlyDurationHistogram.Metric.COMPLETION, counts.completionTimes);
+        addBuckets(key, MonthlyDurationHistogram.Metric.RESPONSE, counts.responseTimes);
+    }
+
+    // 구간 순서대로 반영해 동시 갱신 시에도 같은 순서로 잠근다.
+    private void addBuckets(StatisticsKey key, MonthlyDurationHistogram.Metric metric, DurationSketch sketch) {
+        sketch.getBucketCounts().forEach((bucket, count) -> histogramRepository.addCount(
+                key.year(), key.month(), key.dimensionKey(), metric.name(), bucket, count));
+    }
+
+    private StatisticsKey keyOf(YearMonth month, MonthlyTicketCount.Dimension dimension, Long dimensionId) {
+        return switch (dimension) {
+            case ALL -> StatisticsKey.of(month, null, null, null);
+            case FIRST_CATEGORY, LEAF_CATEGORY -> StatisticsKey.of(month, dimensionId, null, null);
+            case MANAGER -> StatisticsKey.of(month, null, dimensionId, null);
+            case TYPE -> StatisticsKey.of(month, null, null, dimensionId);
+        };
+    }
+
+    private List<StatisticsKey> keysOf(YearMonth month, Long categoryId, TicketSnapshot snapshot) {
+        List<StatisticsKey> keys = new ArrayList<>(4);
+        keys.add(StatisticsKey.of(month, null, null, null));
+        if (categoryId != null) keys.add(StatisticsKey.of(month, categoryId, null, null));
+        if (snapshot.managerId() != null) keys.add(StatisticsKey.of(month, null, snapshot.managerId(), null));
+        if (snapshot.ticketTypeId() != null) keys.add(StatisticsKey.of(month, null, null, snapshot.ticketTypeId()));
+        return keys;
+    }
+
+    private record StatisticsKey(int year, int month, String dimensionKey, Long categoryId, Long userId, Long typeId)
+            implements Comparable<StatisticsKey> {
+
+        private static final Comparator<StatisticsKey> ORDER = Comparator
+                .comparingInt(StatisticsKey::year)
+                .thenComparingInt(StatisticsKey::month)
+                .thenComparing(StatisticsKey::dimensionKey);
+
+        Long dimensionId() {
+            if (categoryId != null) return categoryId;
+            if (userId != null) return userId;
+            return typeId;
+        }
+
+        static StatisticsKey of(YearMonth month, Long categoryId, Long userId, Long typeId) {
+            return new StatisticsKey(month.getYear(), month.getMonthValue(),
+                    MonthlyStatistics.dimensionKeyOf(categoryId, userId, typeId), categoryId, userId, typeId);
+        }
+
+        // 동시 갱신 시 교착 상태가 생기지 않도록 항상 같은 순서로 갱신한다.
+        @Override
+        public int compareTo(StatisticsKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static class Counts {
+        private int created;
+        private int completed;
+        private int urgent;
+        private int inProgress;
+        private long completionTimeSum;
+        private long responseTimeSum;
+        private final DurationSketch completionTimes = new DurationSketch();
+        private final DurationSketch responseTimes = new DurationSketch();
+
+        boolean isZero() {
+            return created == 0 && completed == 0 && urgent == 0 && inProgress == 0
+                    && completionTimeSum == 0 && responseTimeSum == 0
+                    && completionTimes.isEmpty() && responseTimes.isEmpty();
+        }
+
+        void addDurations(Counts other) {
+            completionTimeSum += other.completionTimeSum;
+            responseTimeSum += other.responseTimeSum;
+            completionTimes.merge(other.completionTimes);
+            responseTimes.merge(other.responseTimes);
+        }
+
+        float completionRatio() {
+            return (created <= 0) ? 0 : (completed * 100f / created);
+        }
+    }
+}
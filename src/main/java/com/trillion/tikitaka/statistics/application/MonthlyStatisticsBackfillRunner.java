@@ -0,0 +1,62 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.scheduling.ScheduledJobRunner;
+import com.trillion.tikitaka.global.scheduling.SchedulerRunHistory;
+import com.trillion.tikitaka.global.scheduling.SchedulerRunHistoryRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 기동 시 기존 모든 월의 월별 통계를 한 번 재집계한다. (V6 의 완료 시각 기준 완료 건수/처리 기간/처리 기간 분포 백필)
+ * 당일 스케줄러는 당월(1일에는 전월 포함)만 재집계하므로, 이 백필이 없으면 지난 월은 이전 기준 값으로 남고
+ * 이후 증분 반영이 새 기준 기여분을 빼면서 어긋난다.
+ * 성공 이력이 있으면 건너뛰고, 여러 인스턴스가 함께 기동해도 잠금을 얻은 한 인스턴스만 실행한다. 실패하면 다음 기동 때 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.monthly.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class MonthlyStatisticsBackfillRunner implements ApplicationRunner {
+
+    static final String JOB_NAME = "monthly-statistics-backfill";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(2);
+
+    private final MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+    private final MonthlyStatisticsReader monthlyStatisticsReader;
+    private final TicketRepository ticketRepository;
+    private final SchedulerRunHistoryRepository historyRepository;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (historyRepository.existsByLockNameAndStatus(JOB_NAME, SchedulerRunHistory.Status.SUCCEEDED)) return;
+
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST_FOR, Duration.ZERO, this::backfill);
+    }
+
+    private void backfill() {
+        LocalDateTime earliest = ticketRepository.findEarliestCreatedAtIncludingDeleted();
+        if (earliest == null) {
+            log.info("[월별 통계 백필] 티켓이 없어 건너뜀");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        int months = 0;
+        for (YearMonth month = YearMonth.from(earliest); !month.isAfter(current); month = month.plusMonths(1)) {
+            monthlyStatisticsAggregator.rebuild(month.getYear(), month.getMonthValue());
+            monthlyStatisticsReader.invalidate(month);
+            months++;
+        }
+        log.info("[월별 통계 백필] 완료, 재집계한 월 수: {} ({} ~ {})", months, YearMonth.from(earliest), current);
+    }
+}
@@ -0,0 +1,48 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+
+/**
+ * 티켓 생성/상태/카테고리/유형/담당자 변경이 커밋된 뒤 별도 트랜잭션에서 월별 통계에 반영한다.
+ * 월 전체(ALL) 행을 여러 티켓 트랜잭션이 끝까지 잠그지 않도록 커밋 후에 반영하고, 누락분은 월별 재집계로 복구한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyStatisticsListener {
+
+    private final MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+    private final MonthlyStatisticsReader monthlyStatisticsReader;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleTicketChange(TicketChangeEvent event) {
+        monthlyStatisticsAggregator.applyChange(event.getBefore(), event.getAfter());
+
+        // 커밋 전에 캐시를 비우면 다른 요청이 반영 전 값을 다시 캐시할 수 있으므로 반영이 커밋된 뒤에 비운다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(event.getBefore());
+                evict(event.getAfter());
+            }
+        });
+    }
+
+    private void evict(TicketSnapshot snapshot) {
+        if (snapshot == null) return;
+        if (snapshot.createdAt() != null) monthlyStatisticsReader.invalidate(YearMonth.from(snapshot.createdAt()));
+        if (snapshot.firstInProgressAt() != null) monthlyStatisticsReader.invalidate(YearMonth.from(snapshot.firstInProgressAt()));
+        if (snapshot.doneAt() != null) monthlyStatisticsReader.invalidate(YearMonth.from(snapshot.doneAt()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.cache.LocalCache;
+import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월별 통계 조회용. 티켓 테이블을 다시 집계하지 않고 monthly_statistics 행만 읽는다.
+ * 통계 행은 티켓 변경과 같은 트랜잭션에서 증분 반영되므로 당월도 별도의 보정 없이 최신이다.
+ * 지난 월의 행은 기동 시 백필(MonthlyStatisticsBackfillRunner)로 채워지며, 그 전이라 행이 없는 월은 티켓 테이블에서 바로 집계한다.
+ * 지난달 이전은 더 바뀌지 않으므로 길게, 당월은 짧게 캐시하고 티켓 변경/재집계 후에는 해당 월을 비운다.
+ */
+@Slf4j
+@Component
+public class MonthlyStatisticsReader {
+
+    private static final int MAX_CACHED_MONTHS = 36;
+
+    private final MonthlyStatisticsRepository statisticsRepository;
+    private final MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+    private final LocalCache<YearMonth, Map<String, MonthlyTicketCount>> currentMonthCache;
+    private final LocalCache<YearMonth, Map<String, MonthlyTicketCount>> closedMonthCache;
+
+    public MonthlyStatisticsReader(MonthlyStatisticsRepository statisticsRepository,
+                                   MonthlyStatisticsAggregator monthlyStatisticsAggregator,
+                                   @Value("${statistics.monthly.cache.current-ttl-seconds:10}") long currentTtlSeconds,
+                                   @Value("${statistics.monthly.cache.closed-ttl-seconds:3600}") long closedTtlSeconds) {
+        this.statisticsRepository = statisticsRepository;
+        this.monthlyStatisticsAggregator = monthlyStatisticsAggregator;
+        this.currentMonthCache = new LocalCache<>(Duration.ofSeconds(currentTtlSeconds), MAX_CACHED_MONTHS);
+        this.closedMonthCache = new LocalCache<>(Duration.ofSeconds(closedTtlSeconds), MAX_CACHED_MONTHS);
+    }
+
+    /**
+     * 해당 월의 통계 행을 집계 차원 키(ALL, CATEGORY:{id}, USER:{id}, TYPE:{id})별로 반환한다.
+     * 집계된 티켓이 없는 차원은 결과에 없다.
+     */
+    public Map<String, MonthlyTicketCount> read(int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        LocalCache<YearMonth, Map<String, MonthlyTicketCount>> cache = target.isBefore(YearMonth.now())
+                ? closedMonthCache
+                : currentMonthCache;
+        return cache.get(target, this::load);
+    }
+
+    public void invalidate(YearMonth month) {
+        currentMonthCache.invalidate(month);
+        closedMonthCache.invalidate(month);
+    }
+
+    private Map<String, MonthlyTicketCount> load(YearMonth month) {
+        List<MonthlyStatistics> rows = statisticsRepository.findAllByStatYearAndStatMonth(month.getYear(), month.getMonthValue());
+        if (rows.isEmpty()) {
+            Map<String, MonthlyTicketCount> live = monthlyStatisticsAggregator.countMonth(month.getYear(), month.getMonthValue());
+            log.debug("[월별 통계 조회] {}-{}, 통계 행이 없어 티켓 테이블에서 집계, 차원 수: {}",
+                    month.getYear(), month.getMonthValue(), live.size());
+            return Map.copyOf(live);
+        }
+
+        Map<String, MonthlyTicketCount> counts = new HashMap<>();
+        for (MonthlyStatistics statistics : rows) {
+            counts.put(statistics.getDimensionKey(), new MonthlyTicketCount(
+                    dimensionIdOf(statistics),
+                    statistics.getTotalCreated(),
+                    statistics.getTotalCompleted(),
+                    statistics.getUrgentTickets(),
+                    statistics.getInProgressCount()
+            ));
+        }
+        log.debug("[월별 통계 조회] {}-{}, 통계 행 수: {}", month.getYear(), month.getMonthValue(), counts.size());
+        return Map.copyOf(counts);
+    }
+
+    // 연관 엔티티 프록시의 ID 만 읽으므로 추가 조회가 발생하지 않는다.
+    private Long dimensionIdOf(MonthlyStatistics statistics) {
+        if (statistics.getCategory() != null) return statistics.getCategory().getId();
+        if (statistics.getUser() != null) return statistics.getUser().getId();
+        if (statistics.getType() != null) return statistics.getType().getId();
+        return null;
+    }
+}
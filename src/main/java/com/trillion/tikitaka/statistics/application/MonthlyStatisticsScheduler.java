@@ -1,33 +1,55 @@
 package com.trillion.tikitaka.statistics.application;
 
+import com.trillion.tikitaka.global.scheduling.ScheduledJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MonthlyStatisticsScheduler {
 
-    private final StatisticsService statisticsService;
+    static final String JOB_NAME = "monthly-statistics-rebuild";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+    private final MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+    private final MonthlyStatisticsReader monthlyStatisticsReader;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     /**
      * 매일 새벽(01:00)에 실행
-     * - 현재 연도와 월을 기준으로 월별 통계를 갱신
-     * - 예: 2025년 2월이면 2025/2
+     * - 월별 통계는 티켓 변경 시 증분 반영되므로, 여기서는 누락분 보정을 위해 당월을 재집계한다.
+     * - 매월 1일에는 전월 마지막 날의 변경분까지 반영되도록 전월도 재집계한다.
+     * - 월별로 잠금을 걸어, 여러 인스턴스가 동시에 깨어나면 월을 나눠 재집계한다.
      */
     @Scheduled(cron = "0 0 1 * * ?")
     public void updateMonthlyStatisticsAtMidnight() {
-        LocalDate now = LocalDate.now();
-        int year = now.getYear();
-        int month = now.getMonthValue();
+        LocalDate today = LocalDate.now();
+        YearMonth current = YearMonth.from(today);
+
+        List<String> months = new ArrayList<>(2);
+        if (today.getDayOfMonth() == 1) {
+            months.add(current.minusMonths(1).toString());
+        }
+        months.add(current.toString());
+
+        scheduledJobRunner.runPartitioned(JOB_NAME, months, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                month -> rebuild(YearMonth.parse(month)));
+    }
 
-        log.info("[스케줄러] 월별 통계 업데이트 시작: {}-{}", year, month);
-        statisticsService.updateMonthlyStatistics(year, month);
-        log.info("[스케줄러] 월별 통계 업데이트 완료: {}-{}", year, month);
+    private void rebuild(YearMonth month) {
+        log.info("[스케줄러] 월별 통계 재집계 시작: {}-{}", month.getYear(), month.getMonthValue());
+        monthlyStatisticsAggregator.rebuild(month.getYear(), month.getMonthValue());
+        monthlyStatisticsReader.invalidate(month);
+        log.info("[스케줄러] 월별 통계 재집계 완료: {}-{}", month.getYear(), month.getMonthValue());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.export.CsvWriter;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsExportRow;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일별 티켓 처리 현황을 CSV 로 내보낸다. 조회 결과를 모으지 않고 읽는 대로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsExporter {
+
+    private static final Object[] HEADER = {
+            "날짜", "담당자", "유형", "1차 카테고리", "2차 카테고리", "생성", "완료", "처리 중", "긴급"
+    };
+
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream out, LocalDate startDate, LocalDate endDate) throws IOException {
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow(HEADER);
+
+        long rowCount = 0;
+        try (Stream<DailyTicketStatsExportRow> rows = dailyTicketStatsRepository.streamDailyRows(startDate, endDate.plusDays(1))) {
+            Iterator<DailyTicketStatsExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                DailyTicketStatsExportRow row = iterator.next();
+                writer.writeRow(
+                        row.getStatDate(),
+                        row.getManagerName(),
+                        row.getTypeName(),
+                        row.getFirstCategoryName(),
+                        row.getSecondCategoryName(),
+                        row.getCreated(),
+                        row.getDone(),
+                        row.getInProgress(),
+                        row.getUrgent()
+                );
+                rowCount++;
+            }
+        }
+        writer.flush();
+        log.info("[통계 내보내기] {} ~ {} 완료, 행 수: {}", startDate, endDate, rowCount);
+    }
+}
@@ -2,53 +2,63 @@ package com.trillion.tikitaka.statistics.application;
 
 import com.trillion.tikitaka.category.domain.Category;
 import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
 import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
 import com.trillion.tikitaka.statistics.dto.response.*;
-import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
-import com.trillion.tikitaka.ticket.domain.Ticket;
-import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
 import com.trillion.tikitaka.tickettype.application.TicketTypeService;
-import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.dto.response.TicketTypeListResponse;
-import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.application.UserService;
-import com.trillion.tikitaka.user.domain.Role;
-import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.dto.response.UserResponse;
-import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final MonthlyStatisticsRepository statisticsRepository;
-    private final TicketRepository ticketRepository;
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
-    private final TicketTypeRepository ticketTypeRepository;
+    private final ManagerDirectory managerDirectory;
     private final TicketTypeService ticketTypeService;
     private final UserService userService;
+    private final MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+    private final MonthlyStatisticsReader monthlyStatisticsReader;
+    private final StatisticsExporter statisticsExporter;
 
 
     public List<AllCategory> getAllCategoryTicket(int year, int month) {
         List<Category> categories = categoryRepository.findAll();
+        Map<String, MonthlyTicketCount> counts = monthlyStatisticsReader.read(year, month);
         List<AllCategory> allCategories = new ArrayList<>();
 
+        // 카테고리 통계 행의 생성 건수는 가장 하위 카테고리 기준이므로, 1차 카테고리는 하위 카테고리 건수를 더한다.
+        Map<Long, Integer> firstCategoryCreated = new HashMap<>();
+        for (Category category : categories) {
+            Long firstCategoryId = (category.getParent() == null) ? category.getId() : category.getParent().getId();
+            firstCategoryCreated.merge(firstCategoryId, createdOf(counts, category.getId(), null, null), Integer::sum);
+        }
+
         for (Category category : categories) {
             boolean isFirstCategory = (category.getParent() == null);
 
             if(!isFirstCategory) {
 
-                int totalCreated = ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(
-                        year, month, category, null, null);
+                int totalCreated = createdOf(counts, category.getId(), null, null);
 
 
                 AllCategory allCategory = new AllCategory();
@@ -63,8 +73,7 @@ public class StatisticsService {
 
             }
             else{
-                int totalCreated = ticketRepository.countByCreatedAtBetweenAndFirstCategoryAndUserAndType(
-                        year, month, category, null, null);
+                int totalCreated = firstCategoryCreated.getOrDefault(category.getId(), 0);
 
                 AllCategory allCategory = new AllCategory();
                 allCategory.updateAllCategory(
@@ -82,27 +91,26 @@ public class StatisticsService {
 
 
     public AllMonth getAllMonthlyTicket(int year,int month){
-        int totalCreated = ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, null, null, null);
-        int urgentTickets = ticketRepository.countUrgentTicketsByCategoryAndUserAndType(year, month, null,null,null);
-        int totalCompleted = ticketRepository.countByCompletedStatusAndCategoryAndUserAndType(year, month, null,null,null);
+        MonthlyTicketCount count = monthlyStatisticsReader.read(year, month).get(MonthlyStatistics.ALL_DIMENSION);
         AllMonth allMonth = new AllMonth();
-        allMonth.updateAllMonth(totalCreated,urgentTickets,totalCompleted);
+        if (count == null) {
+            allMonth.updateAllMonth(0, 0, 0);
+            return allMonth;
+        }
+        allMonth.updateAllMonth(count.getCreated(), count.getUrgent(), count.getCompleted());
         return allMonth;
     }
 
 
     public List<AllType> getAllTypeTicket(int year, int month) {
         List<TicketTypeListResponse> ticketTypes = ticketTypeService.getTicketTypes();
+        Map<String, MonthlyTicketCount> counts = monthlyStatisticsReader.read(year, month);
 
         List<AllType> allTypes = new ArrayList<>();
 
         for (TicketTypeListResponse ticketTypeResponse : ticketTypes) {
 
-            TicketType ticketType = ticketTypeRepository.findById(ticketTypeResponse.getTypeId())
-                    .orElse(null);
-
-            int totalCreated = ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(
-                    year, month, null, null,ticketType);
+            int totalCreated = createdOf(counts, null, null, ticketTypeResponse.getTypeId());
 
             AllType allType = new AllType();
             allType.updateAllType(
@@ -119,92 +127,62 @@ public class StatisticsService {
 
 
     public List<AllUser> getAllUserTicket(int year, int month) {
-        List<UserResponse> users = userRepository.getAllUsers();
+        List<UserResponse> managers = managerDirectory.getManagers();
+        Map<String, MonthlyTicketCount> counts = monthlyStatisticsReader.read(year, month);
 
         List<AllUser> allUsers = new ArrayList<>();
 
-        for (UserResponse userResponse : users) {
-            if (userResponse.getRole() == Role.MANAGER) {
-                int totalCreated = ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(
-                        year, month, null, userRepository.findById(userResponse.getUserId()).orElse(null), null);
-
-                AllUser allUser = new AllUser();
-                allUser.updateAllUser(
-                        userResponse.getUsername(),
-                        userResponse.getEmail(),
-                        userResponse.getUserId(),
-                        userResponse.getProfileImageUrl(),
-                        totalCreated
-                );
+        for (UserResponse manager : managers) {
+            int totalCreated = createdOf(counts, null, manager.getUserId(), null);
 
-                allUsers.add(allUser);
-            }
+            AllUser allUser = new AllUser();
+            allUser.updateAllUser(
+                    manager.getUsername(),
+                    manager.getEmail(),
+                    manager.getUserId(),
+                    manager.getProfileImageUrl(),
+                    totalCreated
+            );
+
+            allUsers.add(allUser);
         }
 
         return allUsers;
     }
 
+    /**
+     * [startDate, endDate] 기간의 일별 티켓 처리 현황을 CSV 로 내보낸다. 날짜를 생략하면 당월 1일부터 금일까지이다.
+     */
+    public StreamingResponseBody exportDailyStatistics(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = (endDate != null) ? endDate : LocalDate.now();
+        LocalDate start = (startDate != null) ? startDate : end.withDayOfMonth(1);
+        log.info("[통계 내보내기] 기간: {} ~ {}", start, end);
+        if (start.isAfter(end)) {
+            log.error("[통계 내보내기] 시작일이 종료일보다 늦음: {} ~ {}", start, end);
+            throw new CustomException(ErrorCode.INVALID_STATISTICS_PERIOD);
+        }
+        return out -> statisticsExporter.export(out, start, end);
+    }
 
-    public DailyCompletionResponse getDailyCompletionStatistics(Long userId) {
-        LocalDateTime todayStart = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime todayEnd = todayStart.plusDays(1).minusNanos(1);
-
-        int createdTickets = ticketRepository.countByCreatedAtAndUserId(todayStart, todayEnd, userId);
-        int doneTickets = ticketRepository.countByCompletedAtAndUserId(todayStart, todayEnd, userId);
-
-        return new DailyCompletionResponse(createdTickets, doneTickets);
+    private int createdOf(Map<String, MonthlyTicketCount> counts, Long categoryId, Long userId, Long typeId) {
+        MonthlyTicketCount count = counts.get(MonthlyStatistics.dimensionKeyOf(categoryId, userId, typeId));
+        return (count != null) ? count.getCreated() : 0;
     }
 
 
-    @Transactional
-    public void updateMonthlyStatistics(int year, int month) {
-        List<Category> categories = categoryRepository.findAll();
-        List<User> users = userRepository.findAll();
-        List<TicketType> types = ticketTypeRepository.findAll();
+    public DailyCompletionResponse getDailyCompletionStatistics(Long userId) {
+        LocalDate today = LocalDate.now();
+
+        DailyTicketStatsCount counts = dailyTicketStatsRepository.sumBetween(today, today.plusDays(1), userId);
 
-        saveOrUpdateStatistics(year, month, null, null, null);
-        for (Category c : categories) saveOrUpdateStatistics(year, month, c, null, null);
-        for (User u : users) saveOrUpdateStatistics(year, month, null, u, null);
-        for (TicketType t : types) saveOrUpdateStatistics(year, month, null, null, t);
+        return new DailyCompletionResponse(counts.getCreated(), counts.getDone());
     }
 
 
-    @Transactional
-    public void saveOrUpdateStatistics(int year, int month, Category category, User user, TicketType type) {
-        Long categoryId = (category != null) ? category.getId() : null;
-        Long userId = (user != null) ? user.getId() : null;
-        Long typeId = (type != null) ? type.getId() : null;
-
-        Optional<MonthlyStatistics> existingStat = statisticsRepository.findByStatYearAndStatMonthAndCategoryIdAndUserIdAndTypeId(
-                year, month, categoryId, userId, typeId);
-
-        int totalCreated = ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, category, user, type);
-        int totalCompleted = ticketRepository.countByCompletedStatusAndCategoryAndUserAndType(year, month, category, user, type);
-        int urgentTickets = ticketRepository.countUrgentTicketsByCategoryAndUserAndType(year, month, category, user, type);
-        int inProgressCount = ticketRepository.countByStatusAndCategoryAndUserAndType(year, month, category, user, type, Ticket.Status.IN_PROGRESS);
-
-        float completionRatio = (totalCreated == 0) ? 0 : (totalCompleted * 100f / totalCreated);
-
-        if (existingStat.isPresent()) {
-            MonthlyStatistics ms = existingStat.get();
-            ms.updateStatistics(totalCreated, totalCompleted, urgentTickets, inProgressCount, completionRatio);
-        } else {
-            MonthlyStatistics ms = MonthlyStatistics.builder()
-                    .statYear(year)
-                    .statMonth(month)
-                    .category(category)
-                    .user(user)
-                    .type(type)
-                    .totalCreated(totalCreated)
-                    .totalCompleted(totalCompleted)
-                    .urgentTickets(urgentTickets)
-                    .inProgressCount(inProgressCount)
-                    .averageCompletionTime(0f)
-                    .completionRatio(completionRatio)
-                    .build();
-
-            statisticsRepository.save(ms);
-        }
+    // 재집계는 자체 트랜잭션에서 커밋되므로, 커밋 후 캐시를 비운다.
+    public void updateMonthlyStatistics(int year, int month) {
+        monthlyStatisticsAggregator.rebuild(year, month);
+        monthlyStatisticsReader.invalidate(YearMonth.of(year, month));
     }
 
 }
\ No newline at end of file
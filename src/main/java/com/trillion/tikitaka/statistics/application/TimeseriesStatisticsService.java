@@ -0,0 +1,85 @@
+package com.trillion.tikitaka.statistics.application;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.statistics.dto.TimeseriesCount;
+import com.trillion.tikitaka.statistics.dto.TimeseriesGranularity;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+import com.trillion.tikitaka.statistics.dto.response.TimeseriesResponse;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 단위 집계(daily_ticket_stats)를 요청한 구간 단위로 묶어 시계열로 반환한다.
+ * 티켓이 없는 구간도 0 으로 채워 반환하므로 화면에서 구간마다 따로 조회하지 않아도 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TimeseriesStatisticsService {
+
+    static final int MAX_BUCKETS = 1_000;
+
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    /**
+     * [startDate, endDate] 기간의 지표를 구간별로 합산한다. 첫/마지막 구간이 기간에 일부만 걸치면 걸친 부분만 센다.
+     * 날짜를 생략하면 종료일은 금일, 시작일은 종료일 기준 29일 전이다.
+     */
+    public TimeseriesResponse getTimeseries(TimeseriesMetric metric, TimeseriesGranularity granularity,
+                                            LocalDate startDate, LocalDate endDate,
+                                            Long managerId, Long typeId, Long categoryId) {
+        LocalDate end = (endDate != null) ? endDate : LocalDate.now();
+        LocalDate start = (startDate != null) ? startDate : end.minusDays(29);
+        log.info("[시계열 통계 조회] 지표: {}, 단위: {}, 기간: {} ~ {}, 담당자: {}, 유형: {}, 카테고리: {}",
+                metric, granularity, start, end, managerId, typeId, categoryId);
+
+        if (start.isAfter(end)) {
+            log.error("[시계열 통계 조회] 시작일이 종료일보다 늦음: {} ~ {}", start, end);
+            throw new CustomException(ErrorCode.INVALID_STATISTICS_PERIOD);
+        }
+
+        Map<LocalDateTime, Long> buckets = emptyBuckets(granularity, start, end);
+        List<TimeseriesCount> counts = dailyTicketStatsRepository.sumTimeseries(
+                start, end.plusDays(1), metric, granularity == TimeseriesGranularity.HOUR, managerId, typeId, categoryId);
+
+        long total = 0;
+        for (TimeseriesCount count : counts) {
+            buckets.merge(granularity.truncate(count.getTime()), count.getValue(), Long::sum);
+            total += count.getValue();
+        }
+
+        List<TimeseriesResponse.Point> points = new ArrayList<>(buckets.size());
+        buckets.forEach((bucketStart, value) -> points.add(new TimeseriesResponse.Point(bucketStart, value)));
+
+        return new TimeseriesResponse(metric, granularity, start, end, total, points);
+    }
+
+    // 기간에 걸치는 모든 구간을 시간 순으로 0 으로 채운다.
+    private Map<LocalDateTime, Long> emptyBuckets(TimeseriesGranularity granularity, LocalDate start, LocalDate end) {
+        LocalDateTime endExclusive = end.plusDays(1).atStartOfDay();
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+
+        for (LocalDateTime bucket = granularity.truncate(start.atStartOfDay());
+             bucket.isBefore(endExclusive);
+             bucket = granularity.next(bucket)) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                log.error("[시계열 통계 조회] 구간 수 초과: 단위 {}, 기간 {} ~ {}", granularity, start, end);
+                throw new CustomException(ErrorCode.TOO_MANY_TIMESERIES_BUCKETS);
+            }
+            buckets.put(bucket, 0L);
+        }
+        return buckets;
+    }
+}
@@ -2,13 +2,14 @@ package com.trillion.tikitaka.statistics.application;
 
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.statistics.dto.response.WeeklyStatisticsResponse;
-import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -16,43 +17,36 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WeeklyStatisticsService {
 
-    private final TicketRepository ticketRepository;
+    private final DailyTicketStatsRepository dailyTicketStatsRepository;
 
     public WeeklyStatisticsResponse getWeeklySummary(CustomUserDetails userDetails) {
         Long managerId = userDetails.getId();
 
-        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfToday = startOfToday.plusDays(1);
-
-        int dayTickets = ticketRepository.countDoneBetweenAndManager(
-                startOfToday, endOfToday, managerId);
+        LocalDate today = LocalDate.now();
+        LocalDate monday = getMondayOfThisWeek();
+        LocalDate saturday = monday.plusDays(5);
 
-        int dayUrgentTickets = ticketRepository.countUrgentCreatedToday(
-                startOfToday, endOfToday, managerId);
+        // 이번 주 월~일 담당 티켓 처리 현황을 날짜별로 한 번에 조회한다.
+        Map<LocalDate, DailyTicketStatsCount> countsByDate = new HashMap<>();
+        for (DailyTicketStatsCount count : dailyTicketStatsRepository.sumGroupByDate(monday, monday.plusDays(7), managerId)) {
+            countsByDate.put(count.getStatDate(), count);
+        }
 
-        LocalDateTime mondayStart = getMondayOfThisWeek().atStartOfDay();
-        LocalDateTime saturdayStart = mondayStart.plusDays(5);
+        DailyTicketStatsCount todayCount = countsByDate.get(today);
+        int dayTickets = (todayCount != null) ? todayCount.getDone() : 0;
+        int dayUrgentTickets = (todayCount != null) ? todayCount.getUrgent() : 0;
 
-        int weekTickets = ticketRepository.countDoneBetweenAndManager(
-                mondayStart, saturdayStart, managerId);
+        int weekTickets = countsByDate.values().stream()
+                .filter(count -> count.getStatDate().isBefore(saturday))
+                .mapToInt(DailyTicketStatsCount::getDone)
+                .sum();
 
         Map<String, Integer> weeklyTicketCounts = new LinkedHashMap<>();
-        weeklyTicketCounts.put("Mon", 0);
-        weeklyTicketCounts.put("Tue", 0);
-        weeklyTicketCounts.put("Wed", 0);
-        weeklyTicketCounts.put("Thu", 0);
-        weeklyTicketCounts.put("Fri", 0);
-        weeklyTicketCounts.put("Sat", 0);
-        weeklyTicketCounts.put("Sun", 0);
-
         for (DayOfWeek day : DayOfWeek.values()) {
-            LocalDateTime dayStart = getMondayOfThisWeek().plusDays(day.getValue()-1).atStartOfDay();
-            LocalDateTime dayEnd = dayStart.plusDays(1);
-
-            int dailyCount = ticketRepository.countDoneBetweenAndManager(dayStart, dayEnd, managerId);
+            DailyTicketStatsCount dailyCount = countsByDate.get(monday.plusDays(day.getValue() - 1));
             weeklyTicketCounts.put(day.name().substring(0,3).substring(0,1).toUpperCase()
                             + day.name().substring(1,3).toLowerCase(),
-                    dailyCount);
+                    (dailyCount != null) ? dailyCount.getDone() : 0);
         }
 
         return new WeeklyStatisticsResponse(
@@ -0,0 +1,66 @@
+package com.trillion.tikitaka.statistics.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 시간 단위 티켓 처리 현황 집계 (일간/주간 통계 조회용).
+ * (날짜, 시, 담당자, 유형, 1차/2차 카테고리) 별로 생성/완료/처리 중/긴급 건수를 관리하며
+ * 티켓 변경이 커밋된 뒤 별도 트랜잭션에서 증감한다. 값이 없는 담당자/카테고리는 0 으로 저장한다.
+ *
+ * - 생성, 긴급: 티켓 생성 시각 기준
+ * - 완료, 처리 중(IN_PROGRESS, REVIEW): 현재 상태인 티켓의 마지막 수정 시각 기준
+ */
+@Entity
+@Table(name = "daily_ticket_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_ticket_stats", columnNames = {
+                "stat_date", "stat_hour", "manager_id", "type_id", "first_category_id", "second_category_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyTicketStats {
+
+    public static final long NONE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "stat_hour", nullable = false)
+    private Integer statHour;
+
+    @Column(name = "manager_id", nullable = false)
+    private Long managerId;
+
+    @Column(name = "type_id", nullable = false)
+    private Long typeId;
+
+    @Column(name = "first_category_id", nullable = false)
+    private Long firstCategoryId;
+
+    @Column(name = "second_category_id", nullable = false)
+    private Long secondCategoryId;
+
+    @Column(name = "created_count", nullable = false)
+    private Long createdCount;
+
+    @Column(name = "done_count", nullable = false)
+    private Long doneCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private Long inProgressCount;
+
+    @Column(name = "urgent_count", nullable = false)
+    private Long urgentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,55 @@
+package com.trillion.tikitaka.statistics.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 통계 처리 기간 분포. (연, 월, 집계 차원, 지표) 별 DurationSketch 의 구간별 건수를 행 단위로 저장한다.
+ * 구간 번호가 모든 행에서 같으므로 여러 월/차원의 분포는 구간별 SUM 으로 합칠 수 있다.
+ *
+ * - 완료 기간(COMPLETION): 생성 ~ 완료, 완료월 기준
+ * - 응답 기간(RESPONSE): 생성 ~ 최초 처리 시작, 처리 시작월 기준
+ */
+@Entity
+@Table(name = "monthly_duration_histogram", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_duration_histogram", columnNames = {
+                "stat_year", "stat_month", "dimension_key", "metric", "bucket"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyDurationHistogram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_year", nullable = false)
+    private int statYear;
+
+    @Column(name = "stat_month", nullable = false)
+    private int statMonth;
+
+    @Column(name = "dimension_key", nullable = false, length = 40)
+    private String dimensionKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private Metric metric;
+
+    @Column(name = "bucket", nullable = false)
+    private int bucket;
+
+    @Column(name = "ticket_count", nullable = false)
+    private long ticketCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Metric {
+        COMPLETION, RESPONSE
+    }
+}
@@ -14,7 +14,9 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "monthly_statistics")
+@Table(name = "monthly_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_statistics_dimension", columnNames = {"stat_year", "stat_month", "dimension_key"})
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -23,6 +25,8 @@ import java.time.LocalDateTime;
 @SQLDelete(sql = "UPDATE monthly_statistics SET deleted_at = NOW() WHERE id = ?")
 public class MonthlyStatistics extends DeletedBaseEntity {
 
+    public static final String ALL_DIMENSION = "ALL";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +37,10 @@ public class MonthlyStatistics extends DeletedBaseEntity {
     @Column(name = "stat_month", nullable = false)
     private int statMonth;
 
+    // 집계 차원 (ALL, CATEGORY:{id}, USER:{id}, TYPE:{id}) - 월별로 유일
+    @Column(name = "dimension_key", nullable = false, length = 40)
+    private String dimensionKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -57,9 +65,25 @@ public class MonthlyStatistics extends DeletedBaseEntity {
     @Column(name = "in_progress_count", nullable = false)
     private int inProgressCount = 0;
 
+    // 처리 기간은 분 단위. 평균은 합계/건수로 계산하고, 분위수는 monthly_duration_histogram 에서 계산한다.
     @Column(name = "average_completion_time", nullable = false)
     private float averageCompletionTime = 0f;
 
+    @Column(name = "completion_time_sum", nullable = false)
+    private long completionTimeSum = 0L;
+
+    @Column(name = "completion_time_count", nullable = false)
+    private int completionTimeCount = 0;
+
+    @Column(name = "average_response_time", nullable = false)
+    private float averageResponseTime = 0f;
+
+    @Column(name = "response_time_sum", nullable = false)
+    private long responseTimeSum = 0L;
+
+    @Column(name = "response_time_count", nullable = false)
+    private int responseTimeCount = 0;
+
     @Column(name = "completion_ratio", nullable = false)
     private float completionRatio = 0f;
 
@@ -72,6 +96,27 @@ public class MonthlyStatistics extends DeletedBaseEntity {
         this.urgentTickets = urgentTickets;
         this.inProgressCount = inProgressCount;
         this.completionRatio = completionRatio;
+        this.lastUpdatedAt = LocalDateTime.now();
+    }
+
+    public void updateDurations(long completionTimeSum, int completionTimeCount, long responseTimeSum, int responseTimeCount) {
+        this.completionTimeSum = completionTimeSum;
+        this.completionTimeCount = completionTimeCount;
+        this.averageCompletionTime = averageOf(completionTimeSum, completionTimeCount);
+        this.responseTimeSum = responseTimeSum;
+        this.responseTimeCount = responseTimeCount;
+        this.averageResponseTime = averageOf(responseTimeSum, responseTimeCount);
+    }
+
+    public static float averageOf(long sum, long count) {
+        return (count <= 0) ? 0f : (float) sum / count;
+    }
+
+    public static String dimensionKeyOf(Long categoryId, Long userId, Long typeId) {
+        if (categoryId != null) return "CATEGORY:" + categoryId;
+        if (userId != null) return "USER:" + userId;
+        if (typeId != null) return "TYPE:" + typeId;
+        return ALL_DIMENSION;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.trillion.tikitaka.statistics.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (1차, 2차) 카테고리별 생성 건수. 2차 카테고리 없이 생성된 티켓은 secondCategoryId 가 null 이고,
+ * 삭제된 2차 카테고리는 secondCategoryName 이 null 이다.
+ */
+@Getter
+@NoArgsConstructor
+public class CategoryTicketCount {
+
+    private Long firstCategoryId;
+    private String firstCategoryName;
+    private Long secondCategoryId;
+    private String secondCategoryName;
+    private int created;
+
+    @QueryProjection
+    public CategoryTicketCount(Long firstCategoryId, String firstCategoryName,
+                               Long secondCategoryId, String secondCategoryName, Long created) {
+        this.firstCategoryId = firstCategoryId;
+        this.firstCategoryName = firstCategoryName;
+        this.secondCategoryId = secondCategoryId;
+        this.secondCategoryName = secondCategoryName;
+        this.created = (created != null) ? created.intValue() : 0;
+    }
+}
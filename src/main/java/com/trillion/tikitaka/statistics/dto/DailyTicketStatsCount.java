@@ -0,0 +1,37 @@
+package com.trillion.tikitaka.statistics.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * daily_ticket_stats 합계. 묶지 않은 기준의 값은 null 이다.
+ */
+@Getter
+@NoArgsConstructor
+public class DailyTicketStatsCount {
+
+    private LocalDate statDate;
+    private Long managerId;
+    private Long typeId;
+    private Long firstCategoryId;
+    private Long secondCategoryId;
+    private int created;
+    private int done;
+    private int inProgress;
+    private int urgent;
+
+    public DailyTicketStatsCount(LocalDate statDate, Long managerId, Long typeId, Long firstCategoryId,
+                                 Long secondCategoryId, int created, int done, int inProgress, int urgent) {
+        this.statDate = statDate;
+        this.managerId = managerId;
+        this.typeId = typeId;
+        this.firstCategoryId = firstCategoryId;
+        this.secondCategoryId = secondCategoryId;
+        this.created = created;
+        this.done = done;
+        this.inProgress = inProgress;
+        this.urgent = urgent;
+    }
+}
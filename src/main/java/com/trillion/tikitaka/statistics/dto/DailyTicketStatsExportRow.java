@@ -0,0 +1,39 @@
+package com.trillion.tikitaka.statistics.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 통계 내보내기 한 행. (날짜, 담당자, 유형, 1차/2차 카테고리) 별 합계이며, 값이 없거나 삭제된 기준의 이름은 null 이다.
+ */
+@Getter
+@NoArgsConstructor
+public class DailyTicketStatsExportRow {
+
+    private LocalDate statDate;
+    private String managerName;
+    private String typeName;
+    private String firstCategoryName;
+    private String secondCategoryName;
+    private long created;
+    private long done;
+    private long inProgress;
+    private long urgent;
+
+    @QueryProjection
+    public DailyTicketStatsExportRow(LocalDate statDate, String managerName, String typeName, String firstCategoryName,
+                                     String secondCategoryName, Long created, Long done, Long inProgress, Long urgent) {
+        this.statDate = statDate;
+        this.managerName = managerName;
+        this.typeName = typeName;
+        this.firstCategoryName = firstCategoryName;
+        this.secondCategoryName = secondCategoryName;
+        this.created = (created != null) ? created : 0L;
+        this.done = (done != null) ? done : 0L;
+        this.inProgress = (inProgress != null) ? inProgress : 0L;
+        this.urgent = (urgent != null) ? urgent : 0L;
+    }
+}
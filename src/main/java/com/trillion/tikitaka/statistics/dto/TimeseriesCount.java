@@ -0,0 +1,22 @@
+package com.trillion.tikitaka.statistics.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * daily_ticket_stats 에서 읽은 시간(또는 날짜) 단위 합계. 날짜 단위로 읽으면 time 은 자정이다.
+ */
+@Getter
+@NoArgsConstructor
+public class TimeseriesCount {
+
+    private LocalDateTime time;
+    private long value;
+
+    public TimeseriesCount(LocalDateTime time, long value) {
+        this.time = time;
+        this.value = value;
+    }
+}
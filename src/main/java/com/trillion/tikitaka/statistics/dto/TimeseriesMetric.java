@@ -0,0 +1,8 @@
+package com.trillion.tikitaka.statistics.dto;
+
+/**
+ * 시계열 통계 지표. 생성/긴급은 티켓 생성 시각, 완료는 완료 처리(마지막 수정) 시각 기준이다.
+ */
+public enum TimeseriesMetric {
+    CREATED, DONE, URGENT
+}
@@ -0,0 +1,29 @@
+package com.trillion.tikitaka.statistics.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+@Getter
+@AllArgsConstructor
+public class DurationStatisticsResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM")
+    private YearMonth startMonth;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM")
+    private YearMonth endMonth;
+    private String dimensionKey;
+    private Summary completion;
+    private Summary response;
+
+    // 처리 기간(분). 집계된 티켓이 없으면 분위수는 null 이다.
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+        private long count;
+        private float average;
+        private Double p50;
+        private Double p90;
+    }
+}
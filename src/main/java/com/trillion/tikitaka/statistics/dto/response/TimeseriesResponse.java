@@ -0,0 +1,30 @@
+package com.trillion.tikitaka.statistics.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.trillion.tikitaka.statistics.dto.TimeseriesGranularity;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TimeseriesResponse {
+    private TimeseriesMetric metric;
+    private TimeseriesGranularity granularity;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long total;
+    private List<Point> points;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Point {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+        private LocalDateTime bucketStart;
+        private long value;
+    }
+}
@@ -0,0 +1,31 @@
+package com.trillion.tikitaka.statistics.infrastructure;
+
+import com.trillion.tikitaka.statistics.dto.CategoryTicketCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsExportRow;
+import com.trillion.tikitaka.statistics.dto.TimeseriesCount;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CustomDailyTicketStatsRepository {
+
+    DailyTicketStatsCount sumBetween(LocalDate from, LocalDate to, Long managerId);
+
+    List<DailyTicketStatsCount> sumGroupByDate(LocalDate from, LocalDate to, Long managerId);
+
+    List<DailyTicketStatsCount> sumGroupByManager(LocalDate from, LocalDate to);
+
+    List<DailyTicketStatsCount> sumGroupByType(LocalDate from, LocalDate to);
+
+    List<DailyTicketStatsCount> sumGroupByCategory(LocalDate from, LocalDate to);
+
+    List<CategoryTicketCount> countCreatedByCategory(LocalDate from, LocalDate to);
+
+    Stream<DailyTicketStatsExportRow> streamDailyRows(LocalDate from, LocalDate to);
+
+    List<TimeseriesCount> sumTimeseries(LocalDate from, LocalDate to, TimeseriesMetric metric, boolean hourly,
+                                        Long managerId, Long typeId, Long categoryId);
+}
@@ -0,0 +1,245 @@
+package com.trillion.tikitaka.statistics.infrastructure;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.trillion.tikitaka.category.domain.QCategory;
+import com.trillion.tikitaka.global.export.ExportQueryHints;
+import com.trillion.tikitaka.statistics.domain.DailyTicketStats;
+import com.trillion.tikitaka.statistics.dto.CategoryTicketCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsExportRow;
+import com.trillion.tikitaka.statistics.dto.QCategoryTicketCount;
+import com.trillion.tikitaka.statistics.dto.QDailyTicketStatsExportRow;
+import com.trillion.tikitaka.statistics.dto.TimeseriesCount;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+import com.trillion.tikitaka.tickettype.domain.QTicketType;
+import com.trillion.tikitaka.user.domain.QUser;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.trillion.tikitaka.statistics.domain.QDailyTicketStats.dailyTicketStats;
+
+/**
+ * 모든 조회는 [from, to) 날짜 범위로 유니크 키의 선두 컬럼(stat_date)을 범위 검색한다.
+ */
+@RequiredArgsConstructor
+public class CustomDailyTicketStatsRepositoryImpl implements CustomDailyTicketStatsRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    private final NumberExpression<Long> created = dailyTicketStats.createdCount.sum();
+    private final NumberExpression<Long> done = dailyTicketStats.doneCount.sum();
+    private final NumberExpression<Long> inProgress = dailyTicketStats.inProgressCount.sum();
+    private final NumberExpression<Long> urgent = dailyTicketStats.urgentCount.sum();
+
+    @Override
+    public DailyTicketStatsCount sumBetween(LocalDate from, LocalDate to, Long managerId) {
+        return sum(from, to, managerEq(managerId)).get(0);
+    }
+
+    @Override
+    public List<DailyTicketStatsCount> sumGroupByDate(LocalDate from, LocalDate to, Long managerId) {
+        return sum(from, to, managerEq(managerId), dailyTicketStats.statDate);
+    }
+
+    @Override
+    public List<DailyTicketStatsCount> sumGroupByManager(LocalDate from, LocalDate to) {
+        return sum(from, to, dailyTicketStats.managerId.ne(DailyTicketStats.NONE), dailyTicketStats.managerId);
+    }
+
+    @Override
+    public List<DailyTicketStatsCount> sumGroupByType(LocalDate from, LocalDate to) {
+        return sum(from, to, null, dailyTicketStats.typeId);
+    }
+
+    @Override
+    public List<DailyTicketStatsCount> sumGroupByCategory(LocalDate from, LocalDate to) {
+        return sum(from, to, dailyTicketStats.firstCategoryId.ne(DailyTicketStats.NONE),
+                dailyTicketStats.firstCategoryId, dailyTicketStats.secondCategoryId);
+    }
+
+    // 카테고리 이름까지 한 번에 읽도록 카테고리 테이블을 ID 로 조인한다. 삭제된 1차 카테고리의 행은 제외된다.
+    @Override
+    public List<CategoryTicketCount> countCreatedByCategory(LocalDate from, LocalDate to) {
+        QCategory firstCategory = new QCategory("firstCategory");
+        QCategory secondCategory = new QCategory("secondCategory");
+
+        return queryFactory
+                .select(new QCategoryTicketCount(
+                        firstCategory.id,
+                        firstCategory.name,
+                        secondCategory.id,
+                        secondCategory.name,
+                        created
+                ))
+                .from(dailyTicketStats)
+                .join(firstCategory).on(firstCategory.id.eq(dailyTicketStats.firstCategoryId))
+                .leftJoin(secondCategory).on(secondCategory.id.eq(dailyTicketStats.secondCategoryId))
+                .where(
+                        dailyTicketStats.statDate.goe(from),
+                        dailyTicketStats.statDate.lt(to),
+                        dailyTicketStats.createdCount.gt(0L)
+                )
+                .groupBy(firstCategory.id, firstCategory.name, secondCategory.id, secondCategory.name)
+                .orderBy(firstCategory.id.asc(), secondCategory.id.asc().nullsFirst())
+                .fetch();
+    }
+
+    /**
+     * 내보내기용. 시간 단위 행을 날짜별로 합쳐 이름과 함께 커서로 한 행씩 넘긴다.
+     * 호출한 쪽에서 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @Override
+    public Stream<DailyTicketStatsExportRow> streamDailyRows(LocalDate from, LocalDate to) {
+        QUser manager = new QUser("manager");
+        QTicketType ticketType = new QTicketType("ticketType");
+        QCategory firstCategory = new QCategory("firstCategory");
+        QCategory secondCategory = new QCategory("secondCategory");
+
+        return queryFactory
+                .select(new QDailyTicketStatsExportRow(
+                        dailyTicketStats.statDate,
+                        manager.username,
+                        ticketType.name,
+                        firstCategory.name,
+                        secondCategory.name,
+                        created,
+                        done,
+                        inProgress,
+                        urgent
+                ))
+                .from(dailyTicketStats)
+                .leftJoin(manager).on(manager.id.eq(dailyTicketStats.managerId))
+                .leftJoin(ticketType).on(ticketType.id.eq(dailyTicketStats.typeId))
+                .leftJoin(firstCategory).on(firstCategory.id.eq(dailyTicketStats.firstCategoryId))
+                .leftJoin(secondCategory).on(secondCategory.id.eq(dailyTicketStats.secondCategoryId))
+                .where(
+                        dailyTicketStats.statDate.goe(from),
+                        dailyTicketStats.statDate.lt(to)
+                )
+                .groupBy(
+                        dailyTicketStats.statDate, dailyTicketStats.managerId, dailyTicketStats.typeId,
+                        dailyTicketStats.firstCategoryId, dailyTicketStats.secondCategoryId,
+                        manager.username, ticketType.name, firstCategory.name, secondCategory.name
+                )
+                .orderBy(
+                        dailyTicketStats.statDate.asc(), dailyTicketStats.managerId.asc(), dailyTicketStats.typeId.asc(),
+                        dailyTicketStats.firstCategoryId.asc(), dailyTicketStats.secondCategoryId.asc()
+                )
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportQueryHints.STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 지표 하나를 날짜(hourly 이면 날짜, 시) 단위로 합산한다. 빈 구간은 결과에 없다.
+     * 카테고리 필터는 1차/2차 카테고리 중 하나라도 일치하면 포함한다.
+     */
+    @Override
+    public List<TimeseriesCount> sumTimeseries(LocalDate from, LocalDate to, TimeseriesMetric metric, boolean hourly,
+                                               Long managerId, Long typeId, Long categoryId) {
+        NumberExpression<Long> value = metricColumn(metric).sum();
+        ComparableExpressionBase<?>[] groups = hourly
+                ? new ComparableExpressionBase<?>[]{dailyTicketStats.statDate, dailyTicketStats.statHour}
+                : new ComparableExpressionBase<?>[]{dailyTicketStats.statDate};
+
+        List<Expression<?>> select = new ArrayList<>(Arrays.asList(groups));
+        select.add(value);
+
+        return queryFactory
+                .select(select.toArray(new Expression<?>[0]))
+                .from(dailyTicketStats)
+                .where(
+                        dailyTicketStats.statDate.goe(from),
+                        dailyTicketStats.statDate.lt(to),
+                        managerEq(managerId),
+                        (typeId != null) ? dailyTicketStats.typeId.eq(typeId) : null,
+                        (categoryId != null)
+                                ? dailyTicketStats.firstCategoryId.eq(categoryId).or(dailyTicketStats.secondCategoryId.eq(categoryId))
+                                : null
+                )
+                .groupBy(groups)
+                .orderBy(Arrays.stream(groups).map(ComparableExpressionBase::asc).toArray(OrderSpecifier[]::new))
+                .fetch().stream()
+                .map(row -> new TimeseriesCount(
+                        row.get(dailyTicketStats.statDate).atTime(hourly ? row.get(dailyTicketStats.statHour) : 0, 0),
+                        toLong(row.get(value))
+                ))
+                .toList();
+    }
+
+    private NumberPath<Long> metricColumn(TimeseriesMetric metric) {
+        return switch (metric) {
+            case CREATED -> dailyTicketStats.createdCount;
+            case DONE -> dailyTicketStats.doneCount;
+            case URGENT -> dailyTicketStats.urgentCount;
+        };
+    }
+
+    private List<DailyTicketStatsCount> sum(LocalDate from, LocalDate to, BooleanExpression condition,
+                                            ComparableExpressionBase<?>... groups) {
+        List<Expression<?>> select = new ArrayList<>(Arrays.asList(groups));
+        select.addAll(List.of(created, done, inProgress, urgent));
+
+        JPAQuery<Tuple> query = queryFactory
+                .select(select.toArray(new Expression<?>[0]))
+                .from(dailyTicketStats)
+                .where(
+                        dailyTicketStats.statDate.goe(from),
+                        dailyTicketStats.statDate.lt(to),
+                        condition
+                );
+        if (groups.length > 0) {
+            query.groupBy(groups)
+                    .orderBy(Arrays.stream(groups).map(ComparableExpressionBase::asc).toArray(OrderSpecifier[]::new));
+        }
+
+        List<Expression<?>> grouped = Arrays.asList(groups);
+        return query.fetch().stream()
+                .map(row -> new DailyTicketStatsCount(
+                        grouped.contains(dailyTicketStats.statDate) ? row.get(dailyTicketStats.statDate) : null,
+                        idOf(row, dailyTicketStats.managerId, grouped),
+                        idOf(row, dailyTicketStats.typeId, grouped),
+                        idOf(row, dailyTicketStats.firstCategoryId, grouped),
+                        idOf(row, dailyTicketStats.secondCategoryId, grouped),
+                        toInt(row.get(created)),
+                        toInt(row.get(done)),
+                        toInt(row.get(inProgress)),
+                        toInt(row.get(urgent))
+                ))
+                .toList();
+    }
+
+    private BooleanExpression managerEq(Long managerId) {
+        return (managerId != null) ? dailyTicketStats.managerId.eq(managerId) : null;
+    }
+
+    // 담당자/카테고리가 없는 행은 0 으로 저장되어 있으므로 null 로 되돌린다.
+    private Long idOf(Tuple row, NumberPath<Long> path, List<Expression<?>> grouped) {
+        if (!grouped.contains(path)) return null;
+        Long id = row.get(path);
+        return (id == null || id == DailyTicketStats.NONE) ? null : id;
+    }
+
+    // 집계 대상이 없으면 SUM 결과가 null 이다.
+    private int toInt(Long value) {
+        return (value != null) ? value.intValue() : 0;
+    }
+
+    private long toLong(Long value) {
+        return (value != null) ? value : 0L;
+    }
+}
@@ -0,0 +1,83 @@
+package com.trillion.tikitaka.statistics.infrastructure;
+
+import com.trillion.tikitaka.statistics.domain.DailyTicketStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface DailyTicketStatsRepository extends JpaRepository<DailyTicketStats, Long>, CustomDailyTicketStatsRepository {
+
+    // 행이 없으면 만들고, 있으면 원자적으로 증감한다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_ticket_stats (stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+                                            created_count, done_count, in_progress_count, urgent_count, updated_at)
+            VALUES (:statDate, :statHour, :managerId, :typeId, :firstCategoryId, :secondCategoryId,
+                    :created, :done, :inProgress, :urgent, NOW(6))
+            ON DUPLICATE KEY UPDATE
+                created_count = created_count + :created,
+                done_count = done_count + :done,
+                in_progress_count = in_progress_count + :inProgress,
+                urgent_count = urgent_count + :urgent,
+                updated_at = NOW(6)
+            """, nativeQuery = true)
+    int addCounts(@Param("statDate") LocalDate statDate,
+                  @Param("statHour") int statHour,
+                  @Param("managerId") long managerId,
+                  @Param("typeId") long typeId,
+                  @Param("firstCategoryId") long firstCategoryId,
+                  @Param("secondCategoryId") long secondCategoryId,
+                  @Param("created") int created,
+                  @Param("done") int done,
+                  @Param("inProgress") int inProgress,
+                  @Param("urgent") int urgent);
+
+    @Modifying
+    @Query("DELETE FROM DailyTicketStats s WHERE s.statDate >= :from AND s.statDate < :to")
+    int deleteByStatDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // [start, end) 기간의 집계 행을 티켓 테이블에서 다시 만든다. 기존 행은 먼저 지워야 한다.
+    // 완료는 완료 시각, 처리 중은 최초 처리 시작 시각 기준 (DailyTicketStatsAggregator 와 같은 규칙)
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_ticket_stats (stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+                                            created_count, done_count, in_progress_count, urgent_count, updated_at)
+            SELECT stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+                   SUM(created_count), SUM(done_count), SUM(in_progress_count), SUM(urgent_count), NOW(6)
+            FROM (
+                SELECT DATE(t.created_at) AS stat_date, HOUR(t.created_at) AS stat_hour,
+                       COALESCE(t.manager_id, 0) AS manager_id, t.type_id AS type_id,
+                       COALESCE(t.first_category_id, 0) AS first_category_id,
+                       COALESCE(t.second_category_id, 0) AS second_category_id,
+                       1 AS created_count, 0 AS done_count, 0 AS in_progress_count,
+                       IF(t.urgent, 1, 0) AS urgent_count
+                FROM tickets t
+                WHERE t.deleted_at IS NULL
+                  AND t.created_at >= :start AND t.created_at < :end
+                UNION ALL
+                SELECT DATE(t.done_at), HOUR(t.done_at),
+                       COALESCE(t.manager_id, 0), t.type_id,
+                       COALESCE(t.first_category_id, 0), COALESCE(t.second_category_id, 0),
+                       0, 1, 0, 0
+                FROM tickets t
+                WHERE t.deleted_at IS NULL
+                  AND t.status = 'DONE'
+                  AND t.done_at >= :start AND t.done_at < :end
+                UNION ALL
+                SELECT DATE(t.first_in_progress_at), HOUR(t.first_in_progress_at),
+                       COALESCE(t.manager_id, 0), t.type_id,
+                       COALESCE(t.first_category_id, 0), COALESCE(t.second_category_id, 0),
+                       0, 0, 1, 0
+                FROM tickets t
+                WHERE t.deleted_at IS NULL
+                  AND t.status IN ('IN_PROGRESS', 'REVIEW')
+                  AND t.first_in_progress_at >= :start AND t.first_in_progress_at < :end
+            ) contribution
+            GROUP BY stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id
+            """, nativeQuery = true)
+    int insertFromTickets(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
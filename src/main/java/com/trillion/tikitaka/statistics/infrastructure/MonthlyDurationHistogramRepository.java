@@ -0,0 +1,53 @@
+package com.trillion.tikitaka.statistics.infrastructure;
+
+import com.trillion.tikitaka.statistics.domain.MonthlyDurationHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MonthlyDurationHistogramRepository extends JpaRepository<MonthlyDurationHistogram, Long> {
+
+    // 행이 없으면 만들고, 있으면 구간 건수에 증감분을 원자적으로 더한다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_duration_histogram (stat_year, stat_month, dimension_key, metric, bucket, ticket_count, updated_at)
+            VALUES (:year, :month, :dimensionKey, :metric, :bucket, :delta, NOW(6))
+            ON DUPLICATE KEY UPDATE
+                ticket_count = ticket_count + :delta,
+                updated_at = NOW(6)
+            """, nativeQuery = true)
+    int addCount(@Param("year") int year,
+                 @Param("month") int month,
+                 @Param("dimensionKey") String dimensionKey,
+                 @Param("metric") String metric,
+                 @Param("bucket") int bucket,
+                 @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyDurationHistogram h WHERE h.statYear = :year AND h.statMonth = :month")
+    int deleteMonth(@Param("year") int year, @Param("month") int month);
+
+    /**
+     * [fromMonth, toMonth] 기간(연*12 + 월)의 한 집계 차원 분포를 지표/구간별로 합친다.
+     */
+    @Query("""
+            SELECT h.metric AS metric, h.bucket AS bucket, SUM(h.ticketCount) AS ticketCount
+            FROM MonthlyDurationHistogram h
+            WHERE h.dimensionKey = :dimensionKey
+              AND (h.statYear * 12 + h.statMonth) BETWEEN :fromMonth AND :toMonth
+            GROUP BY h.metric, h.bucket
+            HAVING SUM(h.ticketCount) > 0
+            """)
+    List<BucketCount> sumBuckets(@Param("dimensionKey") String dimensionKey,
+                                 @Param("fromMonth") int fromMonth,
+                                 @Param("toMonth") int toMonth);
+
+    interface BucketCount {
+        MonthlyDurationHistogram.Metric getMetric();
+        Integer getBucket();
+        Long getTicketCount();
+    }
+}
@@ -6,6 +6,7 @@ import com.trillion.tikitaka.user.domain.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,9 +18,72 @@ public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatis
     boolean existsByStatYearAndStatMonthAndCategoryIdAndUserIdAndTypeId(int statYear, int statMonth, Long categoryId, Long userId, Long typeId);
     Optional<MonthlyStatistics> findByStatYearAndStatMonthAndCategoryIdAndUserIdAndTypeId(
             int year, int month, Long categoryId, Long userId, Long typeId);
-}
-
 
+    List<MonthlyStatistics> findAllByStatYearAndStatMonth(int statYear, int statMonth);
 
+    // 행이 없으면 만들고, 있으면 증감분을 원자적으로 더한 뒤 완료율/평균 처리 기간을 다시 계산한다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_statistics (stat_year, stat_month, dimension_key, category_id, user_id, type_id,
+                                            total_created, total_completed, urgent_tickets, in_progress_count,
+                                            completion_time_sum, completion_time_count, average_completion_time,
+                                            response_time_sum, response_time_count, average_response_time,
+                                            completion_ratio, last_updated_at, created_at, updated_at)
+            VALUES (:year, :month, :dimensionKey, :categoryId, :userId, :typeId,
+                    :created, :completed, :urgent, :inProgress,
+                    :completionTimeSum, :completionTimeCount, IF(:completionTimeCount <= 0, 0, :completionTimeSum / :completionTimeCount),
+                    :responseTimeSum, :responseTimeCount, IF(:responseTimeCount <= 0, 0, :responseTimeSum / :responseTimeCount),
+                    IF(:created <= 0, 0, :completed * 100 / :created), NOW(6), NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                total_created = total_created + :created,
+                total_completed = total_completed + :completed,
+                urgent_tickets = urgent_tickets + :urgent,
+                in_progress_count = in_progress_count + :inProgress,
+                completion_time_sum = completion_time_sum + :completionTimeSum,
+                completion_time_count = completion_time_count + :completionTimeCount,
+                average_completion_time = IF(completion_time_count <= 0, 0, completion_time_sum / completion_time_count),
+                response_time_sum = response_time_sum + :responseTimeSum,
+                response_time_count = response_time_count + :responseTimeCount,
+                average_response_time = IF(response_time_count <= 0, 0, response_time_sum / response_time_count),
+                completion_ratio = IF(total_created <= 0, 0, total_completed * 100 / total_created),
+                last_updated_at = NOW(6),
+                updated_at = NOW(6)
+            """, nativeQuery = true)
+    int addDelta(@Param("year") int year,
+                 @Param("month") int month,
+                 @Param("dimensionKey") String dimensionKey,
+                 @Param("categoryId") Long categoryId,
+                 @Param("userId") Long userId,
+                 @Param("typeId") Long typeId,
+                 @Param("created") int created,
+                 @Param("completed") int completed,
+                 @Param("urgent") int urgent,
+                 @Param("inProgress") int inProgress,
+                 @Param("completionTimeSum") long completionTimeSum,
+                 @Param("completionTimeCount") int completionTimeCount,
+                 @Param("responseTimeSum") long responseTimeSum,
+                 @Param("responseTimeCount") int responseTimeCount);
 
+    /**
+     * [fromMonth, toMonth] 기간(연*12 + 월)의 한 집계 차원 처리 기간 합계/건수를 합친다.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(s.completionTimeSum), 0) AS completionTimeSum,
+                   COALESCE(SUM(s.completionTimeCount), 0) AS completionTimeCount,
+                   COALESCE(SUM(s.responseTimeSum), 0) AS responseTimeSum,
+                   COALESCE(SUM(s.responseTimeCount), 0) AS responseTimeCount
+            FROM MonthlyStatistics s
+            WHERE s.dimensionKey = :dimensionKey
+              AND (s.statYear * 12 + s.statMonth) BETWEEN :fromMonth AND :toMonth
+            """)
+    DurationTotal sumDurations(@Param("dimensionKey") String dimensionKey,
+                               @Param("fromMonth") int fromMonth,
+                               @Param("toMonth") int toMonth);
 
+    interface DurationTotal {
+        Long getCompletionTimeSum();
+        Long getCompletionTimeCount();
+        Long getResponseTimeSum();
+        Long getResponseTimeCount();
+    }
+}
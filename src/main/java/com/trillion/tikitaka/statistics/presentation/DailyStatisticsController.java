@@ -7,11 +7,14 @@ import com.trillion.tikitaka.statistics.dto.response.DailyStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.DailyCategoryStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.AllDoneUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -45,7 +48,9 @@ public class DailyStatisticsController {
 
     @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')")
     @GetMapping("/catSummary")
-    public ApiResponse<List<DailyCategoryStatisticsResponse>> getDailyCategorySummary() {
-        return ApiResponse.success(dailyStatisticsService.getDailyCategorySummary());
+    public ApiResponse<List<DailyCategoryStatisticsResponse>> getDailyCategorySummary(
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ApiResponse.success(dailyStatisticsService.getCategorySummary(startDate, endDate));
     }
 }
@@ -1,18 +1,26 @@
 package com.trillion.tikitaka.statistics.presentation;
 
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.global.export.CsvExportResponse;
 import com.trillion.tikitaka.global.response.ApiResponse;
+import com.trillion.tikitaka.statistics.application.DurationStatisticsService;
 import com.trillion.tikitaka.statistics.application.StatisticsService;
 import com.trillion.tikitaka.statistics.dto.response.DailyCompletionResponse;
+import com.trillion.tikitaka.statistics.dto.response.DurationStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.AllCategory;
 import com.trillion.tikitaka.statistics.dto.response.AllMonth;
 import com.trillion.tikitaka.statistics.dto.response.AllType;
 import com.trillion.tikitaka.statistics.dto.response.AllUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -20,6 +28,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StatisticsController {
    private final StatisticsService statisticsService;
+   private final DurationStatisticsService durationStatisticsService;
    @PostMapping("/record") // 저장 시험
    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
    public ApiResponse<Void> makeStatistics(@RequestParam int year,@RequestParam int month) {
@@ -53,6 +62,18 @@ public class StatisticsController {
       List<AllType> allTypes = statisticsService.getAllTypeTicket(year, month);
       return new ApiResponse<>("성공", allTypes);
    }
+   @GetMapping("/monDuration")
+   @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')") //기간별 완료/응답 처리 기간(평균, p50, p90) - 월은 yyyy-MM
+   public ApiResponse<DurationStatisticsResponse> getMonthlyDurations(
+           @RequestParam(value = "startMonth", required = false) YearMonth startMonth,
+           @RequestParam(value = "endMonth", required = false) YearMonth endMonth,
+           @RequestParam(value = "categoryId", required = false) Long categoryId,
+           @RequestParam(value = "userId", required = false) Long userId,
+           @RequestParam(value = "typeId", required = false) Long typeId) {
+      DurationStatisticsResponse response = durationStatisticsService.getDurations(startMonth, endMonth, categoryId, userId, typeId);
+      return new ApiResponse<>("성공", response);
+   }
+
    @GetMapping("/daily/completion")
    @PreAuthorize("hasAnyAuthority('MANAGER')")
    public ApiResponse<DailyCompletionResponse> getDailyCompletionStatistics(
@@ -61,5 +82,14 @@ public class StatisticsController {
       return new ApiResponse<>("요청이 성공적으로 처리되었습니다", response);
    }
 
+   @GetMapping("/export")
+   @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')") //기간별 일간 통계 CSV 내보내기
+   public ResponseEntity<StreamingResponseBody> exportDailyStatistics(
+           @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+           @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+      StreamingResponseBody body = statisticsService.exportDailyStatistics(startDate, endDate);
+      return CsvExportResponse.of("statistics.csv", body);
+   }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.trillion.tikitaka.statistics.presentation;
+
+import com.trillion.tikitaka.global.response.ApiResponse;
+import com.trillion.tikitaka.statistics.application.TimeseriesStatisticsService;
+import com.trillion.tikitaka.statistics.dto.TimeseriesGranularity;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+import com.trillion.tikitaka.statistics.dto.response.TimeseriesResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/statistics")
+@RequiredArgsConstructor
+public class TimeseriesStatisticsController {
+
+    private final TimeseriesStatisticsService timeseriesStatisticsService;
+
+    @PreAuthorize("hasAnyAuthority('MANAGER', 'ADMIN')")
+    @GetMapping("/timeseries")
+    public ApiResponse<TimeseriesResponse> getTimeseries(
+            @RequestParam(value = "metric") TimeseriesMetric metric,
+            @RequestParam(value = "granularity", defaultValue = "DAY") TimeseriesGranularity granularity,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "managerId", required = false) Long managerId,
+            @RequestParam(value = "typeId", required = false) Long typeId,
+            @RequestParam(value = "categoryId", required = false) Long categoryId) {
+        TimeseriesResponse response = timeseriesStatisticsService.getTimeseries(
+                metric, granularity, startDate, endDate, managerId, typeId, categoryId);
+        return ApiResponse.success(response);
+    }
+}
@@ -5,12 +5,15 @@ import com.trillion.tikitaka.subtask.dto.response.SubtaskResponse;
 import com.trillion.tikitaka.subtask.exception.SubtaskNotFoundExeption;
 import com.trillion.tikitaka.subtask.exception.UnauthrizedSubtaskAcessExeception;
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.subtask.dto.request.SubtaskRequest;
 import com.trillion.tikitaka.subtask.infrastructure.SubtaskRepository;
 import com.trillion.tikitaka.ticket.exception.TicketNotFoundException;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,7 @@ public class SubtaskService {
 
     private final SubtaskRepository subtaskRepository;
     private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Subtask createSubtask(SubtaskRequest request) {
@@ -96,7 +100,11 @@ public class SubtaskService {
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(TicketNotFoundException::new);
         if(ticket.getStatus().equals(Ticket.Status.PENDING)&&subtask.getDone().equals(true)){
+            TicketSnapshot before = TicketSnapshot.of(ticket);
             ticket.updateStatus(Ticket.Status.IN_PROGRESS);
+            ticketRepository.flush();
+            eventPublisher.publishEvent(new TicketChangeEvent(
+                    this, ticket.getId(), TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before, TicketSnapshot.of(ticket)));
         }
         calculateProgress(ticketId);
     }
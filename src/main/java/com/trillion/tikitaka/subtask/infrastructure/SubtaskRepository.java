@@ -14,6 +14,7 @@ public interface SubtaskRepository extends JpaRepository<Subtask, Long> {
 
     List<Subtask> findByParentTicket(Ticket parentTicket);
     List<Subtask> findAllByParentTicket(Ticket ticket);
+    List<Subtask> findAllByParentTicketIdOrderByIdAsc(Long ticketId);
 
     Double countAllByParentTicketId(Long ticketId);
 
@@ -0,0 +1,155 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.notification.event.TicketAssignmentEvent;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.ManagerTicketLoad;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.dto.response.UserResponse;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 미배정 티켓 일괄 배정.
+ * 담당자별 진행 중 티켓 수를 한 번만 집계해 최소 힙에 담고, 배정할 때마다 힙 안의 값만 갱신한다.
+ * 후보 선정 규칙은 기존과 같다: 진행 중(대기/처리 중/검토) 티켓이 가장 적은 담당자 → 대기 티켓이 가장 적은 담당자 → 무작위.
+ * 배정은 JDBC 배치로 반영하고, 담당자마다 알림을 한 번만 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketAssignmentEngine {
+
+    static final List<Ticket.Status> ACTIVE_STATUSES = List.of(
+            Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW);
+    private static final int BATCH_SIZE = 500;
+
+    // 그사이 다른 요청으로 담당자가 지정된 티켓은 건너뛴다.
+    private static final String ASSIGN_SQL = """
+            UPDATE tickets
+            SET manager_id = ?, first_assigned_at = COALESCE(first_assigned_at, ?), updated_at = ?
+            WHERE id = ? AND manager_id IS NULL AND deleted_at IS NULL
+            """;
+
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * createdBefore 이전에 생성된 미배정 티켓을 담당자에게 배정하고, 배정된 티켓 수를 반환한다.
+     */
+    @Transactional
+    public int assignUnassignedTickets(LocalDateTime createdBefore) {
+        List<Ticket> tickets = ticketRepository.findUnassignedTickets(createdBefore);
+        log.info("[미배정 티켓 조회] 기준 시간: {} 이전, 조회된 미배정 티켓 수: {}", createdBefore, tickets.size());
+        if (tickets.isEmpty()) return 0;
+
+        List<UserResponse> managers = userRepository.getUsersByRole(Role.MANAGER);
+        if (managers.isEmpty()) {
+            log.warn("[담당자 조회 실패] 매니저가 존재하지 않음 - 미배정 티켓 {}건 유지", tickets.size());
+            return 0;
+        }
+
+        List<Assignment> assignments = plan(tickets, managers);
+        LocalDateTime assignedAt = LocalDateTime.now();
+        int[][] results = jdbcTemplate.batchUpdate(ASSIGN_SQL, assignments, BATCH_SIZE, (ps, assignment) -> {
+            ps.setLong(1, assignment.manager().getUserId());
+            ps.setTimestamp(2, Timestamp.valueOf(assignedAt));
+            ps.setTimestamp(3, Timestamp.valueOf(assignedAt));
+            ps.setLong(4, assignment.ticket().getId());
+        });
+
+        Map<UserResponse, List<TicketAssignmentEvent.AssignedTicket>> assignedByManager = new LinkedHashMap<>();
+        int index = 0;
+        int assigned = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                Assignment assignment = assignments.get(index++);
+                // 배치 재작성(rewriteBatchedStatements) 시에는 건수 대신 SUCCESS_NO_INFO 가 오므로 0 인 경우만 건너뛴다.
+                if (updated == 0) {
+                    log.info("[티켓 배정 건너뜀] 이미 담당자가 지정된 티켓 ID: {}", assignment.ticket().getId());
+                    continue;
+                }
+                publishTicketChange(assignment, assignedAt);
+                assignedByManager.computeIfAbsent(assignment.manager(), m -> new ArrayList<>())
+                        .add(new TicketAssignmentEvent.AssignedTicket(assignment.ticket().getId(), assignment.ticket().getTitle()));
+                assigned++;
+            }
+        }
+
+        assignedByManager.forEach((manager, assignedTickets) -> {
+            log.info("[티켓 배정 완료] 매니저 ID: {}, 배정 티켓 수: {}", manager.getUserId(), assignedTickets.size());
+            eventPublisher.publishEvent(new TicketAssignmentEvent(this, manager.getEmail(), assignedTickets));
+        });
+        return assigned;
+    }
+
+    private List<Assignment> plan(List<Ticket> tickets, List<UserResponse> managers) {
+        Map<Long, ManagerTicketLoad> loads = new HashMap<>();
+        for (ManagerTicketLoad load : ticketRepository.countManagerLoads(ACTIVE_STATUSES)) {
+            loads.put(load.getManagerId(), load);
+        }
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(managers.size());
+        for (UserResponse manager : managers) {
+            ManagerTicketLoad load = loads.get(manager.getUserId());
+            candidates.add(new Candidate(manager,
+                    (load != null) ? load.getActive() : 0L,
+                    (load != null) ? load.getPending() : 0L,
+                    ThreadLocalRandom.current().nextInt()));
+        }
+        log.info("[담당자 부하 조회] 총 매니저 수: {}, 진행 중 티켓이 있는 매니저 수: {}", managers.size(), loads.size());
+
+        List<Assignment> assignments = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            Candidate candidate = candidates.poll();
+            assignments.add(new Assignment(ticket, candidate.manager));
+            candidates.add(candidate.assign(ticket.getStatus()));
+        }
+        return assignments;
+    }
+
+    private void publishTicketChange(Assignment assignment, LocalDateTime assignedAt) {
+        TicketSnapshot before = TicketSnapshot.of(assignment.ticket());
+        TicketSnapshot after = before.withManager(assignment.manager().getUserId(), assignedAt);
+        eventPublisher.publishEvent(new TicketChangeEvent(
+                this, before.ticketId(), TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before, after));
+    }
+
+    private record Assignment(Ticket ticket, UserResponse manager) {
+    }
+
+    // 진행 중 티켓 수 → 대기 티켓 수 → 무작위 순으로 우선한다.
+    private record Candidate(UserResponse manager, long active, long pending, int tieBreaker)
+            implements Comparable<Candidate> {
+
+        private static final Comparator<Candidate> ORDER = Comparator
+                .comparingLong(Candidate::active)
+                .thenComparingLong(Candidate::pending)
+                .thenComparingInt(Candidate::tieBreaker);
+
+        Candidate assign(Ticket.Status status) {
+            boolean active = ACTIVE_STATUSES.contains(status);
+            boolean pending = status == Ticket.Status.PENDING;
+            return new Candidate(manager, this.active + (active ? 1 : 0), this.pending + (pending ? 1 : 0), tieBreaker);
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
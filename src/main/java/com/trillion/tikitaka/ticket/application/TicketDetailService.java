@@ -0,0 +1,107 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.attachment.dto.response.AttachmentResponse;
+import com.trillion.tikitaka.attachment.infrastructure.AttachmentRepository;
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.history.dto.response.HistoryResponse;
+import com.trillion.tikitaka.history.infrastructure.HistoryRepository;
+import com.trillion.tikitaka.subtask.domain.Subtask;
+import com.trillion.tikitaka.subtask.dto.response.SubtaskResponse;
+import com.trillion.tikitaka.subtask.infrastructure.SubtaskRepository;
+import com.trillion.tikitaka.ticket.dto.response.ReviewListResponse;
+import com.trillion.tikitaka.ticket.dto.response.TicketDetailResponse;
+import com.trillion.tikitaka.ticket.dto.response.TicketResponse;
+import com.trillion.tikitaka.ticket.exception.TicketNotFoundException;
+import com.trillion.tikitaka.ticket.infrastructure.ReviewRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
+import com.trillion.tikitaka.ticketcomment.infrastructure.TicketCommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 티켓 상세 화면에 필요한 데이터를 정해진 수의 쿼리로 한 번에 조회한다.
+ * 티켓, 티켓 첨부파일, 댓글, 댓글 첨부파일(IN 조회), 하위 태스크, 검토 내역, 최근 이력 순으로 최대 7개의 쿼리를 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TicketDetailService {
+
+    private static final int LATEST_HISTORY_SIZE = 10;
+
+    private final TicketRepository ticketRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final TicketCommentRepository ticketCommentRepository;
+    private final SubtaskRepository subtaskRepository;
+    private final ReviewRepository reviewRepository;
+    private final HistoryRepository historyRepository;
+
+    public TicketDetail getTicketDetail(Long ticketId, CustomUserDetails userDetails) {
+        log.info("[티켓 상세 일괄 조회] 요청자: {}, 티켓 ID: {}", userDetails.getUsername(), ticketId);
+        String role = userDetails.getUser().getRole().toString();
+        boolean isUser = "USER".equals(role);
+
+        TicketResponse ticket = ticketRepository.getTicket(ticketId, userDetails.getUser().getId(), role);
+        if (ticket == null) {
+            log.error("[티켓 상세 일괄 조회] 티켓 ID: {} 조회 실패", ticketId);
+            throw new TicketNotFoundException();
+        }
+        ticket.setAttachments(attachmentRepository.getTicketAttachments(ticketId));
+        if (isUser) ticket.setPriority(null);
+
+        List<TicketCommentResponse> comments = ticketCommentRepository.getTicketComments(ticketId);
+
+        List<Subtask> subtasks = subtaskRepository.findAllByParentTicketIdOrderByIdAsc(ticketId);
+        List<ReviewListResponse> reviews = isUser ? null : reviewRepository.findAllByTicketId(ticketId);
+        List<HistoryResponse> histories = historyRepository.getLatestHistory(ticketId, LATEST_HISTORY_SIZE);
+
+        TicketDetailResponse response = new TicketDetailResponse(
+                ticket,
+                comments,
+                subtasks.stream().map(SubtaskResponse::new).collect(Collectors.toList()),
+                reviews,
+                histories
+        );
+        return new TicketDetail(response, buildETag(ticket, comments, subtasks, reviews, histories, isUser));
+    }
+
+    /**
+     * 티켓 updatedAt 을 기준으로 하되, 티켓 updatedAt 을 바꾸지 않는 댓글/첨부파일/하위 태스크/검토/이력 변경도
+     * 반영되도록 각 항목의 최신 수정 시각과 건수를 함께 넣어 만든다.
+     */
+    private String buildETag(TicketResponse ticket, List<TicketCommentResponse> comments, List<Subtask> subtasks,
+                             List<ReviewListResponse> reviews, List<HistoryResponse> histories, boolean isUser) {
+        StringBuilder version = new StringBuilder()
+                .append(ticket.getTicketId()).append('|')
+                .append(ticket.getUpdatedAt()).append('|')
+                .append(isUser ? "U" : "M").append('|')
+                .append(ticket.getAttachments().stream().map(AttachmentResponse::getAttachmentId).toList()).append('|')
+                .append(comments.size()).append(':')
+                .append(latest(comments.stream().map(TicketCommentResponse::getUpdatedAt).toList())).append(':')
+                .append(comments.stream().mapToInt(comment -> comment.getAttachments().size()).sum()).append('|')
+                .append(subtasks.size()).append(':')
+                .append(latest(subtasks.stream().map(Subtask::getUpdatedAt).toList())).append('|')
+                .append(reviews != null ? reviews.size() : -1).append('|')
+                .append(histories.isEmpty() ? 0 : histories.get(0).getId());
+
+        return "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private LocalDateTime latest(List<LocalDateTime> times) {
+        return times.stream().filter(Objects::nonNull).max(LocalDateTime::compareTo).orElse(null);
+    }
+
+    public record TicketDetail(TicketDetailResponse response, String eTag) {
+    }
+}
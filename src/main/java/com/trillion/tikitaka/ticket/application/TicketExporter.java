@@ -0,0 +1,66 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.global.export.CsvWriter;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 티켓 목록을 CSV 로 내보낸다. 조회 결과를 모으지 않고 읽는 대로 쓰므로 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketExporter {
+
+    private static final Object[] HEADER = {
+            "티켓 ID", "제목", "내용", "유형", "1차 카테고리", "2차 카테고리", "담당자",
+            "상태", "긴급", "우선순위", "진행률", "마감일", "생성일"
+    };
+
+    private final TicketRepository ticketRepository;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream out, Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                       Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                       String role, String dateOption) throws IOException {
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow(HEADER);
+
+        long rowCount = 0;
+        try (Stream<TicketListResponse> tickets = ticketRepository.streamTicketList(
+                status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, role, dateOption)) {
+            Iterator<TicketListResponse> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                TicketListResponse ticket = iterator.next();
+                writer.writeRow(
+                        ticket.getTicketId(),
+                        ticket.getTitle(),
+                        ticket.getDescription(),
+                        ticket.getTypeName(),
+                        ticket.getFirstCategoryName(),
+                        ticket.getSecondCategoryName(),
+                        ticket.getManagerName(),
+                        ticket.getStatus(),
+                        ticket.getUrgent(),
+                        ticket.getPriority(),
+                        ticket.getProgress(),
+                        ticket.getDeadline(),
+                        ticket.getCreatedAt()
+                );
+                rowCount++;
+            }
+        }
+        writer.flush();
+        log.info("[티켓 목록 내보내기] 완료, 행 수: {}", rowCount);
+    }
+}
@@ -0,0 +1,111 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.global.cache.LocalCache;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.TicketCountStrategy;
+import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class TicketListCountProvider {
+
+    private static final int MAX_CACHED_FILTERS = 1_000;
+    private static final Set<String> DATE_OPTIONS = Set.of("today", "week", "month");
+
+    private final TicketRepository ticketRepository;
+    private final TicketStatusCounterService ticketStatusCounterService;
+    private final LocalCache<TicketListCountKey, Long> listCountCache;
+
+    public TicketListCountProvider(TicketRepository ticketRepository,
+                                   TicketStatusCounterService ticketStatusCounterService,
+                                   @Value("${ticket.list.count-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.ticketStatusCounterService = ticketStatusCounterService;
+        this.listCountCache = new LocalCache<>(Duration.ofSeconds(ttlSeconds), MAX_CACHED_FILTERS);
+    }
+
+    public long count(TicketCountStrategy strategy, Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                      Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent, String role, String dateOption) {
+        TicketListCountKey key = TicketListCountKey.of(
+                status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption
+        );
+
+        if (strategy == TicketCountStrategy.ESTIMATED && key.isEstimable()) {
+            return estimate(key);
+        }
+        if (strategy == TicketCountStrategy.EXACT) {
+            return countExactly(key, role);
+        }
+        return listCountCache.get(key, k -> countExactly(k, role));
+    }
+
+    private long countExactly(TicketListCountKey key, String role) {
+        Long count = ticketRepository.countTicketList(
+                key.status(), key.firstCategoryId(), key.secondCategoryId(), key.ticketTypeId(),
+                key.managerId(), key.requesterId(), key.urgent(), role, key.dateOption()
+        );
+        return count != null ? count : 0L;
+    }
+
+    // 상태별 카운터 테이블(ticket_status_counters)의 행 몇 개만 읽으므로 따로 캐시하지 않는다.
+    private long estimate(TicketListCountKey key) {
+        TicketCountByStatusResponse counts = ticketStatusCounterService.countTicketsByStatus(key.requesterId());
+
+        if (Boolean.TRUE.equals(key.urgent())) return nullToZero(counts.getUrgent());
+        if (key.status() == null) return nullToZero(counts.getTotal());
+
+        return switch (key.status()) {
+            case PENDING -> nullToZero(counts.getPending());
+            case IN_PROGRESS -> nullToZero(counts.getInProgress());
+            case REVIEW -> nullToZero(counts.getReviewing());
+            case DONE -> nullToZero(counts.getCompleted());
+            case REJECTED -> Math.max(0L, nullToZero(counts.getTotal()) - nullToZero(counts.getPending())
+                    - nullToZero(counts.getInProgress()) - nullToZero(counts.getReviewing())
+                    - nullToZero(counts.getCompleted()));
+        };
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 목록 조회 결과에 영향을 주지 않는 차이를 제거한 필터 조합.
+     * 긴급 필터가 켜져 있으면 상태 조건은 무시되고, false 는 필터가 없는 것과 같다.
+     */
+    record TicketListCountKey(Ticket.Status status, Long firstCategoryId, Long secondCategoryId, Long ticketTypeId,
+                              Long managerId, Long requesterId, Boolean urgent, String dateOption) {
+
+        static TicketListCountKey of(Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                                     Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                                     String dateOption) {
+            boolean urgentOnly = Boolean.TRUE.equals(urgent);
+            String normalizedDate = (dateOption != null && DATE_OPTIONS.contains(dateOption.toLowerCase()))
+                    ? dateOption.toLowerCase()
+                    : null;
+
+            return new TicketListCountKey(
+                    urgentOnly ? null : status,
+                    firstCategoryId,
+                    secondCategoryId,
+                    ticketTypeId,
+                    managerId,
+                    requesterId,
+                    urgentOnly ? Boolean.TRUE : null,
+                    normalizedDate
+            );
+        }
+
+        boolean isEstimable() {
+            return firstCategoryId == null && secondCategoryId == null && ticketTypeId == null
+                    && managerId == null && dateOption == null;
+        }
+    }
+}
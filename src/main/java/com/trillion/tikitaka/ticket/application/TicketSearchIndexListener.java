@@ -0,0 +1,46 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+
+/**
+ * 티켓 변경이 커밋된 뒤 검색 색인에 반영한다.
+ * 색인 반영에 실패해도 티켓 처리는 이미 끝났으므로 로그만 남기고, 누락분은 색인 재생성으로 복구한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketSearchIndexListener {
+
+    private final TicketRepository ticketRepository;
+    private final TicketSearchIndex ticketSearchIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTicketChange(TicketChangeEvent event) {
+        // 상태/담당자 등의 변경은 색인 필드(제목, 내용, 요청자)에 영향이 없다.
+        if (event.getChangeType() == TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED) return;
+
+        try {
+            TicketSearchDocument document = (event.getChangeType() == TicketChangeEvent.ChangeType.DELETED)
+                    ? null
+                    : ticketRepository.findSearchDocument(event.getTicketId());
+
+            if (document == null) {
+                ticketSearchIndex.delete(event.getTicketId());
+            } else {
+                ticketSearchIndex.upsert(document);
+            }
+        } catch (IOException e) {
+            log.error("[티켓 검색 색인] 티켓 ID: {} 반영 실패: {}", event.getTicketId(), e.getMessage(), e);
+        }
+    }
+}
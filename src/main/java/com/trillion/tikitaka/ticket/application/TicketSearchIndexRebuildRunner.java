@@ -0,0 +1,23 @@
+package com.trillion.tikitaka.ticket.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * --ticket.search.rebuild-on-startup=true 로 기동하면 검색 색인을 DB 기준으로 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.search.rebuild-on-startup", havingValue = "true")
+public class TicketSearchIndexRebuildRunner implements ApplicationRunner {
+
+    private final TicketSearchService ticketSearchService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ticketSearchService.rebuildIndex();
+    }
+}
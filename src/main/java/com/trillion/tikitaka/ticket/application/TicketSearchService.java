@@ -0,0 +1,73 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
+import com.trillion.tikitaka.ticket.exception.InvalidSearchKeywordException;
+import com.trillion.tikitaka.ticket.exception.TicketSearchFailedException;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TicketSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final TicketRepository ticketRepository;
+    private final TicketSearchIndex ticketSearchIndex;
+
+    public Page<TicketListResponse> searchTickets(String keyword, int page, int size, Long requesterId,
+                                                  CustomUserDetails userDetails) {
+        log.info("[티켓 검색] 요청자: {}, 검색어: {}, 요청자 필터: {}", userDetails.getUsername(), keyword, requesterId);
+        if (keyword == null || keyword.isBlank()) throw new InvalidSearchKeywordException();
+
+        // 목록 조회(buildRoleConditionForList)와 같이 사용자는 본인 티켓만 검색한다.
+        String role = userDetails.getUser().getRole().toString();
+        if ("USER".equals(role)) requesterId = userDetails.getUser().getId();
+
+        TicketSearchIndex.Hits hits;
+        try {
+            hits = ticketSearchIndex.search(keyword.trim(), requesterId, page * size, size);
+        } catch (IOException e) {
+            log.error("[티켓 검색] 검색 실패: {}", e.getMessage(), e);
+            throw new TicketSearchFailedException();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < hits.ticketIds().size(); i++) rank.put(hits.ticketIds().get(i), i);
+
+        List<TicketListResponse> content = ticketRepository.getTicketListByIds(hits.ticketIds(), requesterId, role);
+        content.sort(Comparator.comparing(response -> rank.get(response.getTicketId())));
+
+        return new PageImpl<>(content, PageRequest.of(page, size), hits.totalHits());
+    }
+
+    public int rebuildIndex() {
+        log.info("[티켓 검색 색인 재생성] 시작");
+        int indexed;
+        try {
+            indexed = ticketSearchIndex.rebuild(
+                    lastTicketId -> ticketRepository.findSearchDocuments(lastTicketId, REBUILD_BATCH_SIZE));
+        } catch (IOException e) {
+            log.error("[티켓 검색 색인 재생성] 실패: {}", e.getMessage(), e);
+            throw new TicketSearchFailedException();
+        }
+        log.info("[티켓 검색 색인 재생성] 완료, 색인한 티켓 수: {}", indexed);
+        return indexed;
+    }
+}
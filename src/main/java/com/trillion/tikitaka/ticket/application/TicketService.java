@@ -11,23 +11,28 @@ import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
 import com.trillion.tikitaka.history.application.HistoryService;
 import com.trillion.tikitaka.history.domain.TicketHistory;
 import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.event.ManagerBroadcastEvent;
 import com.trillion.tikitaka.notification.event.TicketCreationEvent;
 import com.trillion.tikitaka.notification.event.TicketUpdateEvent;
 import com.trillion.tikitaka.ticket.domain.Ticket;
 import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
 import com.trillion.tikitaka.ticket.dto.request.EditCategory;
 import com.trillion.tikitaka.ticket.dto.request.EditSettingRequest;
+import com.trillion.tikitaka.ticket.dto.TicketCountStrategy;
+import com.trillion.tikitaka.ticket.dto.TicketListCursor;
 import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
 import com.trillion.tikitaka.ticket.dto.response.PendingTicketResponse;
 import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.dto.response.TicketCursorResponse;
 import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
 import com.trillion.tikitaka.ticket.dto.response.TicketResponse;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.ticket.exception.*;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.exception.TicketTypeNotFoundException;
 import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
-import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.exception.UserNotFoundException;
 import com.trillion.tikitaka.user.infrastructure.UserRepository;
@@ -36,9 +41,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -57,6 +64,9 @@ public class TicketService {
     private final HistoryService historyService;
     private final FileService fileService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TicketListCountProvider ticketListCountProvider;
+    private final TicketStatusCounterService ticketStatusCounterService;
+    private final TicketExporter ticketExporter;
 
     @Transactional
     public Long createTicket(CreateTicketRequest request, List<MultipartFile> files, CustomUserDetails userDetails) {
@@ -74,6 +84,7 @@ public class TicketService {
         Ticket ticket = buildTicket(request, requester, manager, ticketType, firstCategory, secondCategory);
         ticket = ticketRepository.save(ticket);
         ticketRepository.flush();
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.CREATED, null);
 
         if (files != null && !files.isEmpty()) {
             log.info("[티켓 생성] 첨부 파일 업로드 시작");
@@ -85,12 +96,9 @@ public class TicketService {
                     new TicketCreationEvent(this, ticket.getManager().getEmail(), ticket, NotificationType.TICKET_CREATE)
             );
         } else {
-            List<User> managers = userRepository.findAllByRole(Role.MANAGER);
-            for (User m : managers) {
-                eventPublisher.publishEvent(
-                        new TicketCreationEvent(this, m.getEmail(), ticket, NotificationType.TICKET_CREATE)
-                );
-            }
+            eventPublisher.publishEvent(new ManagerBroadcastEvent(
+                    this, new TicketCreationEvent(this, null, ticket, NotificationType.TICKET_CREATE)
+            ));
         }
 
         return ticket.getId();
@@ -99,13 +107,55 @@ public class TicketService {
     public TicketCountByStatusResponse countTicketsByStatus(Long requesterId) {
         log.info("[상태별 티켓 수 조회] 요청자: {}", requesterId);
 
-        return ticketRepository.countTicketsByStatus(requesterId);
+        return ticketStatusCounterService.countTicketsByStatus(requesterId);
     }
 
     public Page<TicketListResponse> getTicketList(Pageable pageable, Ticket.Status status, Long firstCategoryId,
                                                   Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId,
                                                   Boolean urgent, String dateOption, String sort, CustomUserDetails userDetails) {
-        log.info("[티켓 목록 조회] 요청자: {}, 상태: {}, 1차/2차 카테고리: {}/{}, 티켓 유형: {}, 담당자: {}, 요청자: {}, 긴급 여부: {}, 정렬: {}, 날짜 옵션: {}",
+        return getTicketList(pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId,
+                urgent, dateOption, sort, TicketCountStrategy.EXACT, null, userDetails);
+    }
+
+    /**
+     * asOf: 마감일 정렬의 마감 전/후 구간 기준 시각. 여러 페이지를 넘겨 볼 때 첫 페이지와 같은 값을 보내야
+     * 페이지 사이에 마감이 지난 티켓이 중복되거나 빠지지 않는다. null 이면 현재 시각
+     */
+    public Page<TicketListResponse> getTicketList(Pageable pageable, Ticket.Status status, Long firstCategoryId,
+                                                  Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId,
+                                                  Boolean urgent, String dateOption, String sort,
+                                                  TicketCountStrategy countStrategy, LocalDateTime asOf,
+                                                  CustomUserDetails userDetails) {
+        log.info("[티켓 목록 조회] 요청자: {}, 상태: {}, 1차/2차 카테고리: {}/{}, 티켓 유형: {}, 담당자: {}, 요청자: {}, 긴급 여부: {}, 정렬: {}, 날짜 옵션: {}, 건수 조회 방식: {}",
+                userDetails.getUsername(), status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, sort, dateOption, countStrategy);
+
+        String role = userDetails.getUser().getRole().toString();
+        if ("USER".equals(role)) requesterId = userDetails.getUser().getId();
+
+        validateTicketType(ticketTypeId);
+        validateCategoryRelation(firstCategoryId, secondCategoryId);
+        validateUserExistence(requesterId);
+        validateUserExistence(managerId);
+
+        if (countStrategy == null || countStrategy == TicketCountStrategy.EXACT) {
+            return ticketRepository.getTicketList(
+                    pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, role, dateOption, sort, asOf
+            );
+        }
+
+        List<TicketListResponse> content = ticketRepository.getTicketListContent(
+                pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, role, dateOption, sort, asOf
+        );
+        Long filteredRequesterId = requesterId;
+        return PageableExecutionUtils.getPage(content, pageable, () -> ticketListCountProvider.count(
+                countStrategy, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, filteredRequesterId, urgent, role, dateOption
+        ));
+    }
+
+    public TicketCursorResponse getTicketListByCursor(String cursor, int size, Ticket.Status status, Long firstCategoryId,
+                                                      Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId,
+                                                      Boolean urgent, String dateOption, String sort, CustomUserDetails userDetails) {
+        log.info("[티켓 목록 커서 조회] 요청자: {}, 상태: {}, 1차/2차 카테고리: {}/{}, 티켓 유형: {}, 담당자: {}, 요청자: {}, 긴급 여부: {}, 정렬: {}, 날짜 옵션: {}",
                 userDetails.getUsername(), status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, sort, dateOption);
 
         String role = userDetails.getUser().getRole().toString();
@@ -116,11 +166,43 @@ public class TicketService {
         validateUserExistence(requesterId);
         validateUserExistence(managerId);
 
-        return ticketRepository.getTicketList(
-                pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, role, dateOption, sort
+        TicketListCursor listCursor = TicketListCursor.decode(cursor);
+        if (listCursor != null && !listCursor.matches(sort, urgent)) {
+            log.error("[티켓 목록 커서 조회] 커서의 정렬/긴급 조건({}/{})과 요청 조건({}/{})이 다릅니다.",
+                    listCursor.getSort(), listCursor.getUrgent(), sort, urgent);
+            throw new InvalidTicketCursorException();
+        }
+
+        return ticketRepository.getTicketListByCursor(
+                listCursor, size, status, firstCategoryId, secondCategoryId, ticketTypeId,
+                managerId, requesterId, urgent, role, dateOption, sort
         );
     }
 
+    /**
+     * 목록 조회와 같은 필터로 티켓을 CSV 로 내보낸다. 필터 검증은 응답을 시작하기 전에 끝내고,
+     * 본문은 응답 스트림에 쓰는 시점에 별도의 읽기 전용 트랜잭션에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportTicketList(Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                                                  Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                                                  String dateOption, CustomUserDetails userDetails) {
+        log.info("[티켓 목록 내보내기] 요청자: {}, 상태: {}, 1차/2차 카테고리: {}/{}, 티켓 유형: {}, 담당자: {}, 요청자: {}, 긴급 여부: {}, 날짜 옵션: {}",
+                userDetails.getUsername(), status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption);
+
+        String role = userDetails.getUser().getRole().toString();
+        if ("USER".equals(role)) requesterId = userDetails.getUser().getId();
+
+        validateTicketType(ticketTypeId);
+        validateCategoryRelation(firstCategoryId, secondCategoryId);
+        validateUserExistence(requesterId);
+        validateUserExistence(managerId);
+
+        Long filteredRequesterId = requesterId;
+        return out -> ticketExporter.export(out, status, firstCategoryId, secondCategoryId, ticketTypeId,
+                managerId, filteredRequesterId, urgent, role, dateOption);
+    }
+
     public TicketResponse getTicket(Long ticketId, CustomUserDetails userDetails) {
         log.info("[티켓 조회] 요청자: {}, 티켓 ID: {}", userDetails.getUsername(), ticketId);
         String role = userDetails.getUser().getRole().toString();
@@ -154,6 +236,7 @@ public class TicketService {
             throw new UnauthorizedTicketEditExeception();
         }
         validateDeadline(request.getDeadline());
+        TicketSnapshot before = TicketSnapshot.of(ticket);
 
         TicketType ticketType = request.getTicketTypeId() != null
                 ? ticketTypeRepository.findById(request.getTicketTypeId()).orElseThrow(TicketTypeNotFoundException::new)
@@ -186,6 +269,7 @@ public class TicketService {
         }
 
         historyService.recordHistory(ticket, user, TicketHistory.UpdateType.TICKET_EDITED);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.UPDATED, before);
 
         if (ticket.getManager() != null) {
             eventPublisher.publishEvent(
@@ -205,7 +289,9 @@ public class TicketService {
                 ? ticketTypeRepository.findById(typeId).orElseThrow(TicketTypeNotFoundException::new)
                 : ticket.getTicketType();
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateType(ticketType);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
         historyService.recordHistory(ticket, user, TicketHistory.UpdateType.TYPE_CHANGE);
@@ -226,7 +312,9 @@ public class TicketService {
 
         User user = userDetails.getUser();
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateManager(manager);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         historyService.recordHistory(ticket, user, TicketHistory.UpdateType.MANAGER_CHANGE);
         eventPublisher.publishEvent(
@@ -254,7 +342,9 @@ public class TicketService {
         Category secondCategory = secondCategoryId != null
                 ? categoryRepository.findById(secondCategoryId).orElseThrow(CategoryNotFoundException::new)
                 : null;
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateCategory(firstCategory, secondCategory);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
 
@@ -271,7 +361,9 @@ public class TicketService {
                 .orElseThrow(TicketNotFoundException::new);
         validateDeadline(editSettingRequest.getDeadline());
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateDaedlineForManager(editSettingRequest.getDeadline());
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
 
@@ -287,7 +379,9 @@ public class TicketService {
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(TicketNotFoundException::new);
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updatePriority(priority);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
 
@@ -303,7 +397,9 @@ public class TicketService {
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(TicketNotFoundException::new);
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateStatus(status);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
 
@@ -320,7 +416,9 @@ public class TicketService {
         log.info("[담당자,유저 티켓 긴급상태 수정] 요청자: {}, 티켓 ID: {}, 상태: {}", userDetails.getUsername(), ticketId, urgent);
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(TicketNotFoundException::new);
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateUrgent(editTicketRequest);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         User user = userDetails.getUser();
         historyService.recordHistory(ticket, user, TicketHistory.UpdateType.URGENT_CHANGE);
@@ -334,12 +432,14 @@ public class TicketService {
         User manager = userRepository.findById(userDetails.getId())
                 .orElseThrow(UserNotFoundException::new);
 
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateStatus(Ticket.Status.IN_PROGRESS);
 
         if (ticket.getManager() == null) {
             log.info("[담당자 티켓 승인] 담당자 지정되지 않은 티켓 - 담당자 자동 지정");
             ticket.updateManager(manager);
         }
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         historyService.recordHistory(ticket, manager, TicketHistory.UpdateType.STATUS_CHANGE);
         eventPublisher.publishEvent(
@@ -352,7 +452,9 @@ public class TicketService {
         log.info("[담당자 티켓 거절] 요청자: {}, 티켓 ID: {}", userDetails.getUsername(), ticketId);
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(TicketNotFoundException::new);
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.updateStatus(Ticket.Status.REJECTED);
+        publishTicketChange(ticket, TicketChangeEvent.ChangeType.ATTRIBUTE_CHANGED, before);
 
         eventPublisher.publishEvent(
                 new TicketUpdateEvent(this, ticket.getRequester().getEmail(), ticket, userDetails.getUsername(), "상태", userDetails.getUser().getRole())
@@ -374,7 +476,9 @@ public class TicketService {
 
         if (user.getUsername().equals(requester.getUsername()) && ticket.getStatus().equals(Ticket.Status.PENDING)) {
 
+            TicketSnapshot before = TicketSnapshot.of(ticket);
             ticketRepository.delete(ticket);
+            publishTicketChange(ticket, TicketChangeEvent.ChangeType.DELETED, before);
 
         } else {
             log.error("[티켓 삭제] 티켓 삭제 권한 없음");
@@ -443,6 +547,15 @@ public class TicketService {
                 .build();
     }
 
+    private void publishTicketChange(Ticket ticket, TicketChangeEvent.ChangeType changeType, TicketSnapshot before) {
+        TicketSnapshot after = null;
+        if (changeType != TicketChangeEvent.ChangeType.DELETED) {
+            ticketRepository.flush();
+            after = TicketSnapshot.of(ticket);
+        }
+        eventPublisher.publishEvent(new TicketChangeEvent(this, ticket.getId(), changeType, before, after));
+    }
+
     private User getUserOrThrow(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
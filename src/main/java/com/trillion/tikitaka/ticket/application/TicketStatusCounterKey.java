@@ -0,0 +1,50 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ticket_status_counters 의 유일 키 (범위, 소유자, 상태, 긴급 여부).
+ */
+record TicketStatusCounterKey(TicketStatusCounter.Scope scope, Long ownerId, Ticket.Status status, boolean urgent)
+        implements Comparable<TicketStatusCounterKey> {
+
+    private static final Comparator<TicketStatusCounterKey> ORDER = Comparator
+            .comparing(TicketStatusCounterKey::scope)
+            .thenComparing(TicketStatusCounterKey::ownerId)
+            .thenComparing(TicketStatusCounterKey::status)
+            .thenComparing(TicketStatusCounterKey::urgent);
+
+    static TicketStatusCounterKey of(TicketStatusCounter counter) {
+        return new TicketStatusCounterKey(counter.getScope(), counter.getOwnerId(), counter.getStatus(),
+                Boolean.TRUE.equals(counter.getUrgent()));
+    }
+
+    // 티켓 하나가 반영되는 카운터 키 목록 (전체, 요청자, 담당자가 있으면 담당자)
+    static List<TicketStatusCounterKey> keysOf(TicketSnapshot snapshot) {
+        List<TicketStatusCounterKey> keys = new ArrayList<>(3);
+        if (snapshot == null || snapshot.status() == null) return keys;
+
+        keys.add(new TicketStatusCounterKey(TicketStatusCounter.Scope.GLOBAL, TicketStatusCounter.GLOBAL_OWNER_ID,
+                snapshot.status(), snapshot.urgent()));
+        if (snapshot.requesterId() != null) {
+            keys.add(new TicketStatusCounterKey(TicketStatusCounter.Scope.REQUESTER, snapshot.requesterId(),
+                    snapshot.status(), snapshot.urgent()));
+        }
+        if (snapshot.managerId() != null) {
+            keys.add(new TicketStatusCounterKey(TicketStatusCounter.Scope.MANAGER, snapshot.managerId(),
+                    snapshot.status(), snapshot.urgent()));
+        }
+        return keys;
+    }
+
+    @Override
+    public int compareTo(TicketStatusCounterKey other) {
+        return ORDER.compare(this, other);
+    }
+}
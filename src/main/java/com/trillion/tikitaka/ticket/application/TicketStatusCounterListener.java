@@ -0,0 +1,27 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 티켓 변경이 커밋된 뒤 별도 트랜잭션에서 상태별 티켓 수를 갱신한다.
+ * 전체(GLOBAL) 카운터 행은 모든 티켓 변경이 갱신하므로, 티켓 트랜잭션 안에서 갱신하면 그 행의 잠금을 트랜잭션이 끝날 때까지 잡게 된다.
+ * 커밋 후 반영이 실패하거나 서버가 내려가 누락된 변경은 매일 밤 보정 작업이 실제 집계로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketStatusCounterListener {
+
+    private final TicketStatusCounterService ticketStatusCounterService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleTicketChange(TicketChangeEvent event) {
+        ticketStatusCounterService.applyChange(event.getBefore(), event.getAfter());
+    }
+}
@@ -0,0 +1,36 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.global.scheduling.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 상태별 티켓 수 카운터의 누락/중복 반영을 매일 새벽 실제 티켓 수로 보정한다.
+ * 보정 중 들어온 변경은 다음 보정에서 맞춰지므로 요청이 적은 시간에 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStatusCounterReconcileScheduler {
+
+    static final String JOB_NAME = "ticket-status-counter-reconcile";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+    private final TicketStatusCounterService ticketStatusCounterService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void reconcileCounters() {
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () -> {
+            log.info("[상태별 티켓 수 보정 스케줄러 시작] 현재 시간: {}", LocalDateTime.now());
+            int repaired = ticketStatusCounterService.reconcile();
+            log.info("[상태별 티켓 수 보정 스케줄러 종료] 보정된 카운터 수: {}", repaired);
+        });
+    }
+}
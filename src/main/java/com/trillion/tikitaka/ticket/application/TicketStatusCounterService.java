@@ -0,0 +1,116 @@
+package com.trillion.tikitaka.ticket.application;
+
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import com.trillion.tikitaka.ticket.dto.TicketStatusCount;
+import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketStatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TicketStatusCounterService {
+
+    private static final Set<Ticket.Status> ACTIVE_STATUSES =
+            EnumSet.of(Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW);
+
+    private final TicketStatusCounterRepository counterRepository;
+    private final TicketRepository ticketRepository;
+
+    /**
+     * 요청자(없으면 전체)의 상태별 티켓 수. 카운터 행 최대 10개(상태 5 x 긴급 여부 2)만 읽는다.
+     */
+    public TicketCountByStatusResponse countTicketsByStatus(Long requesterId) {
+        List<TicketStatusCounter> counters = (requesterId != null)
+                ? counterRepository.findAllByScopeAndOwnerId(TicketStatusCounter.Scope.REQUESTER, requesterId)
+                : counterRepository.findAllByScopeAndOwnerId(TicketStatusCounter.Scope.GLOBAL, TicketStatusCounter.GLOBAL_OWNER_ID);
+
+        Map<Ticket.Status, Long> byStatus = new EnumMap<>(Ticket.Status.class);
+        long total = 0L;
+        long urgent = 0L;
+        for (TicketStatusCounter counter : counters) {
+            long count = counter.getTicketCount();
+            total += count;
+            byStatus.merge(counter.getStatus(), count, Long::sum);
+            if (Boolean.TRUE.equals(counter.getUrgent()) && ACTIVE_STATUSES.contains(counter.getStatus())) {
+                urgent += count;
+            }
+        }
+
+        return new TicketCountByStatusResponse(
+                total,
+                byStatus.getOrDefault(Ticket.Status.PENDING, 0L),
+                byStatus.getOrDefault(Ticket.Status.IN_PROGRESS, 0L),
+                byStatus.getOrDefault(Ticket.Status.REVIEW, 0L),
+                byStatus.getOrDefault(Ticket.Status.DONE, 0L),
+                urgent
+        );
+    }
+
+    /**
+     * 변경 전 상태의 카운터를 1 감소, 변경 후 상태의 카운터를 1 증가시킨다.
+     * 상쇄되는 키는 건너뛰고, 동시 갱신 시 교착 상태가 생기지 않도록 항상 같은 키 순서로 갱신한다.
+     */
+    @Transactional
+    public void applyChange(TicketSnapshot before, TicketSnapshot after) {
+        Map<TicketStatusCounterKey, Long> deltas = new TreeMap<>();
+        TicketStatusCounterKey.keysOf(before).forEach(key -> deltas.merge(key, -1L, Long::sum));
+        TicketStatusCounterKey.keysOf(after).forEach(key -> deltas.merge(key, 1L, Long::sum));
+
+        deltas.forEach((key, delta) -> {
+            if (delta == 0) return;
+            counterRepository.addCount(key.scope().name(), key.ownerId(), key.status().name(), key.urgent(), delta);
+        });
+    }
+
+    /**
+     * tickets 테이블을 다시 집계해 카운터와 다른 행을 바로잡는다.
+     * 반환값은 수정하거나 새로 만든 카운터 행 수.
+     */
+    @Transactional
+    public int reconcile() {
+        Map<TicketStatusCounterKey, Long> actual = new HashMap<>();
+        for (TicketStatusCounter.Scope scope : TicketStatusCounter.Scope.values()) {
+            for (TicketStatusCount count : ticketRepository.countTicketsGroupByStatus(scope)) {
+                actual.put(new TicketStatusCounterKey(scope, count.getOwnerId(), count.getStatus(),
+                        Boolean.TRUE.equals(count.getUrgent())), count.getCount());
+            }
+        }
+
+        int repaired = 0;
+        for (TicketStatusCounter counter : counterRepository.findAll()) {
+            Long expected = actual.remove(TicketStatusCounterKey.of(counter));
+            long expectedCount = (expected != null) ? expected : 0L;
+            if (counter.getTicketCount() != expectedCount) {
+                log.warn("[상태별 티켓 수 보정] 범위: {}, 소유자: {}, 상태: {}, 긴급: {}, 카운터: {} -> 실제: {}",
+                        counter.getScope(), counter.getOwnerId(), counter.getStatus(), counter.getUrgent(),
+                        counter.getTicketCount(), expectedCount);
+                counter.correctCount(expectedCount);
+                repaired++;
+            }
+        }
+
+        for (Map.Entry<TicketStatusCounterKey, Long> missing : actual.entrySet()) {
+            TicketStatusCounterKey key = missing.getKey();
+            counterRepository.save(TicketStatusCounter.builder()
+                    .scope(key.scope())
+                    .ownerId(key.ownerId())
+                    .status(key.status())
+                    .urgent(key.urgent())
+                    .ticketCount(missing.getValue())
+                    .build());
+            repaired++;
+        }
+
+        return repaired;
+    }
+}
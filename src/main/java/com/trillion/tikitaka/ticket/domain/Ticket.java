@@ -17,7 +17,16 @@ import java.util.Objects;
 
 @Builder
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_deleted_status_urgent", columnList = "deleted_at, status, urgent"),
+        @Index(name = "idx_tickets_deleted_created", columnList = "deleted_at, created_at"),
+        @Index(name = "idx_tickets_deleted_updated_status", columnList = "deleted_at, updated_at, status"),
+        @Index(name = "idx_tickets_deleted_deadline", columnList = "deleted_at, deadline"),
+        @Index(name = "idx_tickets_requester_deleted_created", columnList = "requester_id, deleted_at, created_at"),
+        @Index(name = "idx_tickets_manager_deleted_created", columnList = "manager_id, deleted_at, created_at"),
+        @Index(name = "idx_tickets_manager_deleted_status_updated", columnList = "manager_id, deleted_at, status, updated_at"),
+        @Index(name = "idx_tickets_deleted_done", columnList = "deleted_at, done_at")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,6 +34,8 @@ import java.util.Objects;
 @SQLDelete(sql = "UPDATE tickets SET deleted_at = NOW() WHERE id = ?")
 public class Ticket extends DeletedBaseEntity {
 
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -36,6 +47,10 @@ public class Ticket extends DeletedBaseEntity {
     @Column(nullable = false, length = 5000, columnDefinition = "LONGTEXT")
     private String description;
 
+    // 목록 조회용 내용 미리보기 (LONGTEXT 인 description 을 읽지 않기 위해 별도로 저장)
+    @Column(name = "description_preview", length = DESCRIPTION_PREVIEW_LENGTH)
+    private String descriptionPreview;
+
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
@@ -77,9 +92,20 @@ public class Ticket extends DeletedBaseEntity {
     @Builder.Default
     private Double progress = null;
 
+    // 처리 기간 통계용 처리 이력 시각. 최초 담당자 지정/최초 처리 시작은 한 번만 기록하고,
+    // 완료 시각은 완료 상태일 때만 유지한다. (재오픈 후 다시 완료하면 마지막 완료 시각)
+    @Column(name = "first_assigned_at")
+    private LocalDateTime firstAssignedAt;
+
+    @Column(name = "first_in_progress_at")
+    private LocalDateTime firstInProgressAt;
+
+    @Column(name = "done_at")
+    private LocalDateTime doneAt;
+
     public void update(EditTicketRequest request,TicketType ticketType, Category firstCategory, Category secondCategory) {
         if (request.getTitle() != null) this.title = request.getTitle();
-        if (request.getDescription() != null) this.description = request.getDescription();
+        if (request.getDescription() != null) updateDescription(request.getDescription());
         if (request.getDeadline() != null) this.deadline = request.getDeadline();
         if (firstCategory != null) this.firstCategory = firstCategory;
         if (secondCategory != null) this.secondCategory = secondCategory;
@@ -88,7 +114,7 @@ public class Ticket extends DeletedBaseEntity {
     }
     public void updateNullCategory(EditTicketRequest request,TicketType ticketType, Category firstCategory, Category secondCategory) {
         if (request.getTitle() != null) this.title = request.getTitle();
-        if (request.getDescription() != null) this.description = request.getDescription();
+        if (request.getDescription() != null) updateDescription(request.getDescription());
         if (request.getDeadline() != null) this.deadline = request.getDeadline();
         this.firstCategory = firstCategory;
         this.secondCategory = secondCategory;
@@ -96,6 +122,30 @@ public class Ticket extends DeletedBaseEntity {
         if(ticketType != null) this.ticketType = ticketType;
     }
 
+    private void updateDescription(String description) {
+        this.description = description;
+        this.descriptionPreview = previewOf(description);
+    }
+
+    @PrePersist
+    private void initOnCreate() {
+        if (this.descriptionPreview == null) this.descriptionPreview = previewOf(this.description);
+
+        // 담당자나 상태를 지정해 생성한 경우에도 처리 이력 시각을 남긴다.
+        LocalDateTime now = LocalDateTime.now();
+        if (this.manager != null && this.firstAssignedAt == null) this.firstAssignedAt = now;
+        recordStatusTime(now);
+    }
+
+    public static String previewOf(String description) {
+        if (description == null || description.length() <= DESCRIPTION_PREVIEW_LENGTH) return description;
+
+        int end = DESCRIPTION_PREVIEW_LENGTH;
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 한다.
+        if (Character.isHighSurrogate(description.charAt(end - 1))) end--;
+        return description.substring(0, end);
+    }
+
     //사용자
     public void updateCategory(Category firstCategory, Category secondCategory){
         this.firstCategory = firstCategory;
@@ -116,7 +166,9 @@ public class Ticket extends DeletedBaseEntity {
     }
 
     public void updateManager(User manager){
-        if (manager != null) this.manager = manager;
+        if (manager == null) return;
+        if (this.firstAssignedAt == null) this.firstAssignedAt = LocalDateTime.now();
+        this.manager = manager;
     }
 
     public void updateDaedlineForManager(LocalDateTime dateline){
@@ -124,7 +176,18 @@ public class Ticket extends DeletedBaseEntity {
     }
 
     public void updateStatus(Status status){
+        // 완료 상태를 다시 완료로 바꾸는 경우만 완료 시각을 유지하고, 나머지는 지우거나 새로 기록한다.
+        if (this.status != Status.DONE || status != Status.DONE) this.doneAt = null;
         this.status = status;
+        recordStatusTime(LocalDateTime.now());
+    }
+
+    // 처리 중/검토/완료로 바뀐 적이 있으면 처리가 시작된 것으로 본다.
+    private void recordStatusTime(LocalDateTime now) {
+        if (this.status == null) return;
+        boolean started = this.status == Status.IN_PROGRESS || this.status == Status.REVIEW || this.status == Status.DONE;
+        if (started && this.firstInProgressAt == null) this.firstInProgressAt = now;
+        if (this.status == Status.DONE && this.doneAt == null) this.doneAt = now;
     }
 
     public boolean canComment(User user) {
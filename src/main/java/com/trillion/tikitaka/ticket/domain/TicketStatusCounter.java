@@ -0,0 +1,69 @@
+package com.trillion.tikitaka.ticket.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태/긴급 여부별 티켓 수.
+ * 전체(GLOBAL), 요청자별(REQUESTER), 담당자별(MANAGER) 범위로 나누어 관리하며
+ * 티켓 생성/상태·긴급·담당자 변경/삭제 시 커밋 후 별도 트랜잭션에서 증감하고, 매일 밤 실제 집계로 보정한다.
+ * 전체 범위의 ownerId 는 0 이다.
+ */
+@Entity
+@Table(name = "ticket_status_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ticket_status_counters", columnNames = {"scope", "owner_id", "status", "urgent"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketStatusCounter {
+
+    public static final long GLOBAL_OWNER_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Scope scope;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Ticket.Status status;
+
+    @Column(nullable = false)
+    private Boolean urgent;
+
+    @Column(name = "ticket_count", nullable = false)
+    private Long ticketCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public TicketStatusCounter(Scope scope, Long ownerId, Ticket.Status status, Boolean urgent, Long ticketCount) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.status = status;
+        this.urgent = urgent;
+        this.ticketCount = ticketCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void correctCount(long ticketCount) {
+        this.ticketCount = ticketCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum Scope {
+        GLOBAL, REQUESTER, MANAGER
+    }
+}
@@ -0,0 +1,24 @@
+package com.trillion.tikitaka.ticket.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 담당자별 진행 중(대기/처리 중/검토) 티켓 수와 그중 대기 티켓 수. 자동 배정 후보 선정용.
+ */
+@Getter
+@NoArgsConstructor
+public class ManagerTicketLoad {
+
+    private Long managerId;
+    private long active;
+    private long pending;
+
+    @QueryProjection
+    public ManagerTicketLoad(Long managerId, Long active, Long pending) {
+        this.managerId = managerId;
+        this.active = (active != null) ? active : 0L;
+        this.pending = (pending != null) ? pending : 0L;
+    }
+}
@@ -0,0 +1,30 @@
+package com.trillion.tikitaka.ticket.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class MonthlyTicketCount {
+
+    private Long dimensionId;
+    private int created;
+    private int completed;
+    private int urgent;
+    private int inProgress;
+
+    public MonthlyTicketCount(Long dimensionId, int created, int completed, int urgent, int inProgress) {
+        this.dimensionId = dimensionId;
+        this.created = created;
+        this.completed = completed;
+        this.urgent = urgent;
+        this.inProgress = inProgress;
+    }
+
+    /**
+     * 월별 집계 기준. 카테고리는 생성 건수만 가장 하위 카테고리 기준으로 세고, 나머지는 1차 카테고리 기준으로 센다.
+     */
+    public enum Dimension {
+        ALL, FIRST_CATEGORY, LEAF_CATEGORY, MANAGER, TYPE
+    }
+}
@@ -0,0 +1,13 @@
+package com.trillion.tikitaka.ticket.dto;
+
+/**
+ * 티켓 목록 조회 시 전체 건수(totalElements)를 구하는 방식.
+ */
+public enum TicketCountStrategy {
+    // 매 요청마다 목록과 같은 조건으로 count 쿼리를 실행
+    EXACT,
+    // 정규화된 필터 조합을 키로 일정 시간 동안 count 결과를 재사용
+    CACHED,
+    // 상태별 티켓 수에서 계산, 상태/긴급/요청자 외의 필터가 있으면 CACHED 로 대체
+    ESTIMATED
+}
@@ -0,0 +1,87 @@
+package com.trillion.tikitaka.ticket.dto;
+
+import com.trillion.tikitaka.ticket.exception.InvalidTicketCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 티켓 목록 커서 페이지네이션의 연속 토큰.
+ * (정렬 방식, 긴급 필터, 긴급 우선순위 구간, 정렬 키, 티켓 ID, 구간 기준 시각)을 담고 있으며 클라이언트에는 불투명한 문자열로 전달된다.
+ * 마감일 정렬의 마감 전/후 구간은 첫 페이지 조회 시각(asOf)으로 나누고, 다음 페이지도 같은 시각으로 나눈다.
+ * 페이지 사이에 마감이 지난 티켓이 구간을 옮겨 중복되거나 빠지지 않도록 하기 위해서다.
+ * 정렬 방식과 긴급 필터에 따라 정렬 키와 구간 번호의 의미가 달라지므로, 토큰을 만든 조건과 다른 조건으로는 사용할 수 없다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TicketListCursor {
+
+    private static final String DELIMITER = "|";
+    private static final Set<String> SORT_MODES = Set.of("newest", "oldest", "deadline");
+
+    private final String sort;
+    private final Boolean urgent;
+    private final int bucket;
+    private final LocalDateTime sortKey;
+    private final Long ticketId;
+    private final LocalDateTime asOf;
+
+    public static TicketListCursor of(String sort, Boolean urgent, int bucket, LocalDateTime sortKey, Long ticketId,
+                                      LocalDateTime asOf) {
+        return new TicketListCursor(sortModeOf(sort), urgent, bucket, sortKey, ticketId, asOf);
+    }
+
+    /**
+     * 목록 조회와 같은 규칙으로 정렬 파라미터를 정규화한다. (deadline, oldest 외에는 모두 최신순)
+     */
+    public static String sortModeOf(String sort) {
+        if ("deadline".equalsIgnoreCase(sort)) return "deadline";
+        if ("oldest".equalsIgnoreCase(sort)) return "oldest";
+        return "newest";
+    }
+
+    public boolean matches(String sort, Boolean urgent) {
+        return this.sort.equals(sortModeOf(sort)) && Objects.equals(this.urgent, urgent);
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + urgent + DELIMITER + bucket + DELIMITER + sortKey + DELIMITER + ticketId
+                + DELIMITER + asOf;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketListCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 6) throw new InvalidTicketCursorException();
+
+            if (!SORT_MODES.contains(parts[0])) throw new InvalidTicketCursorException();
+            Boolean urgent = parseUrgent(parts[1]);
+
+            int bucket = Integer.parseInt(parts[2]);
+            if (bucket < 0) throw new InvalidTicketCursorException();
+
+            return new TicketListCursor(parts[0], urgent, bucket, LocalDateTime.parse(parts[3]),
+                    Long.parseLong(parts[4]), LocalDateTime.parse(parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTicketCursorException();
+        }
+    }
+
+    private static Boolean parseUrgent(String value) {
+        return switch (value) {
+            case "null" -> null;
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> throw new InvalidTicketCursorException();
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.trillion.tikitaka.ticket.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class TicketSearchDocument {
+
+    private Long ticketId;
+    private String title;
+    private String description;
+    private Long requesterId;
+    private LocalDateTime createdAt;
+
+    @QueryProjection
+    public TicketSearchDocument(Long ticketId, String title, String description, Long requesterId, LocalDateTime createdAt) {
+        this.ticketId = ticketId;
+        this.title = title;
+        this.description = description;
+        this.requesterId = requesterId;
+        this.createdAt = createdAt;
+    }
+}
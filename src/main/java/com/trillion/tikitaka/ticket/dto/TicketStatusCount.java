@@ -0,0 +1,24 @@
+package com.trillion.tikitaka.ticket.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TicketStatusCount {
+
+    private Long ownerId;
+    private Ticket.Status status;
+    private Boolean urgent;
+    private Long count;
+
+    @QueryProjection
+    public TicketStatusCount(Long ownerId, Ticket.Status status, Boolean urgent, Long count) {
+        this.ownerId = ownerId;
+        this.status = status;
+        this.urgent = urgent;
+        this.count = count;
+    }
+}
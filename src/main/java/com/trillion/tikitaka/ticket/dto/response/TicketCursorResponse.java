@@ -0,0 +1,15 @@
+package com.trillion.tikitaka.ticket.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TicketCursorResponse {
+    private List<TicketListResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
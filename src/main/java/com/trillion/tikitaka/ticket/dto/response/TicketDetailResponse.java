@@ -0,0 +1,22 @@
+package com.trillion.tikitaka.ticket.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.trillion.tikitaka.history.dto.response.HistoryResponse;
+import com.trillion.tikitaka.subtask.dto.response.SubtaskResponse;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TicketDetailResponse {
+    private TicketResponse ticket;
+    private List<TicketCommentResponse> comments;
+    private List<SubtaskResponse> subtasks;
+    // 검토 내역은 담당자/관리자에게만 포함
+    private List<ReviewListResponse> reviews;
+    private List<HistoryResponse> histories;
+}
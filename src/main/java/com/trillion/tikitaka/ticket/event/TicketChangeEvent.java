@@ -0,0 +1,32 @@
+package com.trillion.tikitaka.ticket.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 티켓이 생성/수정/삭제되었음을 알리는 도메인 이벤트.
+ * 검색 색인, 상태별 건수처럼 티켓 데이터를 따로 유지하는 구성 요소가 구독한다.
+ * before 는 생성 시, after 는 삭제 시 null 이다.
+ */
+@Getter
+public class TicketChangeEvent extends ApplicationEvent {
+    private final Long ticketId;
+    private final ChangeType changeType;
+    private final TicketSnapshot before;
+    private final TicketSnapshot after;
+
+    public TicketChangeEvent(Object source, Long ticketId, ChangeType changeType, TicketSnapshot before, TicketSnapshot after) {
+        super(source);
+        this.ticketId = ticketId;
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,            // 제목/내용 등 사용자 수정
+        ATTRIBUTE_CHANGED,  // 상태, 긴급, 담당자, 카테고리, 유형, 우선순위, 마감기한 변경
+        DELETED
+    }
+}
@@ -0,0 +1,49 @@
+package com.trillion.tikitaka.ticket.event;
+
+import com.trillion.tikitaka.ticket.domain.Ticket;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계(상태별 건수, 통계)에 쓰이는 티켓 속성의 특정 시점 값.
+ * 변경 전/후 스냅샷을 비교해 집계 테이블에 증감분만 반영한다.
+ * updatedAt 은 감사(auditing) 값이므로 변경 후 스냅샷은 flush 뒤에 만들어야 한다.
+ */
+public record TicketSnapshot(
+        Long ticketId,
+        Long requesterId,
+        Long managerId,
+        Ticket.Status status,
+        boolean urgent,
+        Long firstCategoryId,
+        Long secondCategoryId,
+        Long ticketTypeId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime firstInProgressAt,
+        LocalDateTime doneAt
+) {
+
+    public static TicketSnapshot of(Ticket ticket) {
+        return new TicketSnapshot(
+                ticket.getId(),
+                ticket.getRequester() != null ? ticket.getRequester().getId() : null,
+                ticket.getManager() != null ? ticket.getManager().getId() : null,
+                ticket.getStatus(),
+                Boolean.TRUE.equals(ticket.getUrgent()),
+                ticket.getFirstCategory() != null ? ticket.getFirstCategory().getId() : null,
+                ticket.getSecondCategory() != null ? ticket.getSecondCategory().getId() : null,
+                ticket.getTicketType() != null ? ticket.getTicketType().getId() : null,
+                ticket.getCreatedAt(),
+                ticket.getUpdatedAt(),
+                ticket.getFirstInProgressAt(),
+                ticket.getDoneAt()
+        );
+    }
+
+    // 엔티티를 거치지 않고 담당자만 일괄 변경한 경우의 변경 후 스냅샷
+    public TicketSnapshot withManager(Long managerId, LocalDateTime updatedAt) {
+        return new TicketSnapshot(ticketId, requesterId, managerId, status, urgent, firstCategoryId, secondCategoryId,
+                ticketTypeId, createdAt, updatedAt, firstInProgressAt, doneAt);
+    }
+}
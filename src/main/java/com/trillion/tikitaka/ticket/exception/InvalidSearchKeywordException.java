@@ -0,0 +1,10 @@
+package com.trillion.tikitaka.ticket.exception;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+
+public class InvalidSearchKeywordException extends CustomException {
+    public InvalidSearchKeywordException() {
+        super(ErrorCode.INVALID_SEARCH_KEYWORD);
+    }
+}
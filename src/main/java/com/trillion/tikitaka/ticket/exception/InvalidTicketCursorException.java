@@ -0,0 +1,10 @@
+package com.trillion.tikitaka.ticket.exception;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+
+public class InvalidTicketCursorException extends CustomException {
+    public InvalidTicketCursorException() {
+        super(ErrorCode.INVALID_TICKET_CURSOR);
+    }
+}
@@ -0,0 +1,10 @@
+package com.trillion.tikitaka.ticket.exception;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+
+public class TicketSearchFailedException extends CustomException {
+    public TicketSearchFailedException() {
+        super(ErrorCode.TICKET_SEARCH_FAILED);
+    }
+}
@@ -1,27 +1,68 @@
 package com.trillion.tikitaka.ticket.infrastructure;
 
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import com.trillion.tikitaka.ticket.dto.ManagerTicketLoad;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
+import com.trillion.tikitaka.ticket.dto.TicketListCursor;
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import com.trillion.tikitaka.ticket.dto.TicketStatusCount;
 import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.dto.response.TicketCursorResponse;
 import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
 import com.trillion.tikitaka.ticket.dto.response.TicketResponse;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomTicketRepository {
     TicketCountByStatusResponse countTicketsByStatus(Long requesterId);
 
+    List<TicketStatusCount> countTicketsGroupByStatus(TicketStatusCounter.Scope scope);
+
+    List<MonthlyTicketCount> countMonthlyTickets(MonthlyTicketCount.Dimension dimension, LocalDateTime start, LocalDateTime end);
+
+    List<TicketSnapshot> findDurationSnapshots(LocalDateTime start, LocalDateTime end);
+
+    List<TicketSnapshot> findSnapshotsByRequester(Long requesterId);
+
+    // asOf: 마감일 정렬의 마감 전/후 구간 기준 시각. null 이면 현재 시각
     Page<TicketListResponse> getTicketList(Pageable pageable, Ticket.Status status, Long firstCategoryId,
                                            Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
-                                           String role, String dateOption, String sort);
+                                           String role, String dateOption, String sort, LocalDateTime asOf);
+
+    List<TicketListResponse> getTicketListContent(Pageable pageable, Ticket.Status status, Long firstCategoryId,
+                                                  Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId,
+                                                  Boolean urgent, String role, String dateOption, String sort, LocalDateTime asOf);
+
+    Long countTicketList(Ticket.Status status, Long firstCategoryId, Long secondCategoryId, Long ticketTypeId,
+                         Long managerId, Long requesterId, Boolean urgent, String role, String dateOption);
+
+    TicketCursorResponse getTicketListByCursor(TicketListCursor cursor, int size, Ticket.Status status, Long firstCategoryId,
+                                               Long secondCategoryId, Long ticketTypeId, Long managerId, Long requesterId,
+                                               Boolean urgent, String role, String dateOption, String sort);
+
+    Stream<TicketListResponse> streamTicketList(Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                                                Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                                                String role, String dateOption);
 
     TicketResponse getTicket(Long ticketId, Long userId, String role);
 
+    List<TicketListResponse> getTicketListByIds(List<Long> ticketIds, Long requesterId, String role);
+
+    TicketSearchDocument findSearchDocument(Long ticketId);
+
+    List<TicketSearchDocument> findSearchDocuments(Long afterTicketId, int limit);
+
     List<Ticket> findUnassignedTickets(LocalDateTime createdBefore);
 
+    List<ManagerTicketLoad> countManagerLoads(List<Ticket.Status> activeStatuses);
+
     Long countTicketsByManagerAndStatusIn(User manager, List<Ticket.Status> statuses);
 
     Long countByManagerAndTicketStatus(User manager, Ticket.Status status);
@@ -1,23 +1,42 @@
 package com.trillion.tikitaka.ticket.infrastructure;
 
+import com.trillion.tikitaka.global.export.ExportQueryHints;
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import com.trillion.tikitaka.ticket.dto.ManagerTicketLoad;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
+import com.trillion.tikitaka.ticket.dto.QManagerTicketLoad;
+import com.trillion.tikitaka.ticket.dto.QTicketSearchDocument;
+import com.trillion.tikitaka.ticket.dto.QTicketStatusCount;
+import com.trillion.tikitaka.ticket.dto.TicketListCursor;
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import com.trillion.tikitaka.ticket.dto.TicketStatusCount;
 import com.trillion.tikitaka.ticket.dto.response.*;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.user.domain.User;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Coalesce;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.trillion.tikitaka.ticket.domain.QTicket.ticket;
 
@@ -69,16 +88,277 @@ public class CustomTicketRepositoryImpl implements CustomTicketRepository {
                 .fetchOne();
     }
 
+    /**
+     * 상태별 건수 테이블 보정용. 범위(전체/요청자별/담당자별)마다 (소유자, 상태, 긴급 여부) 별 실제 티켓 수를 한 번에 집계한다.
+     */
+    @Override
+    public List<TicketStatusCount> countTicketsGroupByStatus(TicketStatusCounter.Scope scope) {
+        if (scope == TicketStatusCounter.Scope.GLOBAL) {
+            return queryFactory
+                    .select(ticket.status, ticket.urgent, ticket.count())
+                    .from(ticket)
+                    .groupBy(ticket.status, ticket.urgent)
+                    .fetch()
+                    .stream()
+                    .map(row -> new TicketStatusCount(TicketStatusCounter.GLOBAL_OWNER_ID,
+                            row.get(ticket.status), row.get(ticket.urgent), row.get(ticket.count())))
+                    .toList();
+        }
+
+        NumberPath<Long> ownerId = (scope == TicketStatusCounter.Scope.REQUESTER)
+                ? ticket.requester.id
+                : ticket.manager.id;
+
+        return queryFactory
+                .select(new QTicketStatusCount(ownerId, ticket.status, ticket.urgent, ticket.count()))
+                .from(ticket)
+                .where(ownerId.isNotNull())
+                .groupBy(ownerId, ticket.status, ticket.urgent)
+                .fetch();
+    }
+
+    /**
+     * 월별 통계용. [start, end) 기간의 생성/완료/긴급/처리 중 건수를 기준(dimension)별로 한 번에 집계한다.
+     * 생성/긴급/처리 중은 생성일, 완료는 완료 상태 티켓의 완료일 기준이다.
+     * 기간 조건을 컬럼 그대로 비교하므로 created_at/done_at 인덱스를 사용할 수 있다.
+     */
+    @Override
+    public List<MonthlyTicketCount> countMonthlyTickets(MonthlyTicketCount.Dimension dimension,
+                                                        LocalDateTime start, LocalDateTime end) {
+        BooleanExpression createdInRange = ticket.createdAt.goe(start).and(ticket.createdAt.lt(end));
+        BooleanExpression completedInRange = ticket.status.eq(Ticket.Status.DONE)
+                .and(ticket.doneAt.goe(start))
+                .and(ticket.doneAt.lt(end));
+
+        NumberExpression<Long> created = countIf(createdInRange);
+        NumberExpression<Long> completed = countIf(completedInRange);
+        NumberExpression<Long> urgent = countIf(createdInRange.and(ticket.urgent.isTrue()));
+        NumberExpression<Long> inProgress = countIf(createdInRange.and(ticket.status.eq(Ticket.Status.IN_PROGRESS)));
+
+        NumberExpression<Long> dimensionId = switch (dimension) {
+            case ALL -> null;
+            case FIRST_CATEGORY -> ticket.firstCategory.id;
+            case LEAF_CATEGORY -> new Coalesce<Long>(Long.class, ticket.secondCategory.id, ticket.firstCategory.id).asNumber();
+            case MANAGER -> ticket.manager.id;
+            case TYPE -> ticket.ticketType.id;
+        };
+
+        JPAQuery<Tuple> query = (dimensionId == null)
+                ? queryFactory.select(created, completed, urgent, inProgress)
+                : queryFactory.select(dimensionId, created, completed, urgent, inProgress);
+
+        query.from(ticket).where(createdInRange.or(completedInRange));
+        if (dimensionId != null) {
+            query.where(dimensionId.isNotNull()).groupBy(dimensionId);
+        }
+
+        return query.fetch().stream()
+                .map(row -> new MonthlyTicketCount(
+                        (dimensionId != null) ? row.get(dimensionId) : null,
+                        toInt(row.get(created)),
+                        toInt(row.get(completed)),
+                        toInt(row.get(urgent)),
+                        toInt(row.get(inProgress))
+                ))
+                .toList();
+    }
+
+    /**
+     * 월별 통계 처리 기간 재집계용. [start, end) 기간에 완료되었거나 처리가 시작된 티켓의 스냅샷을 조회한다.
+     */
+    @Override
+    public List<TicketSnapshot> findDurationSnapshots(LocalDateTime start, LocalDateTime end) {
+        return queryFactory
+                .select(Projections.constructor(TicketSnapshot.class,
+                        ticket.id, ticket.requester.id, ticket.manager.id, ticket.status, ticket.urgent,
+                        ticket.firstCategory.id, ticket.secondCategory.id, ticket.ticketType.id,
+                        ticket.createdAt, ticket.updatedAt, ticket.firstInProgressAt, ticket.doneAt))
+                .from(ticket)
+                .where(ticket.status.eq(Ticket.Status.DONE).and(ticket.doneAt.goe(start)).and(ticket.doneAt.lt(end))
+                        .or(ticket.firstInProgressAt.goe(start).and(ticket.firstInProgressAt.lt(end))))
+                .fetch();
+    }
+
+    // 요청자의 (삭제되지 않은) 티켓 스냅샷. 일괄 삭제 전에 집계에서 뺄 값을 읽는다.
+    @Override
+    public List<TicketSnapshot> findSnapshotsByRequester(Long requesterId) {
+        return queryFactory
+                .select(Projections.constructor(TicketSnapshot.class,
+                        ticket.id, ticket.requester.id, ticket.manager.id, ticket.status, ticket.urgent,
+                        ticket.firstCategory.id, ticket.secondCategory.id, ticket.ticketType.id,
+                        ticket.createdAt, ticket.updatedAt, ticket.firstInProgressAt, ticket.doneAt))
+                .from(ticket)
+                .where(ticket.requester.id.eq(requesterId))
+                .fetch();
+    }
+
+    private NumberExpression<Long> countIf(BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum();
+    }
+
+    // 집계 대상이 없으면 SUM 결과가 null 이다.
+    private int toInt(Long value) {
+        return (value != null) ? value.intValue() : 0;
+    }
+
     @Override
     public Page<TicketListResponse> getTicketList(
             Pageable pageable, Ticket.Status status, Long firstCategoryId, Long secondCategoryId, Long ticketTypeId,
-            Long managerId, Long requesterId, Boolean urgent, String role, String dateOption, String sort) {
+            Long managerId, Long requesterId, Boolean urgent, String role, String dateOption, String sort, LocalDateTime asOf) {
+
+        List<TicketListResponse> content = getTicketListContent(pageable, status, firstCategoryId, secondCategoryId,
+                ticketTypeId, managerId, requesterId, urgent, role, dateOption, sort, asOf);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countTicketList(
+                status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, role, dateOption
+        ));
+    }
+
+    @Override
+    public List<TicketListResponse> getTicketListContent(
+            Pageable pageable, Ticket.Status status, Long firstCategoryId, Long secondCategoryId, Long ticketTypeId,
+            Long managerId, Long requesterId, Boolean urgent, String role, String dateOption, String sort, LocalDateTime asOf) {
+
+        Predicate[] conditions = listConditions(status, firstCategoryId, secondCategoryId, ticketTypeId,
+                managerId, requesterId, urgent, role, dateOption);
 
-        List<TicketListResponse> content = queryFactory
+        if (isDeadlineSort(sort)) {
+            // 페이지마다 같은 기준 시각으로 나눠야 마감이 지난 티켓이 페이지 사이에 구간을 옮기지 않는다.
+            LocalDateTime boundary = (asOf != null) ? asOf : LocalDateTime.now();
+            return getTicketListByPartitions(pageable, conditions, getListPartitions(urgent, sort, boundary));
+        }
+
+        return selectTicketList()
+                .where(conditions)
+                .orderBy(
+                        getUrgentPriority().asc(),
+                        getMainOrder(sort)
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * 구간 순서대로 이어 붙인 결과에서 한 페이지를 잘라낸다.
+     * 구간마다 deadline 컬럼 그대로 정렬하므로 인덱스 순서대로 읽을 수 있고,
+     * 페이지 시작 전에 통째로 건너뛰는 구간만 건수를 세어 오프셋에서 뺀다.
+     */
+    private List<TicketListResponse> getTicketListByPartitions(Pageable pageable, Predicate[] conditions,
+                                                               List<BooleanExpression> partitions) {
+        List<TicketListResponse> content = new ArrayList<>();
+        long offset = pageable.getOffset();
+
+        for (BooleanExpression partition : partitions) {
+            int remaining = pageable.getPageSize() - content.size();
+            if (remaining <= 0) break;
+
+            List<TicketListResponse> rows = selectTicketList()
+                    .where(conditions)
+                    .where(partition)
+                    .orderBy(ticket.deadline.asc(), ticket.id.asc())
+                    .offset(offset)
+                    .limit(remaining)
+                    .fetch();
+
+            if (rows.isEmpty() && offset > 0) {
+                Long skipped = queryFactory
+                        .select(ticket.count())
+                        .from(ticket)
+                        .where(conditions)
+                        .where(partition)
+                        .fetchOne();
+                offset -= (skipped != null) ? Math.min(skipped, offset) : 0L;
+                continue;
+            }
+
+            content.addAll(rows);
+            offset = 0;
+        }
+        return content;
+    }
+
+    @Override
+    public Long countTicketList(Ticket.Status status, Long firstCategoryId, Long secondCategoryId, Long ticketTypeId,
+                                Long managerId, Long requesterId, Boolean urgent, String role, String dateOption) {
+        // 필터 조건은 모두 ticket 테이블 컬럼이므로 목록 조회와 달리 조인 없이 센다.
+        return queryFactory
+                .select(ticket.count())
+                .from(ticket)
+                .where(listConditions(status, firstCategoryId, secondCategoryId, ticketTypeId,
+                        managerId, requesterId, urgent, role, dateOption))
+                .fetchOne();
+    }
+
+    @Override
+    public TicketCursorResponse getTicketListByCursor(
+            TicketListCursor cursor, int size, Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+            Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent, String role, String dateOption, String sort) {
+
+        // 긴급 우선순위(마감일 정렬이면 마감 지남 여부까지) 구간마다 별도로 seek 하여 ORDER BY 에 CASE 식이 들어가지 않도록 한다.
+        // 마감 전/후 구간 기준 시각은 첫 페이지에서 정해 커서로 이어 받는다.
+        LocalDateTime asOf = (cursor != null) ? cursor.getAsOf() : LocalDateTime.now();
+        List<BooleanExpression> buckets = getListPartitions(urgent, sort, asOf);
+        DateTimePath<LocalDateTime> sortKey = getCursorSortKey(sort);
+        boolean ascending = !isNewestFirst(sort);
+
+        List<TicketListResponse> content = new ArrayList<>();
+        List<Integer> contentBuckets = new ArrayList<>();
+        int startBucket = (cursor != null) ? cursor.getBucket() : 0;
+
+        for (int bucket = startBucket; bucket < buckets.size() && content.size() <= size; bucket++) {
+            TicketListCursor seekFrom = (cursor != null && bucket == cursor.getBucket()) ? cursor : null;
+
+            List<TicketListResponse> rows = selectTicketList()
+                    .where(listConditions(status, firstCategoryId, secondCategoryId, ticketTypeId,
+                            managerId, requesterId, urgent, role, dateOption))
+                    .where(buckets.get(bucket), seekAfter(seekFrom, sortKey, ascending))
+                    .orderBy(ascending ? sortKey.asc() : sortKey.desc(),
+                            ascending ? ticket.id.asc() : ticket.id.desc())
+                    .limit(size + 1L - content.size())
+                    .fetch();
+
+            content.addAll(rows);
+            for (int i = 0; i < rows.size(); i++) contentBuckets.add(bucket);
+        }
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = new ArrayList<>(content.subList(0, size));
+
+        String nextCursor = null;
+        if (hasNext) {
+            TicketListResponse last = content.get(content.size() - 1);
+            LocalDateTime lastKey = isDeadlineSort(sort) ? last.getDeadline() : last.getCreatedAt();
+            nextCursor = TicketListCursor.of(sort, urgent, contentBuckets.get(content.size() - 1), lastKey, last.getTicketId(), asOf)
+                    .encode();
+        }
+
+        return new TicketCursorResponse(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 내보내기용. 목록 조회와 같은 조건을 ID 순으로 한 번에 읽되, 결과를 메모리에 모으지 않고 커서로 한 행씩 넘긴다.
+     * 엔티티가 아닌 DTO 로 읽으므로 영속성 컨텍스트에 쌓이지 않는다. 호출한 쪽에서 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @Override
+    public Stream<TicketListResponse> streamTicketList(Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                                                       Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                                                       String role, String dateOption) {
+        return selectTicketList()
+                .where(listConditions(status, firstCategoryId, secondCategoryId, ticketTypeId,
+                        managerId, requesterId, urgent, role, dateOption))
+                .orderBy(ticket.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportQueryHints.STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private JPAQuery<TicketListResponse> selectTicketList() {
+        return queryFactory
                 .select(new QTicketListResponse(
                         ticket.id.as("ticketId"),
                         ticket.title,
-                        ticket.description,
+                        ticket.descriptionPreview.as("description"),
                         ticket.ticketType.name.as("typeName"),
                         ticket.firstCategory.name.as("firstCategoryName"),
                         ticket.secondCategory.name.as("secondCategoryName"),
@@ -95,46 +375,23 @@ public class CustomTicketRepositoryImpl implements CustomTicketRepository {
                 .leftJoin(ticket.firstCategory)
                 .leftJoin(ticket.secondCategory)
                 .leftJoin(ticket.manager)
-                .leftJoin(ticket.requester)
-                .where(
-                        buildRoleConditionForList(requesterId, role),
-                        ticketTypeEq(ticketTypeId),
-                        firstCategoryEq(firstCategoryId),
-                        secondCategoryEq(secondCategoryId),
-                        managerEq(managerId),
-                        urgentStatusCondition(status, urgent),
-                        deletedAtEqNull(),
-                        createdAtBetween(dateOption),
-                        urgentCondition(urgent)
-                )
-                .orderBy(
-                        getUrgentPriority().asc(),
-                        getMainOrder(sort)
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = queryFactory
-                .select(ticket.count())
-                .from(ticket)
-                .leftJoin(ticket.ticketType)
-                .leftJoin(ticket.firstCategory)
-                .leftJoin(ticket.secondCategory)
-                .leftJoin(ticket.manager)
-                .where(
-                        buildRoleConditionForList(requesterId, role),
-                        ticketTypeEq(ticketTypeId),
-                        firstCategoryEq(firstCategoryId),
-                        secondCategoryEq(secondCategoryId),
-                        managerEq(managerId),
-                        urgentStatusCondition(status, urgent),
-                        deletedAtEqNull(),
-                        createdAtBetween(dateOption),
-                        urgentCondition(urgent)
-                );
+                .leftJoin(ticket.requester);
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private Predicate[] listConditions(Ticket.Status status, Long firstCategoryId, Long secondCategoryId,
+                                       Long ticketTypeId, Long managerId, Long requesterId, Boolean urgent,
+                                       String role, String dateOption) {
+        return new Predicate[]{
+                buildRoleConditionForList(requesterId, role),
+                ticketTypeEq(ticketTypeId),
+                firstCategoryEq(firstCategoryId),
+                secondCategoryEq(secondCategoryId),
+                managerEq(managerId),
+                urgentStatusCondition(status, urgent),
+                deletedAtEqNull(),
+                createdAtBetween(dateOption),
+                urgentCondition(urgent)
+        };
     }
 
     @Override
@@ -176,6 +433,50 @@ public class CustomTicketRepositoryImpl implements CustomTicketRepository {
                 .fetchOne();
     }
 
+    @Override
+    public List<TicketListResponse> getTicketListByIds(List<Long> ticketIds, Long requesterId, String role) {
+        if (ticketIds.isEmpty()) return new ArrayList<>();
+
+        return selectTicketList()
+                .where(
+                        ticket.id.in(ticketIds),
+                        buildRoleConditionForList(requesterId, role),
+                        deletedAtEqNull()
+                )
+                .fetch();
+    }
+
+    @Override
+    public TicketSearchDocument findSearchDocument(Long ticketId) {
+        return selectSearchDocument()
+                .where(ticketIdEq(ticketId), deletedAtEqNull())
+                .fetchOne();
+    }
+
+    @Override
+    public List<TicketSearchDocument> findSearchDocuments(Long afterTicketId, int limit) {
+        return selectSearchDocument()
+                .where(
+                        afterTicketId != null ? ticket.id.gt(afterTicketId) : null,
+                        deletedAtEqNull()
+                )
+                .orderBy(ticket.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<TicketSearchDocument> selectSearchDocument() {
+        return queryFactory
+                .select(new QTicketSearchDocument(
+                        ticket.id,
+                        ticket.title,
+                        ticket.description,
+                        ticket.requester.id,
+                        ticket.createdAt
+                ))
+                .from(ticket);
+    }
+
     @Override
     public List<Ticket> findUnassignedTickets(LocalDateTime createdBefore) {
         return queryFactory
@@ -188,6 +489,28 @@ public class CustomTicketRepositoryImpl implements CustomTicketRepository {
                 .fetch();
     }
 
+    /**
+     * 자동 배정용. 진행 중 티켓이 있는 담당자별 진행 중/대기 티켓 수를 한 번에 집계한다.
+     * 진행 중 티켓이 없는 담당자는 결과에 없다.
+     */
+    @Override
+    public List<ManagerTicketLoad> countManagerLoads(List<Ticket.Status> activeStatuses) {
+        return queryFactory
+                .select(new QManagerTicketLoad(
+                        ticket.manager.id,
+                        ticket.count(),
+                        countIf(ticket.status.eq(Ticket.Status.PENDING))
+                ))
+                .from(ticket)
+                .where(
+                        ticket.manager.isNotNull()
+                        .and(ticket.status.in(activeStatuses)),
+                        deletedAtEqNull()
+                )
+                .groupBy(ticket.manager.id)
+                .fetch();
+    }
+
     @Override
     public Long countTicketsByManagerAndStatusIn(User manager, List<Ticket.Status> statuses) {
         return queryFactory
@@ -225,23 +548,61 @@ public class CustomTicketRepositoryImpl implements CustomTicketRepository {
     }
 
     private OrderSpecifier<?> getMainOrder(String sort) {
+        // 마감일 정렬은 getTicketListByPartitions() 에서 구간별로 처리한다.
         if ("oldest".equalsIgnoreCase(sort)) {
             return ticket.createdAt.asc();
-        } else if ("deadline".equalsIgnoreCase(sort)) {
-            // 마감 시점이 이미 지났으면 큰 숫자(999999999),
-            // 그렇지 않으면 (NOW() ~ deadline) 사이의 초 차이
-            return Expressions.numberTemplate(
-                    Long.class,
-                    "CASE WHEN {0} < NOW() THEN 999999999 " +
-                            "     ELSE TIMESTAMPDIFF(SECOND, NOW(), {0}) " +
-                            "END",
-                    ticket.deadline
-            ).asc();
         } else {
             return ticket.createdAt.desc();
         }
     }
 
+    private List<BooleanExpression> getListPartitions(Boolean urgent, String sort, LocalDateTime now) {
+        List<BooleanExpression> urgentBuckets = getUrgentBuckets(urgent);
+        if (!isDeadlineSort(sort)) return urgentBuckets;
+
+        // 긴급 구간마다 마감 전 티켓을 마감이 임박한 순으로 먼저, 마감이 지난 티켓을 그 뒤에 둔다.
+        List<BooleanExpression> partitions = new ArrayList<>();
+        for (BooleanExpression bucket : urgentBuckets) {
+            partitions.add(bucket.and(ticket.deadline.goe(now)));
+            partitions.add(bucket.and(ticket.deadline.lt(now)));
+        }
+        return partitions;
+    }
+
+    private List<BooleanExpression> getUrgentBuckets(Boolean urgent) {
+        // 0: 긴급 & (대기/처리중/검토), 1: 그 외 - getUrgentPriority() 와 같은 순서
+        BooleanExpression urgentActive = ticket.urgent.eq(true)
+                .and(ticket.status.in(Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW));
+
+        if (Boolean.TRUE.equals(urgent)) {
+            return List.of(urgentActive);
+        }
+        return List.of(urgentActive, urgentActive.not());
+    }
+
+    private DateTimePath<LocalDateTime> getCursorSortKey(String sort) {
+        return isDeadlineSort(sort) ? ticket.deadline : ticket.createdAt;
+    }
+
+    private boolean isDeadlineSort(String sort) {
+        return "deadline".equalsIgnoreCase(sort);
+    }
+
+    private boolean isNewestFirst(String sort) {
+        return !"oldest".equalsIgnoreCase(sort) && !isDeadlineSort(sort);
+    }
+
+    private BooleanExpression seekAfter(TicketListCursor cursor, DateTimePath<LocalDateTime> sortKey, boolean ascending) {
+        if (cursor == null) return null;
+
+        if (ascending) {
+            return sortKey.gt(cursor.getSortKey())
+                    .or(sortKey.eq(cursor.getSortKey()).and(ticket.id.gt(cursor.getTicketId())));
+        }
+        return sortKey.lt(cursor.getSortKey())
+                .or(sortKey.eq(cursor.getSortKey()).and(ticket.id.lt(cursor.getTicketId())));
+    }
+
     private BooleanExpression ticketIdEq(Long ticketId) {
         return ticket.id.eq(ticketId);
     }
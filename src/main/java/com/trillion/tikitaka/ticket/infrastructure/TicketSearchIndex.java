@@ -0,0 +1,326 @@
+package com.trillion.tikitaka.ticket.infrastructure;
+
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 티켓 제목/내용 전문 검색용 Lucene 색인.
+ * ticket.search.index-path 가 비어 있으면 메모리에 색인한다. (테스트 프로필)
+ * 색인 변경과 commit 은 lock 으로 직렬화한다. 재생성 중에 들어온 변경은 모아 두었다가 새 색인에 이어서 반영한다.
+ * 변경은 NRT(near-real-time) 갱신으로 바로 검색되고, 디스크 commit(fsync) 은 주기적으로 모아서 한다.
+ * 기동 중 죽으면 마지막 commit 이후 변경이 빠질 수 있으므로, 그때는 재생성으로 맞춘다.
+ */
+@Slf4j
+@Component
+public class TicketSearchIndex implements DisposableBean {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String REQUESTER_ID = "requesterId";
+    private static final String CREATED_AT = "createdAt";
+
+    private final boolean inMemory;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    // 재생성 실패 시 되돌리면서 다시 열므로 final 이 아니다. lock 을 잡고만 바꾼다.
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private final ReentrantLock lock = new ReentrantLock();
+    // 재생성 중에 들어온 변경 (티켓 ID -> 문서, 삭제는 null). 재생성 중이 아니면 null 이다.
+    private Map<Long, TicketSearchDocument> pendingChanges;
+
+    public TicketSearchIndex(@Value("${ticket.search.index-path:}") String indexPath) throws IOException {
+        this.inMemory = (indexPath == null || indexPath.isBlank());
+        this.directory = inMemory
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        this.analyzer = new KoreanAnalyzer();
+        openWriter();
+        log.info("[티켓 검색 색인] 색인 위치: {}, 문서 수: {}",
+                inMemory ? "memory" : indexPath, writer.getDocStats().numDocs);
+    }
+
+    public void upsert(TicketSearchDocument document) throws IOException {
+        lock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(document.getTicketId(), document);
+                return;
+            }
+            writer.updateDocument(idTerm(document.getTicketId()), toDocument(document));
+            searcherManager.maybeRefresh();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void delete(Long ticketId) throws IOException {
+        lock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(ticketId, null);
+                return;
+            }
+            writer.deleteDocuments(idTerm(ticketId));
+            searcherManager.maybeRefresh();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addAll(List<TicketSearchDocument> documents) throws IOException {
+        lock.lock();
+        try {
+            for (TicketSearchDocument document : documents) {
+                writer.updateDocument(idTerm(document.getTicketId()), toDocument(document));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void commit() throws IOException {
+        lock.lock();
+        try {
+            commitLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 수정/삭제마다 fsync 하지 않도록 디스크 commit 은 주기적으로 모아서 한다.
+    @Scheduled(fixedDelayString = "${ticket.search.commit-interval-ms:5000}")
+    public void commitPending() {
+        try {
+            commit();
+        } catch (IOException | RuntimeException e) {
+            log.error("[티켓 검색 색인] commit 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 색인을 다시 만든다. batchAfter 는 마지막으로 읽은 티켓 ID(처음은 null) 다음 묶음을 반환하고, 빈 목록이면 끝이다.
+     * 별도 색인에 모두 쓴 뒤 기존 색인과 한 번의 commit 으로 바꾸므로, 그동안 검색에는 이전 색인이 그대로 보인다.
+     * 읽거나 바꾸는 중에 실패하면 기존 색인은 바뀌지 않는다.
+     */
+    public int rebuild(Function<Long, List<TicketSearchDocument>> batchAfter) throws IOException {
+        lock.lock();
+        try {
+            if (pendingChanges != null) throw new IllegalStateException("색인 재생성이 이미 진행 중입니다.");
+            pendingChanges = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        Path tempPath = inMemory ? null : Files.createTempDirectory("ticket-search-rebuild");
+        try (Directory temp = inMemory ? new ByteBuffersDirectory() : FSDirectory.open(tempPath)) {
+            int indexed = 0;
+            try (IndexWriter tempWriter = new IndexWriter(temp, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+                Long lastTicketId = null;
+                List<TicketSearchDocument> batch;
+                while (!(batch = batchAfter.apply(lastTicketId)).isEmpty()) {
+                    for (TicketSearchDocument document : batch) tempWriter.addDocument(toDocument(document));
+                    indexed += batch.size();
+                    lastTicketId = batch.get(batch.size() - 1).getTicketId();
+                }
+            }
+
+            lock.lock();
+            try {
+                // 재생성 전 변경을 먼저 확정해 두어야, 바꾸기에 실패했을 때 바꾸기만 되돌릴 수 있다.
+                commitLocked();
+                boolean swapped = false;
+                try {
+                    writer.deleteAll();
+                    addRebuiltIndex(writer, temp);
+                    swapped = true;
+                } finally {
+                    if (!swapped) rollbackLocked();
+                }
+                applyPendingChangesLocked();
+                commitLocked();
+            } finally {
+                lock.unlock();
+            }
+            return indexed;
+        } finally {
+            // 실패했더라도 그사이 들어온 변경은 기존 색인에 반영한다.
+            lock.lock();
+            try {
+                if (pendingChanges != null) {
+                    applyPendingChangesLocked();
+                    commitLocked();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (tempPath != null) deleteRecursively(tempPath);
+        }
+    }
+
+    private void applyPendingChangesLocked() throws IOException {
+        for (Map.Entry<Long, TicketSearchDocument> change : pendingChanges.entrySet()) {
+            if (change.getValue() == null) {
+                writer.deleteDocuments(idTerm(change.getKey()));
+            } else {
+                writer.updateDocument(idTerm(change.getKey()), toDocument(change.getValue()));
+            }
+        }
+        pendingChanges = null;
+    }
+
+    protected void addRebuiltIndex(IndexWriter target, Directory rebuilt) throws IOException {
+        target.addIndexes(rebuilt);
+    }
+
+    private void commitLocked() throws IOException {
+        if (writer.hasUncommittedChanges()) writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    // commit 하지 않은 변경(비운 색인)을 버리고 마지막 commit 상태로 writer 를 다시 연다.
+    private void rollbackLocked() throws IOException {
+        log.warn("[티켓 검색 색인] 재생성 색인 반영 실패, 이전 색인으로 되돌림");
+        SearcherManager previous = searcherManager;
+        writer.rollback();
+        openWriter();
+        previous.close();
+    }
+
+    private void openWriter() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private Term idTerm(Long ticketId) {
+        return new Term(ID, String.valueOf(ticketId));
+    }
+
+    private void deleteRecursively(Path path) {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("[티켓 검색 색인] 임시 색인 삭제 실패: {}", path, e);
+        }
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 관련도 순(같으면 최신순)으로 티켓 ID 를 반환한다.
+     * requesterId 가 있으면 해당 요청자의 티켓만 검색한다.
+     */
+    public Hits search(String keyword, Long requesterId, int offset, int limit) throws IOException {
+        Query query = buildQuery(keyword, requesterId);
+        Sort sort = new Sort(SortField.FIELD_SCORE, new SortField(CREATED_AT, SortField.Type.LONG, true));
+
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = manager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, Math.max(1, offset + limit), sort);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> ticketIds = new ArrayList<>();
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                ticketIds.add(Long.valueOf(storedFields.document(topDocs.scoreDocs[i].doc).get(ID)));
+            }
+            return new Hits(ticketIds, searcher.count(query));
+        } finally {
+            manager.release(searcher);
+        }
+    }
+
+    private Query buildQuery(String keyword, Long requesterId) throws IOException {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{TITLE, DESCRIPTION}, analyzer, Map.of(TITLE, 2.0f, DESCRIPTION, 1.0f));
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+
+        Query keywordQuery;
+        try {
+            keywordQuery = parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new IOException("검색어를 해석할 수 없습니다: " + keyword, e);
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(keywordQuery, BooleanClause.Occur.MUST);
+        if (requesterId != null) {
+            builder.add(new TermQuery(new Term(REQUESTER_ID, String.valueOf(requesterId))), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Document toDocument(TicketSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(source.getTicketId()), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(source.getTitle()), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, nullToEmpty(source.getDescription()), Field.Store.NO));
+        if (source.getRequesterId() != null) {
+            document.add(new StringField(REQUESTER_ID, String.valueOf(source.getRequesterId()), Field.Store.NO));
+        }
+        long createdAt = (source.getCreatedAt() != null)
+                ? source.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        document.add(new NumericDocValuesField(CREATED_AT, createdAt));
+        return document;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.lock();
+        try {
+            // close 할 때 남은 변경을 commit 한다.
+            searcherManager.close();
+            writer.close();
+            directory.close();
+            analyzer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Hits(List<Long> ticketIds, long totalHits) {
+    }
+}
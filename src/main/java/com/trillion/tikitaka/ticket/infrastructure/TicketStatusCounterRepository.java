@@ -0,0 +1,26 @@
+package com.trillion.tikitaka.ticket.infrastructure;
+
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TicketStatusCounterRepository extends JpaRepository<TicketStatusCounter, Long> {
+
+    List<TicketStatusCounter> findAllByScopeAndOwnerId(TicketStatusCounter.Scope scope, Long ownerId);
+
+    // 행이 없으면 만들고, 있으면 원자적으로 증감한다.
+    @Modifying
+    @Query(value = "INSERT INTO ticket_status_counters (scope, owner_id, status, urgent, ticket_count, updated_at) " +
+            "VALUES (:scope, :ownerId, :status, :urgent, :delta, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE ticket_count = ticket_count + :delta, updated_at = NOW(6)",
+            nativeQuery = true)
+    int addCount(@Param("scope") String scope,
+                 @Param("ownerId") Long ownerId,
+                 @Param("status") String status,
+                 @Param("urgent") boolean urgent,
+                 @Param("delta") long delta);
+}
@@ -1,27 +1,38 @@
 package com.trillion.tikitaka.ticket.presentation;
 
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.global.export.CsvExportResponse;
 import com.trillion.tikitaka.global.response.ApiResponse;
 import com.trillion.tikitaka.subtask.application.SubtaskService;
 import com.trillion.tikitaka.ticket.application.ReviewService;
+import com.trillion.tikitaka.ticket.application.TicketDetailService;
+import com.trillion.tikitaka.ticket.application.TicketSearchService;
 import com.trillion.tikitaka.ticket.application.TicketService;
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.TicketCountStrategy;
 import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
 import com.trillion.tikitaka.ticket.dto.request.EditCategory;
 import com.trillion.tikitaka.ticket.dto.request.EditSettingRequest;
 import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
 import com.trillion.tikitaka.ticket.dto.response.*;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -32,6 +43,8 @@ public class TicketController {
     private final TicketService ticketService;
     private final SubtaskService subtaskService;
     private final ReviewService reviewService;
+    private final TicketSearchService ticketSearchService;
+    private final TicketDetailService ticketDetailService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
@@ -65,6 +78,19 @@ public class TicketController {
         return new ApiResponse<>(response);
     }
 
+    @GetMapping("/{ticketId}/full")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
+    public ApiResponse<TicketDetailResponse> getTicketDetail(@PathVariable("ticketId") Long ticketId,
+                                                             @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                             WebRequest webRequest) {
+        TicketDetailService.TicketDetail detail = ticketDetailService.getTicketDetail(ticketId, userDetails);
+        // If-None-Match 가 같으면 304 로 응답하고 본문은 보내지 않는다.
+        if (webRequest.checkNotModified(detail.eTag())) {
+            return null;
+        }
+        return new ApiResponse<>(detail.response());
+    }
+
     @GetMapping("/{ticketId}")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
     public ApiResponse<TicketResponse> getTicket(@PathVariable("ticketId") Long ticketId,
@@ -87,15 +113,78 @@ public class TicketController {
             @RequestParam(value = "urgent", required = false) Boolean urgent,
             @RequestParam(value = "date", required = false) String dateOption,  // "today", "week", "month"
             @RequestParam(value = "sort", defaultValue = "newest") String sort,
+            @RequestParam(value = "countStrategy", defaultValue = "EXACT") TicketCountStrategy countStrategy,
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Pageable pageable = PageRequest.of(page, size);
         Page<TicketListResponse> ticketList = ticketService.getTicketList(
-                pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption, sort, userDetails
+                pageable, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption, sort, countStrategy, asOf, userDetails
         );
         return new ApiResponse<>(ticketList);
     }
 
+    @GetMapping(value = "/list", params = "paging=cursor")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
+    public ApiResponse<TicketCursorResponse> getTicketListByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(value = "status", required = false) Ticket.Status status,
+            @RequestParam(value = "firstCategoryId", required = false) Long firstCategoryId,
+            @RequestParam(value = "secondCategoryId", required = false) Long secondCategoryId,
+            @RequestParam(value = "ticketTypeId", required = false) Long ticketTypeId,
+            @RequestParam(value = "managerId", required = false) Long managerId,
+            @RequestParam(value = "requesterId", required = false) Long requesterId,
+            @RequestParam(value = "urgent", required = false) Boolean urgent,
+            @RequestParam(value = "date", required = false) String dateOption,  // "today", "week", "month"
+            @RequestParam(value = "sort", defaultValue = "newest") String sort,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        TicketCursorResponse ticketList = ticketService.getTicketListByCursor(
+                cursor, size, status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption, sort, userDetails
+        );
+        return new ApiResponse<>(ticketList);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<StreamingResponseBody> exportTicketList(
+            @RequestParam(value = "status", required = false) Ticket.Status status,
+            @RequestParam(value = "firstCategoryId", required = false) Long firstCategoryId,
+            @RequestParam(value = "secondCategoryId", required = false) Long secondCategoryId,
+            @RequestParam(value = "ticketTypeId", required = false) Long ticketTypeId,
+            @RequestParam(value = "managerId", required = false) Long managerId,
+            @RequestParam(value = "requesterId", required = false) Long requesterId,
+            @RequestParam(value = "urgent", required = false) Boolean urgent,
+            @RequestParam(value = "date", required = false) String dateOption,  // "today", "week", "month"
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        StreamingResponseBody body = ticketService.exportTicketList(
+                status, firstCategoryId, secondCategoryId, ticketTypeId, managerId, requesterId, urgent, dateOption, userDetails
+        );
+        return CsvExportResponse.of("tickets.csv", body);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
+    public ApiResponse<Page<TicketListResponse>> searchTickets(
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") @Min(0) int page,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(value = "requesterId", required = false) Long requesterId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Page<TicketListResponse> response = ticketSearchService.searchTickets(keyword, page, size, requesterId, userDetails);
+        return new ApiResponse<>(response);
+    }
+
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ApiResponse<Integer> rebuildSearchIndex() {
+        int indexed = ticketSearchService.rebuildIndex();
+        return new ApiResponse<>("티켓 검색 색인을 재생성했습니다.", indexed);
+    }
+
     @PreAuthorize("hasAnyAuthority('ADMIN', 'USER','MANAGER')")
     @PatchMapping("/{ticketId}")
     public ApiResponse<Long> editTicket(@PathVariable Long ticketId, @RequestBody @Valid EditTicketRequest request,@AuthenticationPrincipal CustomUserDetails userDetails){
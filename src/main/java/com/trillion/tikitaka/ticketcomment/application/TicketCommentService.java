@@ -10,6 +10,7 @@ import com.trillion.tikitaka.ticket.exception.TicketNotFoundException;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import com.trillion.tikitaka.ticketcomment.domain.TicketComment;
 import com.trillion.tikitaka.ticketcomment.dto.request.TicketCommentRequest;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentCursorResponse;
 import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
 import com.trillion.tikitaka.ticketcomment.exception.TicketCommentNotFoundException;
 import com.trillion.tikitaka.ticketcomment.exception.UnauthorizedTicketCommentException;
@@ -126,17 +127,18 @@ public class TicketCommentService {
 
     public List<TicketCommentResponse> getTicketComments(Long ticketId, CustomUserDetails userDetails) {
         log.info("[티켓 댓글 조회] 티켓 ID: {}, 요청자 ID: {}", ticketId, userDetails.getUser().getId());
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(TicketNotFoundException::new);
-
-        if (!ticket.canComment(userDetails.getUser())) {
-            log.error("[티켓 댓글 조회] 권한 없음");
-            throw new UnauthorizedTicketCommentException();
-        }
+        validateCommentReadable(ticketId, userDetails);
 
         return ticketCommentRepository.getTicketComments(ticketId);
     }
 
+    public TicketCommentCursorResponse getTicketCommentsByCursor(Long ticketId, Long cursor, int size, CustomUserDetails userDetails) {
+        log.info("[티켓 댓글 커서 조회] 티켓 ID: {}, 요청자 ID: {}, 커서: {}, 크기: {}", ticketId, userDetails.getUser().getId(), cursor, size);
+        validateCommentReadable(ticketId, userDetails);
+
+        return ticketCommentRepository.getTicketCommentsByCursor(ticketId, cursor, size);
+    }
+
     @Transactional
     public void updateTicketComment(Long ticketId, Long commentId, TicketCommentRequest request, CustomUserDetails userDetails) {
         log.info("[티켓 댓글 수정] 티켓 ID: {}, 댓글 ID: {}, 작성자 ID: {}", ticketId, commentId, userDetails.getUser().getId());
@@ -160,4 +162,14 @@ public class TicketCommentService {
 
         ticketCommentRepository.delete(comment);
     }
+
+    private void validateCommentReadable(Long ticketId, CustomUserDetails userDetails) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(TicketNotFoundException::new);
+
+        if (!ticket.canComment(userDetails.getUser())) {
+            log.error("[티켓 댓글 조회] 권한 없음");
+            throw new UnauthorizedTicketCommentException();
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.trillion.tikitaka.ticketcomment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TicketCommentCursorResponse {
+    private List<TicketCommentResponse> content;
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+}
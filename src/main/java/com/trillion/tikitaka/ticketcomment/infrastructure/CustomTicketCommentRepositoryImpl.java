@@ -1,14 +1,17 @@
 package com.trillion.tikitaka.ticketcomment.infrastructure;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.trillion.tikitaka.attachment.dto.response.AttachmentResponse;
 import com.trillion.tikitaka.attachment.dto.response.QAttachmentResponse;
 import com.trillion.tikitaka.ticketcomment.dto.response.QTicketCommentResponse;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentCursorResponse;
 import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
+import java.util.*;
 
 import static com.trillion.tikitaka.attachment.domain.QAttachment.attachment;
 import static com.trillion.tikitaka.ticketcomment.domain.QTicketComment.ticketComment;
@@ -20,7 +23,40 @@ public class CustomTicketCommentRepositoryImpl implements CustomTicketCommentRep
 
     @Override
     public List<TicketCommentResponse> getTicketComments(Long ticketId) {
-        List<TicketCommentResponse> comments = queryFactory
+        List<TicketCommentResponse> comments = selectComments()
+                .where(ticketIdEq(ticketId))
+                .orderBy(ticketComment.id.asc())
+                .fetch();
+
+        fillAttachments(comments);
+        return comments;
+    }
+
+    /**
+     * 댓글 ID 오름차순 커서 조회. cursor 는 이전 페이지 마지막 댓글 ID 이며, 없으면 처음부터 조회한다.
+     */
+    @Override
+    public TicketCommentCursorResponse getTicketCommentsByCursor(Long ticketId, Long cursor, int size) {
+        List<TicketCommentResponse> content = selectComments()
+                .where(
+                        ticketIdEq(ticketId),
+                        commentIdGt(cursor)
+                )
+                .orderBy(ticketComment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = new ArrayList<>(content.subList(0, size));
+
+        fillAttachments(content);
+
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getCommentId() : null;
+        return new TicketCommentCursorResponse(content, size, hasNext, nextCursor);
+    }
+
+    private JPAQuery<TicketCommentResponse> selectComments() {
+        return queryFactory
                 .select(new QTicketCommentResponse(
                         ticketComment.id.as("commentId"),
                         ticketComment.author.id.as("authorId"),
@@ -29,32 +65,44 @@ public class CustomTicketCommentRepositoryImpl implements CustomTicketCommentRep
                         ticketComment.createdAt,
                         ticketComment.updatedAt
                 ))
-                .from(ticketComment)
-                .where(ticketIdEq(ticketId))
-                .fetch();
+                .from(ticketComment);
+    }
 
-        for (TicketCommentResponse comment : comments) {
-            List<AttachmentResponse> attachments = queryFactory
-                    .select(new QAttachmentResponse(
-                            attachment.id.as("attachmentId"),
-                            attachment.fileName,
-                            attachment.filePath,
-                            attachment.fileSize
-                    ))
-                    .from(attachment)
-                    .where(attachmentCommentIdEq(comment))
-                    .fetch();
-            comment.setAttachments(attachments);
-        }
+    // 댓글 수와 관계없이 첨부 파일은 IN 조회 한 번으로 가져와 댓글별로 나눈다.
+    private void fillAttachments(List<TicketCommentResponse> comments) {
+        if (comments.isEmpty()) return;
 
-        return comments;
-    }
+        List<Long> commentIds = comments.stream().map(TicketCommentResponse::getCommentId).toList();
+        List<Tuple> rows = queryFactory
+                .select(
+                        attachment.comment.id,
+                        new QAttachmentResponse(
+                                attachment.id.as("attachmentId"),
+                                attachment.fileName,
+                                attachment.filePath,
+                                attachment.fileSize
+                        )
+                )
+                .from(attachment)
+                .where(attachment.comment.id.in(commentIds))
+                .orderBy(attachment.id.asc())
+                .fetch();
 
-    private static BooleanExpression attachmentCommentIdEq(TicketCommentResponse comment) {
-        return attachment.comment.id.eq(comment.getCommentId());
+        Map<Long, List<AttachmentResponse>> attachmentsByComment = new HashMap<>();
+        for (Tuple row : rows) {
+            attachmentsByComment
+                    .computeIfAbsent(row.get(attachment.comment.id), id -> new ArrayList<>())
+                    .add(row.get(1, AttachmentResponse.class));
+        }
+        comments.forEach(comment -> comment.setAttachments(
+                attachmentsByComment.getOrDefault(comment.getCommentId(), new ArrayList<>())));
     }
 
     private static BooleanExpression ticketIdEq(Long ticketId) {
         return ticketComment.ticket.id.eq(ticketId);
     }
+
+    private static BooleanExpression commentIdGt(Long cursor) {
+        return cursor != null ? ticketComment.id.gt(cursor) : null;
+    }
 }
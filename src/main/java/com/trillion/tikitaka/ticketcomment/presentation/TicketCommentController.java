@@ -4,8 +4,11 @@ import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.global.response.ApiResponse;
 import com.trillion.tikitaka.ticketcomment.application.TicketCommentService;
 import com.trillion.tikitaka.ticketcomment.dto.request.TicketCommentRequest;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentCursorResponse;
 import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -40,6 +43,16 @@ public class TicketCommentController {
         return new ApiResponse<>(response);
     }
 
+    @GetMapping(value = "/{ticketId}/comments", params = "paging=cursor")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER', 'USER')")
+    public ApiResponse<TicketCommentCursorResponse> getTicketCommentsByCursor(@PathVariable("ticketId") Long ticketId,
+                                                                              @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                              @RequestParam(value = "size", defaultValue = "50") @Min(1) @Max(100) int size,
+                                                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        TicketCommentCursorResponse response = ticketCommentService.getTicketCommentsByCursor(ticketId, cursor, size, userDetails);
+        return new ApiResponse<>(response);
+    }
+
     @PatchMapping("/{ticketId}/comments/{commentId}")
     @PreAuthorize("hasAnyAuthority('MANAGER', 'USER')")
     public ApiResponse<Void> updateTicketComment(@PathVariable("ticketId") Long ticketId,
@@ -0,0 +1,56 @@
+package com.trillion.tikitaka.user.application;
+
+import com.trillion.tikitaka.global.cache.LocalCache;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.dto.response.UserResponse;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 담당자 목록 캐시. 통계 화면마다 전체 사용자를 읽어 담당자를 거르지 않도록 담당자만 한 번 조회해 보관한다.
+ * 담당자 추가/삭제, 권한/프로필 변경 시 비우며, 다른 인스턴스의 변경은 TTL 안에 반영된다.
+ */
+@Slf4j
+@Component
+public class ManagerDirectory {
+
+    private static final String MANAGERS = "MANAGERS";
+
+    private final UserRepository userRepository;
+    private final LocalCache<String, List<UserResponse>> cache;
+
+    public ManagerDirectory(UserRepository userRepository,
+                            @Value("${user.manager-directory.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new LocalCache<>(Duration.ofSeconds(ttlSeconds), 1);
+    }
+
+    public List<UserResponse> getManagers() {
+        return cache.get(MANAGERS, key -> {
+            List<UserResponse> managers = List.copyOf(userRepository.getUsersByRole(Role.MANAGER));
+            log.debug("[담당자 목록 조회] 담당자 수: {}", managers.size());
+            return managers;
+        });
+    }
+
+    // 커밋 전에 비우면 다른 요청이 반영 전 목록을 다시 캐시할 수 있으므로, 트랜잭션 안에서는 커밋 후에 비운다.
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(MANAGERS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(MANAGERS);
+            }
+        });
+    }
+}
@@ -3,8 +3,11 @@ package com.trillion.tikitaka.user.application;
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.global.exception.CustomException;
 import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.notification.application.KakaoWorkRecipientCache;
 import com.trillion.tikitaka.registration.domain.RegistrationStatus;
 import com.trillion.tikitaka.registration.infrastructure.RegistrationRepository;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
@@ -16,10 +19,13 @@ import com.trillion.tikitaka.user.exception.UserNotFoundException;
 import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -30,6 +36,9 @@ public class UserService {
     private final RegistrationRepository registrationRepository;
     private final PasswordEncoder passwordEncoder;
     private final TicketRepository ticketRepository;
+    private final ManagerDirectory managerDirectory;
+    private final KakaoWorkRecipientCache kakaoWorkRecipientCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void updatePassword(Long userId, PasswordChangeRequest request) {
@@ -62,8 +71,17 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
 
+        // 일괄 삭제는 엔티티를 거치지 않으므로, 삭제 전 스냅샷으로 티켓마다 삭제 이벤트를 발행해
+        // 상태별 건수/월별·일간 통계/검색 색인에서도 빠지게 한다.
+        List<TicketSnapshot> deletedTickets = ticketRepository.findSnapshotsByRequester(userId);
         ticketRepository.softDeleteTicketsByRequester(userId);
+        deletedTickets.forEach(snapshot -> eventPublisher.publishEvent(new TicketChangeEvent(
+                this, snapshot.ticketId(), TicketChangeEvent.ChangeType.DELETED, snapshot, null)));
+        log.info("[사용자 삭제] 함께 삭제된 티켓 수: {}", deletedTickets.size());
         userRepository.delete(user);
+        managerDirectory.invalidate();
+        // 같은 이메일로 다시 가입한 사용자에게 이전 채팅방으로 알림이 가지 않도록 비운다.
+        kakaoWorkRecipientCache.invalidate(user.getEmail());
     }
 
     public RegistrationAndUserCountResponse getRegistrationAndUserCount() {
@@ -123,5 +141,6 @@ public class UserService {
 
         user.updateRole(newRole);
         userRepository.save(user);
+        managerDirectory.invalidate();
     }
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ public interface CustomUserRepository {
 
     List<UserResponse> getAllUsers();
 
+    List<UserResponse> getUsersByRole(Role role);
+
     Long countAdmin();
 
     Long countManager();
@@ -91,6 +91,22 @@ public class CustomUserRepositoryImpl implements CustomUserRepository {
                 .fetch();
     }
 
+    @Override
+    public List<UserResponse> getUsersByRole(Role role) {
+        return queryFactory
+                .select(new QUserResponse(
+                        user.id.as("userId"),
+                        user.username,
+                        user.email,
+                        user.role,
+                        user.profileImageUrl
+                ))
+                .from(user)
+                .where(userRoleEq(role))
+                .orderBy(user.id.asc())
+                .fetch();
+    }
+
     private static BooleanExpression userIdEq(Long userId) {
         return user.id.eq(userId);
     }
@@ -0,0 +1,6 @@
+-- 티켓 수정 알림 모아 보내기: 묶음 키(알림 유형 + 티켓 ID)와 지금까지 모은 변경 항목
+ALTER TABLE notifications
+    ADD COLUMN digest_key   VARCHAR(100)  NULL,
+    ADD COLUMN digest_items VARCHAR(1000) NULL;
+
+CREATE INDEX idx_notifications_digest ON notifications (recipient_email, digest_key, status);
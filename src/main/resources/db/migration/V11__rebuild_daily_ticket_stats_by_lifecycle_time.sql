@@ -0,0 +1,37 @@
+-- 시간 단위 티켓 처리 현황의 완료/처리 중 기준 시각을 마지막 수정 시각에서 처리 이력 시각으로 바꾼다.
+-- 진행률 갱신 등으로 updated_at 이 바뀌어 어긋난 기존 행도 함께 다시 만든다.
+DELETE FROM daily_ticket_stats;
+
+INSERT INTO daily_ticket_stats (stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+                                created_count, done_count, in_progress_count, urgent_count, updated_at)
+SELECT stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+       SUM(created_count), SUM(done_count), SUM(in_progress_count), SUM(urgent_count), NOW(6)
+FROM (
+    SELECT DATE(t.created_at) AS stat_date, HOUR(t.created_at) AS stat_hour,
+           COALESCE(t.manager_id, 0) AS manager_id, t.type_id AS type_id,
+           COALESCE(t.first_category_id, 0) AS first_category_id,
+           COALESCE(t.second_category_id, 0) AS second_category_id,
+           1 AS created_count, 0 AS done_count, 0 AS in_progress_count,
+           IF(t.urgent, 1, 0) AS urgent_count
+    FROM tickets t
+    WHERE t.deleted_at IS NULL
+    UNION ALL
+    SELECT DATE(t.done_at), HOUR(t.done_at),
+           COALESCE(t.manager_id, 0), t.type_id,
+           COALESCE(t.first_category_id, 0), COALESCE(t.second_category_id, 0),
+           0, 1, 0, 0
+    FROM tickets t
+    WHERE t.deleted_at IS NULL
+      AND t.status = 'DONE'
+      AND t.done_at IS NOT NULL
+    UNION ALL
+    SELECT DATE(t.first_in_progress_at), HOUR(t.first_in_progress_at),
+           COALESCE(t.manager_id, 0), t.type_id,
+           COALESCE(t.first_category_id, 0), COALESCE(t.second_category_id, 0),
+           0, 0, 1, 0
+    FROM tickets t
+    WHERE t.deleted_at IS NULL
+      AND t.status IN ('IN_PROGRESS', 'REVIEW')
+      AND t.first_in_progress_at IS NOT NULL
+) contribution
+GROUP BY stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id;
@@ -0,0 +1,23 @@
+-- 티켓 목록/상태별 건수/통계 조회용 복합 인덱스
+-- 모든 조회에 @SQLRestriction 의 deleted_at IS NULL 조건이 붙으므로 deleted_at 을 동등 조건 컬럼으로 포함한다.
+
+-- 상태별 티켓 수, 상태/긴급 필터
+CREATE INDEX idx_tickets_deleted_status_urgent ON tickets (deleted_at, status, urgent);
+
+-- 최신순/오래된순 목록, 생성일 기간 조회
+CREATE INDEX idx_tickets_deleted_created ON tickets (deleted_at, created_at);
+
+-- 수정일 기준 진행 중/완료 건수
+CREATE INDEX idx_tickets_deleted_updated_status ON tickets (deleted_at, updated_at, status);
+
+-- 마감일 정렬 (마감 전/마감 지남 구간)
+CREATE INDEX idx_tickets_deleted_deadline ON tickets (deleted_at, deadline);
+
+-- 사용자 본인 티켓 목록
+CREATE INDEX idx_tickets_requester_deleted_created ON tickets (requester_id, deleted_at, created_at);
+
+-- 미배정 티켓 조회, 담당자별 생성 건수
+CREATE INDEX idx_tickets_manager_deleted_created ON tickets (manager_id, deleted_at, created_at);
+
+-- 담당자별 상태/처리 건수
+CREATE INDEX idx_tickets_manager_deleted_status_updated ON tickets (manager_id, deleted_at, status, updated_at);
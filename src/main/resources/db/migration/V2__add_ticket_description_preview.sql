@@ -0,0 +1,6 @@
+-- 티켓 목록 조회에서 LONGTEXT description 대신 읽을 미리보기 컬럼
+ALTER TABLE tickets ADD COLUMN description_preview VARCHAR(100) NULL;
+
+UPDATE tickets
+SET description_preview = LEFT(description, 100)
+WHERE description_preview IS NULL;
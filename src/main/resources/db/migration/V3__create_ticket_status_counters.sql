@@ -0,0 +1,33 @@
+-- 상태/긴급 여부별 티켓 수 카운터 (/tickets/count 조회용)
+-- scope: GLOBAL(owner_id = 0), REQUESTER(owner_id = 요청자 ID), MANAGER(owner_id = 담당자 ID)
+CREATE TABLE ticket_status_counters (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    scope        ENUM ('GLOBAL', 'REQUESTER', 'MANAGER') NOT NULL,
+    owner_id     BIGINT      NOT NULL,
+    status       ENUM ('PENDING', 'IN_PROGRESS', 'REVIEW', 'DONE', 'REJECTED') NOT NULL,
+    urgent       BIT(1)      NOT NULL,
+    ticket_count BIGINT      NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ticket_status_counters UNIQUE (scope, owner_id, status, urgent)
+);
+
+-- 기존 티켓으로 초기값 적재
+INSERT INTO ticket_status_counters (scope, owner_id, status, urgent, ticket_count, updated_at)
+SELECT 'GLOBAL', 0, status, urgent, COUNT(*), NOW(6)
+FROM tickets
+WHERE deleted_at IS NULL
+GROUP BY status, urgent;
+
+INSERT INTO ticket_status_counters (scope, owner_id, status, urgent, ticket_count, updated_at)
+SELECT 'REQUESTER', requester_id, status, urgent, COUNT(*), NOW(6)
+FROM tickets
+WHERE deleted_at IS NULL
+GROUP BY requester_id, status, urgent;
+
+INSERT INTO ticket_status_counters (scope, owner_id, status, urgent, ticket_count, updated_at)
+SELECT 'MANAGER', manager_id, status, urgent, COUNT(*), NOW(6)
+FROM tickets
+WHERE deleted_at IS NULL
+  AND manager_id IS NOT NULL
+GROUP BY manager_id, status, urgent;
@@ -0,0 +1,25 @@
+-- 월별 통계 증분 반영(INSERT ... ON DUPLICATE KEY UPDATE)을 위한 차원 키
+-- category_id/user_id/type_id 는 NULL 을 포함하므로 유일 제약으로 쓸 수 없어 별도 키를 둔다.
+ALTER TABLE monthly_statistics ADD COLUMN dimension_key VARCHAR(40) NULL;
+
+UPDATE monthly_statistics
+SET dimension_key = CASE
+                        WHEN category_id IS NOT NULL THEN CONCAT('CATEGORY:', category_id)
+                        WHEN user_id IS NOT NULL THEN CONCAT('USER:', user_id)
+                        WHEN type_id IS NOT NULL THEN CONCAT('TYPE:', type_id)
+                        ELSE 'ALL'
+    END;
+
+-- 스케줄러 중복 실행으로 생긴 같은 월/차원의 중복 행은 가장 최근 행만 남긴다.
+DELETE older
+FROM monthly_statistics older
+         JOIN monthly_statistics newer
+              ON older.stat_year = newer.stat_year
+                  AND older.stat_month = newer.stat_month
+                  AND older.dimension_key = newer.dimension_key
+                  AND older.id < newer.id;
+
+ALTER TABLE monthly_statistics MODIFY dimension_key VARCHAR(40) NOT NULL;
+
+ALTER TABLE monthly_statistics
+    ADD CONSTRAINT uk_monthly_statistics_dimension UNIQUE (stat_year, stat_month, dimension_key);
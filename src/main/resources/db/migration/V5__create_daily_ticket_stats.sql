@@ -0,0 +1,44 @@
+-- 시간 단위 티켓 처리 현황 (일간/주간 통계 조회용)
+-- 담당자/카테고리가 없는 티켓은 0 으로 집계한다. (유니크 키에 NULL 이 들어가지 않도록)
+CREATE TABLE daily_ticket_stats (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    stat_date          DATE        NOT NULL,
+    stat_hour          INT         NOT NULL,
+    manager_id         BIGINT      NOT NULL,
+    type_id            BIGINT      NOT NULL,
+    first_category_id  BIGINT      NOT NULL,
+    second_category_id BIGINT      NOT NULL,
+    created_count      BIGINT      NOT NULL,
+    done_count         BIGINT      NOT NULL,
+    in_progress_count  BIGINT      NOT NULL,
+    urgent_count       BIGINT      NOT NULL,
+    updated_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_ticket_stats UNIQUE (stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id)
+);
+
+-- 기존 티켓으로 초기값 적재
+-- 생성/긴급은 생성 시각, 완료/처리 중은 마지막 수정 시각 기준
+INSERT INTO daily_ticket_stats (stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+                                created_count, done_count, in_progress_count, urgent_count, updated_at)
+SELECT stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id,
+       SUM(created_count), SUM(done_count), SUM(in_progress_count), SUM(urgent_count), NOW(6)
+FROM (
+    SELECT DATE(t.created_at) AS stat_date, HOUR(t.created_at) AS stat_hour,
+           COALESCE(t.manager_id, 0) AS manager_id, t.type_id AS type_id,
+           COALESCE(t.first_category_id, 0) AS first_category_id,
+           COALESCE(t.second_category_id, 0) AS second_category_id,
+           1 AS created_count, 0 AS done_count, 0 AS in_progress_count,
+           IF(t.urgent, 1, 0) AS urgent_count
+    FROM tickets t
+    WHERE t.deleted_at IS NULL
+    UNION ALL
+    SELECT DATE(t.updated_at), HOUR(t.updated_at),
+           COALESCE(t.manager_id, 0), t.type_id,
+           COALESCE(t.first_category_id, 0), COALESCE(t.second_category_id, 0),
+           0, IF(t.status = 'DONE', 1, 0), IF(t.status IN ('IN_PROGRESS', 'REVIEW'), 1, 0), 0
+    FROM tickets t
+    WHERE t.deleted_at IS NULL
+      AND t.status IN ('DONE', 'IN_PROGRESS', 'REVIEW')
+) contribution
+GROUP BY stat_date, stat_hour, manager_id, type_id, first_category_id, second_category_id;
@@ -0,0 +1,47 @@
+-- 처리 기간 통계용 티켓 처리 이력 시각
+ALTER TABLE tickets
+    ADD COLUMN first_assigned_at    DATETIME(6) NULL,
+    ADD COLUMN first_in_progress_at DATETIME(6) NULL,
+    ADD COLUMN done_at              DATETIME(6) NULL;
+
+CREATE INDEX idx_tickets_deleted_done ON tickets (deleted_at, done_at);
+
+-- 기존 티켓은 변경 이력으로 채운다.
+-- 처리 시작: 처리 중/검토/완료 티켓의 최초 상태 변경 시각, 완료: 완료 티켓의 마지막 상태 변경 시각
+-- 최초 담당자 지정: 최초 담당자 변경/상태 변경(승인 시 자동 지정) 시각, 이력이 없으면 생성 시각
+-- 이력이 없는 경우 처리 시작/완료는 마지막 수정 시각으로 채운다.
+UPDATE tickets t
+    LEFT JOIN (SELECT h.ticket_id,
+                      MIN(IF(h.change_type = 'STATUS_CHANGE', h.changed_at, NULL))                        AS first_status_at,
+                      MAX(IF(h.change_type = 'STATUS_CHANGE', h.changed_at, NULL))                        AS last_status_at,
+                      MIN(IF(h.change_type IN ('MANAGER_CHANGE', 'STATUS_CHANGE'), h.changed_at, NULL)) AS first_assigned_at
+               FROM ticket_history h
+               GROUP BY h.ticket_id) history ON history.ticket_id = t.id
+SET t.first_in_progress_at = IF(t.status IN ('IN_PROGRESS', 'REVIEW', 'DONE'),
+                                COALESCE(history.first_status_at, t.updated_at), NULL),
+    t.done_at              = IF(t.status = 'DONE', COALESCE(history.last_status_at, t.updated_at), NULL),
+    t.first_assigned_at    = IF(t.manager_id IS NOT NULL, COALESCE(history.first_assigned_at, t.created_at), NULL);
+
+-- 월별 통계 처리 기간(분) 합계/건수/평균
+ALTER TABLE monthly_statistics
+    ADD COLUMN completion_time_sum   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN completion_time_count INT    NOT NULL DEFAULT 0,
+    ADD COLUMN average_response_time FLOAT  NOT NULL DEFAULT 0,
+    ADD COLUMN response_time_sum     BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN response_time_count   INT    NOT NULL DEFAULT 0;
+
+-- 월별 통계 처리 기간 분포 (DurationSketch 구간별 건수)
+CREATE TABLE monthly_duration_histogram (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    stat_year     INT         NOT NULL,
+    stat_month    INT         NOT NULL,
+    dimension_key VARCHAR(40) NOT NULL,
+    metric        VARCHAR(20) NOT NULL,
+    bucket        INT         NOT NULL,
+    ticket_count  BIGINT      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_duration_histogram UNIQUE (stat_year, stat_month, dimension_key, metric, bucket)
+);
+
+-- 기존 월의 처리 기간과 완료 건수(완료 시각 기준)는 월별 통계 재집계로 채운다.
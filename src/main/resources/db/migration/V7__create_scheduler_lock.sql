@@ -0,0 +1,22 @@
+-- 여러 인스턴스에서 스케줄 작업이 한 번만 실행되도록 하는 작업별 잠금(임대)
+CREATE TABLE scheduler_lock (
+    name         VARCHAR(100) NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    locked_at    DATETIME(6)  NOT NULL,
+    locked_by    VARCHAR(100) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- 스케줄 작업 실행 이력 (잠금을 얻어 실제로 실행한 경우만)
+CREATE TABLE scheduler_run_history (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    lock_name     VARCHAR(100) NOT NULL,
+    instance_id   VARCHAR(100) NOT NULL,
+    started_at    DATETIME(6)  NOT NULL,
+    finished_at   DATETIME(6)  NULL,
+    status        VARCHAR(20)  NOT NULL,
+    error_message VARCHAR(500) NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_scheduler_run_history_name_started ON scheduler_run_history (lock_name, started_at);
@@ -0,0 +1,3 @@
+-- 자동 배정 요약 알림 유형 추가 (Hibernate 가 생성한 ENUM 컬럼인 경우 값 목록을 늘린다)
+ALTER TABLE notifications
+    MODIFY COLUMN type ENUM ('USER_REGISTRATION', 'TICKET_CREATE', 'TICKET_UPDATE', 'COMMENT_CREATE', 'TICKET_ASSIGNMENT') NOT NULL;
@@ -0,0 +1,18 @@
+-- 알림 테이블을 outbox 로 사용: 수신 이메일/미리보기 문구를 함께 저장하고, 전송 시도 횟수와 다음 전송 가능 시각을 기록한다.
+ALTER TABLE notifications
+    ADD COLUMN recipient_email VARCHAR(255)  NULL AFTER receiver_id,
+    ADD COLUMN preview_text    VARCHAR(1000) NULL AFTER recipient_email,
+    ADD COLUMN attempts        INT           NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at DATETIME(6)   NULL;
+
+UPDATE notifications n
+    JOIN users u ON u.id = n.receiver_id
+SET n.recipient_email = u.email;
+
+-- 기존 PENDING 알림은 전송 중이던 메모리 작업이 사라진 것이므로 다시 보내지 않고 실패로 정리한다.
+UPDATE notifications
+SET status        = 'FAIL',
+    error_message = '전송 상태 확인 불가 (outbox 도입 이전 알림)'
+WHERE status = 'PENDING';
+
+CREATE INDEX idx_notifications_status_next_attempt ON notifications (status, next_attempt_at);
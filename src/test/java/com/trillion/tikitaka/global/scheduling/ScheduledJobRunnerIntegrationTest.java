@@ -0,0 +1,137 @@
+package com.trillion.tikitaka.global.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 잠금/이력은 별도 트랜잭션에서 커밋되므로 테스트 트랜잭션으로 되돌릴 수 없어, 작업 이름을 매번 새로 만들고 끝나면 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("스케줄 작업 잠금 통합 테스트")
+class ScheduledJobRunnerIntegrationTest {
+
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockService lockService;
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private SchedulerRunHistoryRepository historyRepository;
+
+    private ScheduledJobRunner instanceA;
+    private ScheduledJobRunner instanceB;
+    private String jobName;
+
+    @BeforeEach
+    void setUp() {
+        instanceA = new ScheduledJobRunner(lockService, "instance-a");
+        instanceB = new ScheduledJobRunner(lockService, "instance-b");
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockRepository.deleteAll(lockRepository.findAll().stream()
+                .filter(lock -> lock.getName().startsWith(jobName))
+                .toList());
+        historyRepository.deleteAll(historiesOf(jobName));
+    }
+
+    @Test
+    @DisplayName("최소 유지 시간 안에 다른 인스턴스가 깨어나면 작업을 건너뛴다.")
+    void should_SkipOnOtherInstance_When_LockHeldAtLeast() {
+        // given
+        List<String> executedBy = new ArrayList<>();
+
+        // when
+        boolean first = instanceA.run(jobName, LOCK_AT_MOST_FOR, Duration.ofMinutes(1), () -> executedBy.add("a"));
+        boolean second = instanceB.run(jobName, LOCK_AT_MOST_FOR, Duration.ofMinutes(1), () -> executedBy.add("b"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(executedBy).containsExactly("a");
+        assertThat(historiesOf(jobName))
+                .extracting(SchedulerRunHistory::getInstanceId, SchedulerRunHistory::getStatus)
+                .containsExactly(tuple("instance-a", SchedulerRunHistory.Status.SUCCEEDED));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 실패 이력을 남기고 잠금을 풀어 다음 실행을 막지 않는다.")
+    void should_RecordFailureAndRelease_When_TaskThrows() {
+        // given
+        Runnable failing = () -> {
+            throw new IllegalStateException("재집계 실패");
+        };
+
+        // when
+        boolean failed = instanceA.run(jobName, LOCK_AT_MOST_FOR, Duration.ZERO, failing);
+        boolean retried = instanceB.run(jobName, LOCK_AT_MOST_FOR, Duration.ZERO, () -> { });
+
+        // then
+        assertThat(failed).isTrue();
+        assertThat(retried).isTrue();
+        assertThat(historiesOf(jobName))
+                .extracting(SchedulerRunHistory::getStatus)
+                .containsExactlyInAnyOrder(SchedulerRunHistory.Status.FAILED, SchedulerRunHistory.Status.SUCCEEDED);
+        assertThat(historiesOf(jobName))
+                .filteredOn(history -> history.getStatus() == SchedulerRunHistory.Status.FAILED)
+                .extracting(SchedulerRunHistory::getErrorMessage)
+                .containsExactly("재집계 실패");
+    }
+
+    @Test
+    @DisplayName("작업에서 Error 가 나면 실패 이력을 남기고 잠금을 푼 뒤 다시 던진다.")
+    void should_RecordFailureAndRethrow_When_TaskThrowsError() {
+        // given
+        Runnable failing = () -> {
+            throw new OutOfMemoryError("메모리 부족");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> instanceA.run(jobName, LOCK_AT_MOST_FOR, Duration.ZERO, failing))
+                .isInstanceOf(OutOfMemoryError.class);
+        assertThat(historiesOf(jobName))
+                .extracting(SchedulerRunHistory::getStatus, SchedulerRunHistory::getErrorMessage)
+                .containsExactly(tuple(SchedulerRunHistory.Status.FAILED, "메모리 부족"));
+        assertThat(instanceB.run(jobName, LOCK_AT_MOST_FOR, Duration.ZERO, () -> { })).isTrue();
+    }
+
+    @Test
+    @DisplayName("파티션 작업은 다른 인스턴스가 잠근 파티션을 건너뛰고 나머지만 실행한다.")
+    void should_RunRemainingPartitions_When_OtherInstanceHoldsOne() {
+        // given
+        List<String> executedByB = new ArrayList<>();
+
+        // when: A 가 p1 을 실행하는 도중 B 가 깨어난다.
+        instanceA.run(jobName + ":p1", LOCK_AT_MOST_FOR, Duration.ZERO, () ->
+                instanceB.runPartitioned(jobName, List.of("p1", "p2", "p3"), LOCK_AT_MOST_FOR, Duration.ZERO, executedByB::add));
+
+        // then
+        assertThat(executedByB).containsExactlyInAnyOrder("p2", "p3");
+    }
+
+    private List<SchedulerRunHistory> historiesOf(String prefix) {
+        return historyRepository.findAll().stream()
+                .filter(history -> history.getLockName().startsWith(prefix))
+                .toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.infrastructure.kakaowork.KakaoWorkClient;
+import com.trillion.tikitaka.notification.application.KakaoWorkRecipientCache;
+import com.trillion.tikitaka.notification.dto.request.KakaoWorkConversationRequest;
+import com.trillion.tikitaka.notification.dto.request.KakaoWorkUserRequest;
+import com.trillion.tikitaka.notification.exception.KakaoWorkFetchingUserIdException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("카카오워크 수신자 캐시 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class KakaoWorkRecipientCacheTest {
+
+    private static final String EMAIL = "manager@email.com";
+
+    @Mock
+    private KakaoWorkClient kakaoWorkClient;
+
+    private KakaoWorkRecipientCache recipientCache;
+
+    @BeforeEach
+    void setUp() {
+        recipientCache = new KakaoWorkRecipientCache(kakaoWorkClient, 60, 10);
+    }
+
+    @Nested
+    @DisplayName("채팅방 ID 조회 시")
+    class DescribeConversationIdOf {
+
+        @Test
+        @DisplayName("두 번째 조회부터는 카카오워크에 요청하지 않고 캐시에서 가져온다.")
+        void should_ReturnCachedConversation_When_LookedUpAgain() {
+            // given
+            when(kakaoWorkClient.findUserIdByEmail(EMAIL)).thenReturn(Mono.just(userResponse("kw-1")));
+            when(kakaoWorkClient.openConversation("kw-1")).thenReturn(Mono.just(conversationResponse("conv-1")));
+
+            // when
+            String first = recipientCache.conversationIdOf(EMAIL).block();
+            String second = recipientCache.conversationIdOf(EMAIL).block();
+
+            // then
+            assertThat(first).isEqualTo("conv-1");
+            assertThat(second).isEqualTo("conv-1");
+            verify(kakaoWorkClient, times(1)).findUserIdByEmail(EMAIL);
+            verify(kakaoWorkClient, times(1)).openConversation("kw-1");
+            assertThat(recipientCache.userIdStats().hitCount()).isEqualTo(1);
+            assertThat(recipientCache.conversationIdStats().hitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("카카오워크에 없는 이메일은 기억해 두고 다시 조회하지 않는다.")
+        void should_NotLookUpAgain_When_EmailUnknown() {
+            // given
+            when(kakaoWorkClient.findUserIdByEmail(EMAIL))
+                    .thenReturn(Mono.error(new KakaoWorkFetchingUserIdException()));
+
+            // when & then
+            assertThatThrownBy(() -> recipientCache.conversationIdOf(EMAIL).block())
+                    .isInstanceOf(KakaoWorkFetchingUserIdException.class);
+            assertThatThrownBy(() -> recipientCache.conversationIdOf(EMAIL).block())
+                    .isInstanceOf(KakaoWorkFetchingUserIdException.class);
+            verify(kakaoWorkClient, times(1)).findUserIdByEmail(EMAIL);
+            verifyNoMoreInteractions(kakaoWorkClient);
+        }
+
+        @Test
+        @DisplayName("네트워크 오류로 조회하지 못한 이메일은 다음에 다시 조회한다.")
+        void should_LookUpAgain_When_NetworkFailed() {
+            // given
+            when(kakaoWorkClient.findUserIdByEmail(EMAIL))
+                    .thenReturn(Mono.error(new WebClientRequestException(
+                            new TimeoutException(), HttpMethod.GET,
+                            URI.create("https://api.kakaowork.com"), HttpHeaders.EMPTY)))
+                    .thenReturn(Mono.just(userResponse("kw-1")));
+            when(kakaoWorkClient.openConversation("kw-1")).thenReturn(Mono.just(conversationResponse("conv-1")));
+
+            // when
+            assertThatThrownBy(() -> recipientCache.conversationIdOf(EMAIL).block())
+                    .isInstanceOf(WebClientRequestException.class);
+            String conversationId = recipientCache.conversationIdOf(EMAIL).block();
+
+            // then
+            assertThat(conversationId).isEqualTo("conv-1");
+            verify(kakaoWorkClient, times(2)).findUserIdByEmail(EMAIL);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 사용자와 채팅방을 다시 조회한다.")
+    void should_LookUpAgain_When_Invalidated() {
+        // given
+        when(kakaoWorkClient.findUserIdByEmail(EMAIL)).thenReturn(Mono.just(userResponse("kw-1")));
+        when(kakaoWorkClient.openConversation("kw-1")).thenReturn(Mono.just(conversationResponse("conv-1")));
+        recipientCache.conversationIdOf(EMAIL).block();
+
+        // when
+        recipientCache.invalidate(EMAIL);
+        recipientCache.conversationIdOf(EMAIL).block();
+
+        // then
+        verify(kakaoWorkClient, times(2)).findUserIdByEmail(EMAIL);
+        verify(kakaoWorkClient, times(2)).openConversation("kw-1");
+    }
+
+    private KakaoWorkUserRequest userResponse(String userId) {
+        KakaoWorkUserRequest.User user = new KakaoWorkUserRequest.User();
+        ReflectionTestUtils.setField(user, "id", userId);
+        KakaoWorkUserRequest response = new KakaoWorkUserRequest();
+        ReflectionTestUtils.setField(response, "user", user);
+        return response;
+    }
+
+    private KakaoWorkConversationRequest conversationResponse(String conversationId) {
+        KakaoWorkConversationRequest.Conversation conversation = new KakaoWorkConversationRequest.Conversation();
+        ReflectionTestUtils.setField(conversation, "id", conversationId);
+        KakaoWorkConversationRequest response = new KakaoWorkConversationRequest();
+        ReflectionTestUtils.setField(response, "conversation", conversation);
+        return response;
+    }
+}
@@ -0,0 +1,91 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.NotificationDeliveryExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 전송 스레드 풀 유닛 테스트")
+class NotificationDeliveryExecutorTest {
+
+    private NotificationDeliveryExecutor deliveryExecutor;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        deliveryExecutor = new NotificationDeliveryExecutor(1, 1, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        deliveryExecutor.stop();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 작업을 거절하고 거절 횟수를 센다.")
+    void should_RejectTask_When_Full() throws InterruptedException {
+        // given
+        deliveryExecutor.trySubmit(this::blockUntilReleased);
+        started.await(5, TimeUnit.SECONDS);
+        deliveryExecutor.trySubmit(() -> {});
+
+        // when
+        boolean accepted = deliveryExecutor.trySubmit(() -> {});
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(deliveryExecutor.hasCapacity()).isFalse();
+        NotificationDeliveryExecutor.Stats stats = deliveryExecutor.stats();
+        assertThat(stats.activeCount()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isEqualTo(1);
+        assertThat(stats.submittedCount()).isEqualTo(2);
+        assertThat(stats.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료할 때 진행 중인 작업과 대기 중인 작업이 끝날 때까지 기다리고, 이후 작업은 받지 않는다.")
+    void should_DrainTasks_When_Stopped() throws InterruptedException {
+        // given
+        AtomicInteger completed = new AtomicInteger();
+        deliveryExecutor.trySubmit(() -> {
+            blockUntilReleased();
+            completed.incrementAndGet();
+        });
+        started.await(5, TimeUnit.SECONDS);
+        deliveryExecutor.trySubmit(completed::incrementAndGet);
+
+        // when
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        }).start();
+        deliveryExecutor.stop();
+
+        // then
+        assertThat(completed.get()).isEqualTo(2);
+        assertThat(deliveryExecutor.isRunning()).isFalse();
+        assertThat(deliveryExecutor.trySubmit(() -> {})).isFalse();
+    }
+
+    private void blockUntilReleased() {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
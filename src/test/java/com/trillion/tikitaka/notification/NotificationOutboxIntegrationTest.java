@@ -0,0 +1,98 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.BlockJsonConverter;
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.event.RegistrationEvent;
+import com.trillion.tikitaka.notification.infrastructure.NotificationRepository;
+import com.trillion.tikitaka.registration.domain.RegistrationStatus;
+import com.trillion.tikitaka.user.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림은 이벤트를 발행한 트랜잭션의 커밋/롤백을 따라야 하므로 테스트 트랜잭션 없이 직접 커밋/롤백하고, 끝나면 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("알림 outbox 통합 테스트")
+class NotificationOutboxIntegrationTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private BlockJsonConverter blockJsonConverter;
+
+    private TransactionTemplate transactionTemplate;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        email = "outbox-" + UUID.randomUUID() + "@email.com";
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll(notificationsOf(email));
+    }
+
+    @Test
+    @DisplayName("이벤트를 발행한 트랜잭션이 커밋되면 알림이 PENDING 으로 함께 저장된다.")
+    void should_SaveNotification_When_TransactionCommitted() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(registrationEvent()));
+
+        // then
+        List<Notification> notifications = notificationsOf(email);
+        assertThat(notifications).hasSize(1);
+        Notification notification = notifications.get(0);
+        assertThat(notification.getType()).isEqualTo(NotificationType.USER_REGISTRATION);
+        assertThat(notification.getPreviewText()).isNotBlank();
+        assertThat(blockJsonConverter.convertJsonToBlocks(notification.getMessageJson())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("이벤트를 발행한 트랜잭션이 롤백되면 알림도 저장되지 않는다.")
+    void should_NotSaveNotification_When_TransactionRolledBack() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(registrationEvent());
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(notificationsOf(email)).isEmpty();
+    }
+
+    private RegistrationEvent registrationEvent() {
+        return new RegistrationEvent(this, "outbox.tk", email, "임시 비밀번호", Role.USER,
+                RegistrationStatus.APPROVED, NotificationType.USER_REGISTRATION);
+    }
+
+    private List<Notification> notificationsOf(String email) {
+        return notificationRepository.findAll().stream()
+                .filter(notification -> email.equals(notification.getRecipientEmail()))
+                .toList();
+    }
+}
@@ -0,0 +1,224 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.BlockJsonConverter;
+import com.trillion.tikitaka.notification.application.KakaoWorkNotificationService;
+import com.trillion.tikitaka.notification.application.NotificationDeliveryExecutor;
+import com.trillion.tikitaka.notification.application.NotificationOutboxRelay;
+import com.trillion.tikitaka.notification.application.NotificationOutboxService;
+import com.trillion.tikitaka.notification.application.NotificationOutboxService.DeliveryResult;
+import com.trillion.tikitaka.notification.application.RecipientRateLimiter;
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.domain.NotificationStatus;
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.exception.KakaoWorkSendingMessageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("알림 outbox 전송 워커 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private KakaoWorkNotificationService notificationService;
+
+    @Mock
+    private BlockJsonConverter blockJsonConverter;
+
+    @Mock
+    private RecipientRateLimiter rateLimiter;
+
+    @Mock
+    private NotificationDeliveryExecutor deliveryExecutor;
+
+    @InjectMocks
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    // 전송 스레드 풀에 맡긴 작업은 바로 실행한다.
+    @BeforeEach
+    void setUp() {
+        lenient().when(deliveryExecutor.hasCapacity()).thenReturn(true);
+        lenient().when(deliveryExecutor.trySubmit(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return true;
+        });
+    }
+
+    @Nested
+    @DisplayName("알림 전송 시")
+    class DescribeRelay {
+
+        @Test
+        @DisplayName("가져간 알림을 전송하고 성공/실패 결과를 한 번에 기록한다. 같은 메시지는 한 번만 역직렬화한다.")
+        void should_RecordResults_When_Delivered() {
+            // given
+            Notification sent = notification(1L, "sent@email.com");
+            Notification failed = notification(2L, "failed@email.com");
+            when(outboxService.claim(anyInt(), any())).thenReturn(List.of(sent, failed));
+            when(rateLimiter.tryAcquire(anyString())).thenReturn(Duration.ZERO);
+            when(blockJsonConverter.convertJsonToBlocks(anyString())).thenReturn(List.of());
+            when(notificationService.sendKakaoWorkNotification(eq("sent@email.com"), anyString(), anyList()))
+                    .thenReturn(Mono.empty());
+            when(notificationService.sendKakaoWorkNotification(eq("failed@email.com"), anyString(), anyList()))
+                    .thenReturn(Mono.error(new KakaoWorkSendingMessageException()));
+
+            // when
+            notificationOutboxRelay.relay();
+
+            // then
+            ArgumentCaptor<List<DeliveryResult>> captor = ArgumentCaptor.forClass(List.class);
+            verify(outboxService).complete(captor.capture());
+            assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                    DeliveryResult.success(1L),
+                    new DeliveryResult(2L, "카카오워크 메시지를 보내는 중 오류가 발생했습니다.")
+            );
+            verify(outboxService, times(1)).claim(anyInt(), any());
+            verify(blockJsonConverter, times(1)).convertJsonToBlocks("[]");
+        }
+
+        @Test
+        @DisplayName("수신자 전송 한도를 넘은 알림은 보내지 않고 미룬다.")
+        void should_DeferNotification_When_RateLimited() {
+            // given
+            Notification limited = notification(1L, "limited@email.com");
+            when(outboxService.claim(anyInt(), any())).thenReturn(List.of(limited));
+            when(rateLimiter.tryAcquire("limited@email.com")).thenReturn(Duration.ofSeconds(3));
+
+            // when
+            notificationOutboxRelay.relay();
+
+            // then
+            ArgumentCaptor<List<DeliveryResult>> captor = ArgumentCaptor.forClass(List.class);
+            verify(outboxService).complete(captor.capture());
+            assertThat(captor.getValue()).singleElement().satisfies(result -> {
+                assertThat(result.notificationId()).isEqualTo(1L);
+                assertThat(result.errorMessage()).isNull();
+                assertThat(result.deferredUntil()).isAfter(LocalDateTime.now());
+            });
+            verifyNoInteractions(notificationService);
+        }
+
+        @Test
+        @DisplayName("전송할 알림이 없으면 결과를 기록하지 않는다.")
+        void should_DoNothing_When_NoPendingNotifications() {
+            // given
+            when(outboxService.claim(anyInt(), any())).thenReturn(List.of());
+
+            // when
+            notificationOutboxRelay.relay();
+
+            // then
+            verify(outboxService, never()).complete(anyList());
+            verifyNoInteractions(notificationService);
+        }
+
+        @Test
+        @DisplayName("전송 스레드 풀이 가득 차면 알림을 가져가지 않는다.")
+        void should_NotClaim_When_ExecutorFull() {
+            // given
+            when(deliveryExecutor.hasCapacity()).thenReturn(false);
+
+            // when
+            notificationOutboxRelay.relay();
+
+            // then
+            verify(outboxService, never()).claim(anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("가져간 알림을 전송 스레드 풀에 맡기지 못하면 보내지 않고 outbox 로 되돌린다.")
+        void should_ReleaseNotifications_When_SubmitRejected() {
+            // given
+            when(outboxService.claim(anyInt(), any()))
+                    .thenReturn(List.of(notification(1L, "a@email.com"), notification(2L, "b@email.com")));
+            when(deliveryExecutor.trySubmit(any())).thenReturn(false);
+
+            // when
+            notificationOutboxRelay.relay();
+
+            // then
+            verify(outboxService).release(List.of(1L, 2L));
+            verify(outboxService, never()).complete(anyList());
+            verifyNoInteractions(notificationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("전송 결과 기록 시")
+    class DescribeDeliveryResult {
+
+        @Test
+        @DisplayName("최대 시도 횟수 전까지는 간격을 늘려 다시 전송하고, 넘으면 실패로 끝낸다.")
+        void should_BackOffThenFail_When_DeliveryKeepsFailing() {
+            // given
+            Notification notification = notification(1L, "retry@email.com");
+            LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+            // when & then
+            notification.claim(now.plusMinutes(5));
+            notification.markFailed("메시지 전송 오류", now);
+            assertThat(notification.getStatus()).isEqualTo(NotificationStatus.PENDING);
+            assertThat(notification.getNextAttemptAt()).isEqualTo(now.plusSeconds(5));
+
+            notification.claim(now.plusMinutes(5));
+            notification.markFailed("메시지 전송 오류", now);
+            assertThat(notification.getNextAttemptAt()).isEqualTo(now.plusSeconds(10));
+
+            for (int attempt = 3; attempt <= Notification.MAX_ATTEMPTS; attempt++) {
+                notification.claim(now.plusMinutes(5));
+                notification.markFailed("메시지 전송 오류", now);
+            }
+            assertThat(notification.getStatus()).isEqualTo(NotificationStatus.FAIL);
+            assertThat(notification.getAttempts()).isEqualTo(Notification.MAX_ATTEMPTS);
+            assertThat(notification.getErrorMessage()).isEqualTo("메시지 전송 오류");
+        }
+
+        @Test
+        @DisplayName("전송 한도로 미룬 알림은 시도 횟수에 넣지 않는다.")
+        void should_NotCountAttempt_When_Deferred() {
+            // given
+            Notification notification = notification(1L, "limited@email.com");
+            LocalDateTime until = LocalDateTime.of(2024, 1, 1, 9, 0, 3);
+
+            // when
+            notification.claim(until.plusMinutes(5));
+            notification.defer(until);
+
+            // then
+            assertThat(notification.getAttempts()).isZero();
+            assertThat(notification.getStatus()).isEqualTo(NotificationStatus.PENDING);
+            assertThat(notification.getNextAttemptAt()).isEqualTo(until);
+        }
+    }
+
+    private Notification notification(Long id, String email) {
+        Notification notification = Notification.builder()
+                .recipientEmail(email)
+                .previewText("미리보기")
+                .messageJson("[]")
+                .type(NotificationType.TICKET_UPDATE)
+                .status(NotificationStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        return notification;
+    }
+}
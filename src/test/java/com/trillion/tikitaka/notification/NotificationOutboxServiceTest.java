@@ -0,0 +1,91 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.BlockJsonConverter;
+import com.trillion.tikitaka.notification.application.NotificationOutboxService;
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.dto.response.Block;
+import com.trillion.tikitaka.notification.dto.response.HeaderBlock;
+import com.trillion.tikitaka.notification.infrastructure.NotificationRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.dto.response.UserResponse;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("알림 outbox 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ManagerDirectory managerDirectory;
+
+    @Mock
+    private BlockJsonConverter blockJsonConverter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NotificationOutboxService outboxService;
+
+    @Nested
+    @DisplayName("전체 담당자 알림 저장 시")
+    class DescribeEnqueueToManagers {
+
+        @Test
+        @DisplayName("메시지는 한 번만 직렬화하고, 담당자별 알림을 한 번의 배치로 저장한다.")
+        void should_SerializeOnceAndBatchInsert() {
+            // given
+            List<UserResponse> managers = List.of(
+                    new UserResponse(1L, "manager1.tk", "manager1@email.com", Role.MANAGER, null),
+                    new UserResponse(2L, "manager2.tk", "manager2@email.com", Role.MANAGER, null),
+                    new UserResponse(3L, "manager3.tk", "manager3@email.com", Role.MANAGER, null)
+            );
+            List<Block> blocks = List.of(new HeaderBlock("티켓 생성 알림", "blue"));
+            when(managerDirectory.getManagers()).thenReturn(managers);
+            when(blockJsonConverter.convertBlocksToJson(blocks)).thenReturn("[]");
+
+            // when
+            int saved = outboxService.enqueueToManagers(NotificationType.TICKET_CREATE, "티켓 생성", blocks);
+
+            // then
+            assertThat(saved).isEqualTo(3);
+            verify(blockJsonConverter, times(1)).convertBlocksToJson(blocks);
+            verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(managers), anyInt(), any());
+            verifyNoInteractions(userRepository, notificationRepository);
+        }
+
+        @Test
+        @DisplayName("담당자가 없으면 저장하지 않는다.")
+        void should_SaveNothing_When_NoManagers() {
+            // given
+            when(managerDirectory.getManagers()).thenReturn(List.of());
+
+            // when
+            int saved = outboxService.enqueueToManagers(NotificationType.TICKET_CREATE, "티켓 생성", List.of());
+
+            // then
+            assertThat(saved).isZero();
+            verifyNoInteractions(jdbcTemplate, blockJsonConverter);
+        }
+    }
+}
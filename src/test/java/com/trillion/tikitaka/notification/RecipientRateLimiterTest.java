@@ -0,0 +1,91 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.RecipientRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("수신자별 알림 전송 한도 유닛 테스트")
+class RecipientRateLimiterTest {
+
+    private MutableClock clock;
+    private RecipientRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        // 3건까지 연달아, 이후 분당 6건(10초에 1건)
+        rateLimiter = new RecipientRateLimiter(3, 6, clock);
+    }
+
+    @Test
+    @DisplayName("한도까지는 바로 보내고, 넘으면 다음 토큰까지 남은 시간을 알려준다.")
+    void should_Limit_When_CapacityExceeded() {
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("manager@email.com")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("manager@email.com"))
+                .isBetween(Duration.ofMillis(9_999), Duration.ofMillis(10_001));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 생긴다.")
+    void should_Refill_When_TimePassed() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("manager@email.com");
+        }
+
+        // when
+        clock.advance(Duration.ofSeconds(11));
+
+        // then
+        assertThat(rateLimiter.tryAcquire("manager@email.com")).isZero();
+        assertThat(rateLimiter.tryAcquire("manager@email.com")).isPositive();
+    }
+
+    @Test
+    @DisplayName("수신자마다 한도를 따로 센다.")
+    void should_LimitPerRecipient() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("manager1@email.com");
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("manager1@email.com")).isPositive();
+        assertThat(rateLimiter.tryAcquire("manager2@email.com")).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
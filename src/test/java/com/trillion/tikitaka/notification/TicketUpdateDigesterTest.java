@@ -0,0 +1,113 @@
+package com.trillion.tikitaka.notification;
+
+import com.trillion.tikitaka.notification.application.BlockJsonConverter;
+import com.trillion.tikitaka.notification.application.NotificationOutboxService;
+import com.trillion.tikitaka.notification.application.TicketUpdateDigester;
+import com.trillion.tikitaka.notification.application.TicketUpdateMessageBuilder;
+import com.trillion.tikitaka.notification.domain.Notification;
+import com.trillion.tikitaka.notification.domain.NotificationStatus;
+import com.trillion.tikitaka.notification.domain.NotificationType;
+import com.trillion.tikitaka.notification.event.TicketUpdateEvent;
+import com.trillion.tikitaka.notification.infrastructure.NotificationRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.user.domain.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("티켓 수정 알림 모아 보내기 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class TicketUpdateDigesterTest {
+
+    private static final String EMAIL = "requester@email.com";
+    private static final String DIGEST_KEY = "TICKET_UPDATE:1";
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private BlockJsonConverter blockJsonConverter;
+
+    @Spy
+    private TicketUpdateMessageBuilder messageBuilder;
+
+    private TicketUpdateDigester digester;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        digester = new TicketUpdateDigester(notificationRepository, outboxService, messageBuilder, blockJsonConverter, 60);
+        ticket = Ticket.builder().title("모니터 교체 요청").build();
+        ReflectionTestUtils.setField(ticket, "id", 1L);
+    }
+
+    @Nested
+    @DisplayName("티켓 수정 알림 저장 시")
+    class DescribeEnqueue {
+
+        @Test
+        @DisplayName("모을 알림이 없으면 window 뒤에 보내는 새 알림을 저장한다.")
+        void should_EnqueueDelayedNotification_When_NoPendingDigest() {
+            // given
+            when(notificationRepository.findDigestTargetForUpdate(EMAIL, DIGEST_KEY)).thenReturn(Optional.empty());
+
+            // when
+            digester.enqueue(updateEvent("상태"));
+
+            // then
+            ArgumentCaptor<LocalDateTime> sendAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(outboxService).enqueue(eq(EMAIL), eq(NotificationType.TICKET_UPDATE), anyString(), anyList(),
+                    eq(DIGEST_KEY), eq("상태"), sendAfter.capture());
+            assertThat(sendAfter.getValue()).isAfter(LocalDateTime.now().plusSeconds(50));
+        }
+
+        @Test
+        @DisplayName("아직 보내지 않은 같은 티켓 알림이 있으면 변경 항목을 합쳐 한 메시지로 만든다.")
+        void should_MergeIntoPendingNotification_When_DigestExists() {
+            // given
+            Notification pending = Notification.builder()
+                    .recipientEmail(EMAIL)
+                    .previewText("티켓 수정")
+                    .messageJson("[]")
+                    .type(NotificationType.TICKET_UPDATE)
+                    .status(NotificationStatus.PENDING)
+                    .digestKey(DIGEST_KEY)
+                    .digestItems("상태,우선순위")
+                    .build();
+            when(notificationRepository.findDigestTargetForUpdate(EMAIL, DIGEST_KEY)).thenReturn(Optional.of(pending));
+            when(blockJsonConverter.convertBlocksToJson(anyList())).thenReturn("[merged]");
+
+            // when
+            digester.enqueue(updateEvent("마감기한"));
+            digester.enqueue(updateEvent("상태"));
+
+            // then
+            verify(messageBuilder, times(2)).buildMessage(any(TicketUpdateEvent.class), eq(List.of("상태", "우선순위", "마감기한")));
+            assertThat(pending.getDigestItems()).isEqualTo("상태,우선순위,마감기한");
+            assertThat(pending.getMessageJson()).isEqualTo("[merged]");
+            verify(outboxService, never()).enqueue(anyString(), any(), anyString(), anyList(), any(), any(), any());
+        }
+    }
+
+    private TicketUpdateEvent updateEvent(String modification) {
+        return new TicketUpdateEvent(this, EMAIL, ticket, "manager.tk", modification, Role.MANAGER);
+    }
+}
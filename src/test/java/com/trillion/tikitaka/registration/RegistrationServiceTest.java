@@ -11,6 +11,7 @@ import com.trillion.tikitaka.registration.exception.DuplicatedUsernameException;
 import com.trillion.tikitaka.registration.exception.RegistrationAlreadyProcessedException;
 import com.trillion.tikitaka.registration.exception.RegistrationNotFoundException;
 import com.trillion.tikitaka.registration.infrastructure.RegistrationRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import jakarta.validation.ConstraintViolation;
@@ -56,6 +57,9 @@ class RegistrationServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private ManagerDirectory managerDirectory;
+
     @InjectMocks
     private RegistrationService registrationService;
 
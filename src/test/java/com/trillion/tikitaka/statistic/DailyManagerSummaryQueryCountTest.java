@@ -0,0 +1,137 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.statistics.application.DailyStatisticsService;
+import com.trillion.tikitaka.statistics.dto.AllDoneUser;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("일간 담당자별 처리 현황 쿼리 수 테스트")
+public class DailyManagerSummaryQueryCountTest {
+
+    @Autowired
+    private DailyStatisticsService dailyStatisticsService;
+
+    @Autowired
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ManagerDirectory managerDirectory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User firstManager;
+
+    @BeforeEach
+    void setUp() {
+        firstManager = saveManagers(0, 3).get(0);
+
+        LocalDate today = LocalDate.now();
+        dailyTicketStatsRepository.addCounts(today, LocalDateTime.now().getHour(),
+                firstManager.getId(), 0L, 0L, 0L, 0, 2, 3, 0);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 테스트 데이터는 롤백되므로 다른 테스트가 캐시된 담당자 목록을 보지 않도록 비운다.
+    @AfterEach
+    void tearDown() {
+        managerDirectory.invalidate();
+    }
+
+    @Test
+    @DisplayName("담당자 수와 관계없이 담당자 목록 1회, 담당자별 집계 1회의 쿼리만 실행한다.")
+    void should_ExecuteConstantStatements_Regardless_Of_ManagerCount() {
+        // given
+        managerDirectory.invalidate();
+        statistics.clear();
+
+        // when
+        List<AllDoneUser> few = dailyStatisticsService.getDailyManagerSummary();
+        long fewManagerStatements = statistics.getPrepareStatementCount();
+
+        saveManagers(3, 150);
+        entityManager.flush();
+        entityManager.clear();
+        managerDirectory.invalidate();
+        statistics.clear();
+
+        List<AllDoneUser> many = dailyStatisticsService.getDailyManagerSummary();
+        long manyManagerStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(fewManagerStatements).isEqualTo(2);
+        assertThat(manyManagerStatements).isEqualTo(fewManagerStatements);
+        assertThat(many).hasSize(few.size() + 147);
+
+        AllDoneUser stats = many.stream()
+                .filter(user -> user.getUserId().equals(firstManager.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(stats.getDoneTickets()).isEqualTo(2);
+        assertThat(stats.getInProgressTickets()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("담당자 목록이 캐시되어 있으면 담당자별 집계 1회만 실행한다.")
+    void should_ExecuteOneStatement_When_ManagerDirectoryCached() {
+        // given
+        managerDirectory.invalidate();
+        dailyStatisticsService.getDailyManagerSummary();
+        statistics.clear();
+
+        // when
+        dailyStatisticsService.getDailyManagerSummary();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private List<User> saveManagers(int from, int to) {
+        List<User> managers = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            managers.add(userRepository.save(User.builder()
+                    .username("summaryManager" + i)
+                    .email("summary.manager" + i + "@test.com")
+                    .password("managerpass")
+                    .role(Role.MANAGER)
+                    .build()));
+        }
+        return managers;
+    }
+}
@@ -76,7 +76,8 @@ public class DailyStatisticsIntegrationTest {
     @WithMockUser(username = "admin", authorities = {"ADMIN"})
     void getDailyCategorySummaryTest() throws Exception {
         String responseBody = mockMvc.perform(get("/statistics/daily/catSummary")
-                        .param("date", "2025-02-16"))
+                        .param("startDate", "2025-02-01")
+                        .param("endDate", "2025-02-16"))
                 .andExpect(status().isOk())
                 .andReturn().getResponse().getContentAsString();
 
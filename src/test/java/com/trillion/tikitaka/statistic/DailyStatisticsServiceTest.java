@@ -1,17 +1,21 @@
 package com.trillion.tikitaka.statistic;
 
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.dto.response.UserResponse;
-import com.trillion.tikitaka.user.infrastructure.UserRepository;
-import com.trillion.tikitaka.category.domain.Category;
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
 import com.trillion.tikitaka.statistics.dto.response.DailyCategoryStatisticsResponse;
 import com.trillion.tikitaka.statistics.application.DailyStatisticsService;
 import com.trillion.tikitaka.statistics.application.StatisticsService;
 import com.trillion.tikitaka.statistics.dto.AllDoneUser;
+import com.trillion.tikitaka.statistics.dto.CategoryTicketCount;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
 import com.trillion.tikitaka.statistics.dto.response.DailyStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.DailyTypeStatisticsResponse;
 import com.trillion.tikitaka.statistics.dto.response.DailyCompletionResponse;
-import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
@@ -23,13 +27,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
-import java.time.LocalTime;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @DisplayName("일간 티켓 처리 현황 테스트")
@@ -45,11 +48,17 @@ class DailyStatisticsServiceTest {
     private TicketRepository ticketRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ManagerDirectory managerDirectory;
 
     @Mock
     private TicketTypeRepository ticketTypeRepository;
 
+    @Mock
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -63,12 +72,10 @@ class DailyStatisticsServiceTest {
         @DisplayName("금일 생성, 진행중, 완료된 티켓 수를 반환한다")
         void should_ReturnCorrectDailyStatistics() {
             // given
-            LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-            LocalDateTime endOfToday = startOfToday.plusDays(1);
+            LocalDate today = LocalDate.now();
 
-            when(ticketRepository.countCreatedToday(startOfToday, endOfToday)).thenReturn(10);
-            when(ticketRepository.countInProgressToday(startOfToday, endOfToday, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW)).thenReturn(5);
-            when(ticketRepository.countDoneToday(startOfToday, endOfToday, Ticket.Status.DONE)).thenReturn(7);
+            when(dailyTicketStatsRepository.sumBetween(today, today.plusDays(1), null))
+                    .thenReturn(new DailyTicketStatsCount(null, null, null, null, null, 10, 7, 5, 0));
 
             // when
             DailyStatisticsResponse result = dailyStatisticsService.getDailySummary();
@@ -87,17 +94,16 @@ class DailyStatisticsServiceTest {
         @DisplayName("각 담당자의 진행 중 및 완료된 티켓 수를 반환한다")
         void should_ReturnCorrectManagerStatistics() {
             // given
-            LocalDateTime startOfToday = LocalDateTime.now().toLocalDate().atStartOfDay();
-            LocalDateTime endOfToday = startOfToday.plusDays(1);
+            LocalDate today = LocalDate.now();
 
             UserResponse manager1 = new UserResponse(101L, "김철수", "chulsoo@example.com", Role.MANAGER, "profile1.jpg");
             UserResponse manager2 = new UserResponse(102L, "박영희", "younghee@example.com", Role.MANAGER, "profile2.jpg");
 
-            when(userRepository.getAllUsers()).thenReturn(List.of(manager1, manager2));
-            when(ticketRepository.countByManagerAndStatus(101L, startOfToday, endOfToday, List.of(Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW))).thenReturn(3);
-            when(ticketRepository.countByManagerAndStatus(101L, startOfToday, endOfToday, List.of(Ticket.Status.DONE))).thenReturn(5);
-            when(ticketRepository.countByManagerAndStatus(102L, startOfToday, endOfToday, List.of(Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW))).thenReturn(2);
-            when(ticketRepository.countByManagerAndStatus(102L, startOfToday, endOfToday, List.of(Ticket.Status.DONE))).thenReturn(7);
+            when(managerDirectory.getManagers()).thenReturn(List.of(manager1, manager2));
+            when(dailyTicketStatsRepository.sumGroupByManager(today, today.plusDays(1))).thenReturn(List.of(
+                    new DailyTicketStatsCount(null, 101L, null, null, null, 0, 5, 3, 0),
+                    new DailyTicketStatsCount(null, 102L, null, null, null, 0, 7, 2, 0)
+            ));
 
             // when
             List<AllDoneUser> response = dailyStatisticsService.getDailyManagerSummary();
@@ -126,17 +132,18 @@ class DailyStatisticsServiceTest {
         @DisplayName("각 유형별 금일 생성된 티켓 개수를 반환한다")
         void should_ReturnCorrectDailyTypeStatistics() {
             // given
-            LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-            LocalDateTime endOfDay = LocalDateTime.now().toLocalDate().atTime(LocalTime.MAX);
+            LocalDate today = LocalDate.now();
 
-            TicketType bugReport = new TicketType("버그 리포트");
-            TicketType featureRequest = new TicketType("기능 요청");
+            TicketType bugReport = new TicketType(1L, "버그 리포트");
+            TicketType featureRequest = new TicketType(2L, "기능 요청");
 
             List<TicketType> ticketTypes = Arrays.asList(bugReport, featureRequest);
 
             when(ticketTypeRepository.findAll()).thenReturn(ticketTypes);
-            when(ticketRepository.countByCreatedAtBetweenAndTicketType(startOfDay, endOfDay, bugReport)).thenReturn(45);
-            when(ticketRepository.countByCreatedAtBetweenAndTicketType(startOfDay, endOfDay, featureRequest)).thenReturn(32);
+            when(dailyTicketStatsRepository.sumGroupByType(today, today.plusDays(1))).thenReturn(List.of(
+                    new DailyTicketStatsCount(null, null, 1L, null, null, 45, 0, 0, 0),
+                    new DailyTicketStatsCount(null, null, 2L, null, null, 32, 0, 0, 0)
+            ));
 
             // when
             List<DailyTypeStatisticsResponse> result = dailyStatisticsService.getDailyTypeSummary();
@@ -150,8 +157,7 @@ class DailyStatisticsServiceTest {
 
             // verify
             verify(ticketTypeRepository, times(1)).findAll();
-            verify(ticketRepository, times(1)).countByCreatedAtBetweenAndTicketType(startOfDay, endOfDay, bugReport);
-            verify(ticketRepository, times(1)).countByCreatedAtBetweenAndTicketType(startOfDay, endOfDay, featureRequest);
+            verify(dailyTicketStatsRepository, times(1)).sumGroupByType(today, today.plusDays(1));
         }
     }
 
@@ -163,62 +169,67 @@ class DailyStatisticsServiceTest {
         @DisplayName("금일 1차, 2차 카테고리별 생성된 티켓 수를 반환한다")
         void should_ReturnCorrectDailyCategoryStatistics() {
             // Given
-            Category firstCategory1 = new Category(1L, "IT 서비스", null);
-            Category firstCategory2 = new Category(2L, "인프라 지원", null);
-
-            Category secondCategory1 = new Category(101L, "백엔드 개발", firstCategory1);
-            Category secondCategory2 = new Category(102L, "프론트엔드 개발", firstCategory1);
-            Category secondCategory3 = new Category(201L, "일반 상담", firstCategory2);
-            Category secondCategory4 = new Category(202L, "불만 접수", firstCategory2);
-
-
-            when(ticketRepository.countByFirstCategoryToday(any(), any()))
-                    .thenReturn(List.of(
-                            new Object[]{firstCategory1, 43},
-                            new Object[]{firstCategory2, 53}
-                    ));
-
-            when(ticketRepository.countBySecondCategoryToday(any(), any(), eq(firstCategory1)))
-                    .thenReturn(List.of(
-                            new Object[]{secondCategory1, 25},
-                            new Object[]{secondCategory2, 18}
-                    ));
-
-            when(ticketRepository.countBySecondCategoryToday(any(), any(), eq(firstCategory2)))
-                    .thenReturn(List.of(
-                            new Object[]{secondCategory3, 32},
-                            new Object[]{secondCategory4, 21}
-                    ));
+            LocalDate today = LocalDate.now();
+            when(dailyTicketStatsRepository.countCreatedByCategory(today, today.plusDays(1))).thenReturn(List.of(
+                    new CategoryTicketCount(1L, "IT 서비스", 101L, "백엔드 개발", 25L),
+                    new CategoryTicketCount(1L, "IT 서비스", 102L, "프론트엔드 개발", 18L),
+                    new CategoryTicketCount(2L, "인프라 지원", null, null, 4L),
+                    new CategoryTicketCount(2L, "인프라 지원", 201L, "일반 상담", 32L),
+                    new CategoryTicketCount(2L, "인프라 지원", 202L, "불만 접수", 21L)
+            ));
 
             // When
             List<DailyCategoryStatisticsResponse> result = dailyStatisticsService.getDailyCategorySummary();
-            System.out.println("결과 값: " + result);
 
             // Then
-            assertThat(result)
-                    .isNotEmpty()
-                    .allSatisfy(category -> assertThat(category.getFirstCategoryId()).isNotNull());
-
             assertThat(result).usingRecursiveComparison().isEqualTo(List.of(
                     new DailyCategoryStatisticsResponse(
-                            firstCategory1.getId(),
-                            firstCategory1.getName(),
+                            1L,
+                            "IT 서비스",
                             List.of(
-                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(secondCategory1.getId(), secondCategory1.getName(), 25),
-                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(secondCategory2.getId(), secondCategory2.getName(), 18)
+                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(101L, "백엔드 개발", 25),
+                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(102L, "프론트엔드 개발", 18)
                             ),
                             43
                     ),
                     new DailyCategoryStatisticsResponse(
-                            firstCategory2.getId(),
-                            firstCategory2.getName(),
+                            2L,
+                            "인프라 지원",
                             List.of(
-                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(secondCategory3.getId(), secondCategory3.getName(), 32),
-                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(secondCategory4.getId(), secondCategory4.getName(), 21)
+                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(201L, "일반 상담", 32),
+                                    new DailyCategoryStatisticsResponse.SecondCategoryInfo(202L, "불만 접수", 21)
                             ),
-                            53
+                            57
                     )
             ));
+            verify(dailyTicketStatsRepository, times(1)).countCreatedByCategory(today, today.plusDays(1));
+        }
+
+        @Test
+        @DisplayName("지정한 기간의 종료일까지 포함해 조회한다")
+        void should_QueryInclusiveRange_When_PeriodGiven() {
+            // Given
+            LocalDate startDate = LocalDate.of(2025, 2, 1);
+            LocalDate endDate = LocalDate.of(2025, 2, 28);
+            when(dailyTicketStatsRepository.countCreatedByCategory(startDate, endDate.plusDays(1))).thenReturn(List.of());
+
+            // When
+            List<DailyCategoryStatisticsResponse> result = dailyStatisticsService.getCategorySummary(startDate, endDate);
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(dailyTicketStatsRepository, times(1)).countCreatedByCategory(startDate, LocalDate.of(2025, 3, 1));
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다")
+        void should_ThrowException_When_StartDateAfterEndDate() {
+            // When & Then
+            assertThatThrownBy(() -> dailyStatisticsService.getCategorySummary(
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1)))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.INVALID_STATISTICS_PERIOD.getMessage());
+            verifyNoInteractions(dailyTicketStatsRepository);
         }
     }
     @Nested
@@ -230,14 +241,13 @@ class DailyStatisticsServiceTest {
         void should_ReturnCorrectCompletionStatistics() {
             // Given
             Long managerId = 22L;
-            LocalDateTime todayStart = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-            LocalDateTime todayEnd = todayStart.plusDays(1).minusNanos(1);
+            LocalDate today = LocalDate.now();
 
             int createdTickets = 13;
             int doneTickets = 7;
 
-            when(ticketRepository.countByCreatedAtAndUserId(todayStart, todayEnd, managerId)).thenReturn(createdTickets);
-            when(ticketRepository.countByCompletedAtAndUserId(todayStart, todayEnd, managerId)).thenReturn(doneTickets);
+            when(dailyTicketStatsRepository.sumBetween(today, today.plusDays(1), managerId))
+                    .thenReturn(new DailyTicketStatsCount(null, null, null, null, null, createdTickets, doneTickets, 0, 0));
 
             // When
             DailyCompletionResponse response = statisticsService.getDailyCompletionStatistics(managerId);
@@ -247,8 +257,7 @@ class DailyStatisticsServiceTest {
             assertThat(response.getCreatedTickets()).isEqualTo(createdTickets);
             assertThat(response.getDoneTickets()).isEqualTo(doneTickets);
 
-            verify(ticketRepository, times(1)).countByCreatedAtAndUserId(todayStart, todayEnd, managerId);
-            verify(ticketRepository, times(1)).countByCompletedAtAndUserId(todayStart, todayEnd, managerId);
+            verify(dailyTicketStatsRepository, times(1)).sumBetween(today, today.plusDays(1), managerId);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.category.domain.Category;
+import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.statistics.application.DailyTicketStatsAggregator;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import com.trillion.tikitaka.ticket.application.TicketService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
+import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("일간 처리 현황 증분 집계 통합 테스트")
+public class DailyTicketStatsAggregatorIntegrationTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private DailyTicketStatsAggregator dailyTicketStatsAggregator;
+
+    @Autowired
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private CustomUserDetails requesterDetails;
+    private CustomUserDetails managerDetails;
+    private User manager;
+    private Category parentCategory;
+    private Category childCategory;
+    private TicketType typeA;
+    private TicketType typeB;
+
+    @BeforeEach
+    void setUp() {
+        User requester = userRepository.saveAndFlush(User.builder()
+                .username("dailyUser")
+                .email("daily.user@test.com")
+                .password("dailypass")
+                .role(Role.USER)
+                .build());
+        manager = userRepository.saveAndFlush(User.builder()
+                .username("dailyManager")
+                .email("daily.manager@test.com")
+                .password("dailypass")
+                .role(Role.MANAGER)
+                .build());
+        requesterDetails = new CustomUserDetails(requester);
+        managerDetails = new CustomUserDetails(manager);
+
+        parentCategory = categoryRepository.saveAndFlush(new Category("일간 1차", null));
+        childCategory = categoryRepository.saveAndFlush(new Category("일간 2차", parentCategory));
+        typeA = ticketTypeRepository.saveAndFlush(new TicketType("일간 유형 A"));
+        typeB = ticketTypeRepository.saveAndFlush(new TicketType("일간 유형 B"));
+    }
+
+    @Test
+    @DisplayName("티켓 변경을 증분 반영한 결과는 재집계 결과와 같고, 재집계는 여러 번 실행해도 결과가 같다.")
+    void should_MatchRebuild_When_TicketChangesAppliedIncrementally() {
+        // given
+        Long first = createTicket(parentCategory, childCategory, typeA, true);
+        ticketService.approveTicket(first, managerDetails);
+
+        Long second = createTicket(parentCategory, null, typeA, false);
+        ticketService.editManager(second, manager.getId(), managerDetails);
+        ticketService.editStatus(second, Ticket.Status.DONE, managerDetails);
+
+        Long third = createTicket(null, null, typeB, false);
+        ticketService.editTypeForManager(third, typeA.getId(), managerDetails);
+        ticketService.deleteTicket(third, requesterDetails);
+
+        Long fourth = createTicket(null, null, typeB, true);
+        ticketService.editUrgent(fourth, EditTicketRequest.builder().urgent(false).build(), requesterDetails);
+        applyRecordedChanges();
+
+        LocalDate today = LocalDate.now();
+
+        // when
+        Map<String, List<Integer>> incremental = readStats(today);
+        dailyTicketStatsAggregator.rebuild(today);
+        Map<String, List<Integer>> rebuilt = readStats(today);
+        dailyTicketStatsAggregator.rebuild(today);
+        Map<String, List<Integer>> rebuiltAgain = readStats(today);
+
+        // then
+        assertThat(incremental).isEqualTo(rebuilt);
+        assertThat(rebuiltAgain).isEqualTo(rebuilt);
+
+        // [생성, 완료, 처리 중, 긴급]
+        assertThat(rebuilt.get("TYPE:" + typeA.getId())).containsExactly(2, 1, 1, 1);
+        assertThat(rebuilt.get("TYPE:" + typeB.getId())).containsExactly(1, 0, 0, 0);
+        assertThat(rebuilt.get("USER:" + manager.getId())).containsExactly(2, 1, 1, 1);
+        assertThat(rebuilt.get("CATEGORY:" + parentCategory.getId() + ":" + childCategory.getId())).containsExactly(1, 0, 1, 1);
+        assertThat(rebuilt.get("CATEGORY:" + parentCategory.getId() + ":null")).containsExactly(1, 1, 0, 0);
+    }
+
+    // 다른 테스트 데이터와 섞이지 않도록 이 테스트에서 만든 담당자/유형/카테고리만 비교한다.
+    private Map<String, List<Integer>> readStats(LocalDate date) {
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDate next = date.plusDays(1);
+        Map<String, List<Integer>> result = new HashMap<>();
+        for (DailyTicketStatsCount count : dailyTicketStatsRepository.sumGroupByType(date, next)) {
+            if (List.of(typeA.getId(), typeB.getId()).contains(count.getTypeId())) {
+                put(result, "TYPE:" + count.getTypeId(), count);
+            }
+        }
+        for (DailyTicketStatsCount count : dailyTicketStatsRepository.sumGroupByManager(date, next)) {
+            if (manager.getId().equals(count.getManagerId())) {
+                put(result, "USER:" + count.getManagerId(), count);
+            }
+        }
+        for (DailyTicketStatsCount count : dailyTicketStatsRepository.sumGroupByCategory(date, next)) {
+            if (parentCategory.getId().equals(count.getFirstCategoryId())) {
+                put(result, "CATEGORY:" + count.getFirstCategoryId() + ":" + count.getSecondCategoryId(), count);
+            }
+        }
+        return result;
+    }
+
+    // 증분 반영 후 합계가 0 이 된 행은 재집계 결과에 없으므로 비교에서 제외한다.
+    private void put(Map<String, List<Integer>> result, String key, DailyTicketStatsCount count) {
+        List<Integer> values = List.of(count.getCreated(), count.getDone(), count.getInProgress(), count.getUrgent());
+        if (values.stream().anyMatch(value -> value != 0)) result.put(key, values);
+    }
+
+    // 테스트 트랜잭션은 커밋되지 않아 커밋 후 리스너가 실행되지 않으므로, 기록된 변경 이벤트를 직접 반영한다.
+    private void applyRecordedChanges() {
+        applicationEvents.stream(TicketChangeEvent.class)
+                .forEach(event -> dailyTicketStatsAggregator.applyChange(event.getBefore(), event.getAfter()));
+        applicationEvents.clear();
+    }
+
+    private Long createTicket(Category firstCategory, Category secondCategory, TicketType ticketType, boolean urgent) {
+        CreateTicketRequest request = CreateTicketRequest.builder()
+                .title("일간 통계 티켓")
+                .description("일간 통계 티켓 내용")
+                .typeId(ticketType.getId())
+                .firstCategoryId(firstCategory != null ? firstCategory.getId() : null)
+                .secondCategoryId(secondCategory != null ? secondCategory.getId() : null)
+                .deadline(LocalDateTime.now().plusDays(3))
+                .urgent(urgent)
+                .build();
+        return ticketService.createTicket(request, null, requesterDetails);
+    }
+}
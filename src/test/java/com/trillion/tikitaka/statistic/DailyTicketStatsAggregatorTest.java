@@ -0,0 +1,57 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.statistics.application.DailyTicketStatsAggregator;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("일간 처리 현황 증분 집계 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class DailyTicketStatsAggregatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 2);
+    private static final LocalDateTime CREATED_AT = DATE.atTime(8, 0);
+    private static final LocalDateTime STARTED_AT = DATE.atTime(9, 0);
+
+    @Mock
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @InjectMocks
+    private DailyTicketStatsAggregator aggregator;
+
+    @Test
+    @DisplayName("처리 중/완료 건수는 마지막 수정 시각이 아닌 처리 시작/완료 시각 구간에서 증감한다.")
+    void should_BucketByLifecycleTime_When_UpdatedAtMovedWithoutEvent() {
+        // given
+        // 처리 시작 뒤 진행률 갱신으로 updated_at 만 11시로 바뀐 티켓을 13시에 완료한다.
+        TicketSnapshot before = snapshot(Ticket.Status.IN_PROGRESS, DATE.atTime(11, 0), null);
+        TicketSnapshot after = snapshot(Ticket.Status.DONE, DATE.atTime(13, 0), DATE.atTime(13, 0));
+
+        // when
+        aggregator.applyChange(before, after);
+
+        // then
+        verify(dailyTicketStatsRepository).addCounts(eq(DATE), eq(9), anyLong(), anyLong(), anyLong(), anyLong(),
+                eq(0), eq(0), eq(-1), eq(0));
+        verify(dailyTicketStatsRepository).addCounts(eq(DATE), eq(13), anyLong(), anyLong(), anyLong(), anyLong(),
+                eq(0), eq(1), eq(0), eq(0));
+        verifyNoMoreInteractions(dailyTicketStatsRepository);
+    }
+
+    private TicketSnapshot snapshot(Ticket.Status status, LocalDateTime updatedAt, LocalDateTime doneAt) {
+        return new TicketSnapshot(1L, 2L, 3L, status, false, null, null, 4L,
+                CREATED_AT, updatedAt, STARTED_AT, doneAt);
+    }
+}
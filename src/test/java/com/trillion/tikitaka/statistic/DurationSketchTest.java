@@ -0,0 +1,71 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.statistics.domain.DurationSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("처리 기간 분포 유닛 테스트")
+class DurationSketchTest {
+
+    @Test
+    @DisplayName("분위수는 실제 값과의 상대 오차가 3% 이내이다.")
+    void should_ApproximateQuantiles_Within_RelativeError() {
+        // given
+        DurationSketch sketch = new DurationSketch();
+        for (long minutes = 1; minutes <= 10_000; minutes++) {
+            sketch.add(minutes);
+        }
+
+        // when
+        double p50 = sketch.quantile(0.5);
+        double p90 = sketch.quantile(0.9);
+
+        // then
+        assertThat(sketch.getCount()).isEqualTo(10_000);
+        assertThat(p50).isCloseTo(5_000, within(5_000 * 0.03));
+        assertThat(p90).isCloseTo(9_000, within(9_000 * 0.03));
+    }
+
+    @Test
+    @DisplayName("나눠 집계한 분포를 합치면 한 번에 집계한 분포와 같다.")
+    void should_EqualSingleSketch_When_Merged() {
+        // given
+        DurationSketch whole = new DurationSketch();
+        DurationSketch january = new DurationSketch();
+        DurationSketch february = new DurationSketch();
+        for (long minutes = 0; minutes < 3_000; minutes += 7) {
+            whole.add(minutes);
+            (minutes % 2 == 0 ? january : february).add(minutes);
+        }
+
+        // when
+        DurationSketch merged = new DurationSketch();
+        merged.merge(january);
+        merged.merge(february);
+
+        // then
+        assertThat(merged.getBucketCounts()).isEqualTo(whole.getBucketCounts());
+        assertThat(merged.quantile(0.9)).isEqualTo(whole.quantile(0.9));
+    }
+
+    @Test
+    @DisplayName("추가한 건수를 빼면 분포가 비고, 분위수는 null 이다.")
+    void should_BeEmpty_When_CountsRemoved() {
+        // given
+        DurationSketch sketch = new DurationSketch();
+        sketch.add(90);
+        sketch.add(600);
+
+        // when
+        sketch.addToBucket(DurationSketch.bucketOf(90), -1);
+        sketch.addToBucket(DurationSketch.bucketOf(600), -1);
+
+        // then
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.quantile(0.5)).isNull();
+    }
+}
@@ -0,0 +1,241 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.category.domain.Category;
+import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsAggregator;
+import com.trillion.tikitaka.statistics.domain.MonthlyDurationHistogram;
+import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyDurationHistogramRepository;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
+import com.trillion.tikitaka.ticket.application.TicketService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
+import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("월별 통계 증분 집계 통합 테스트")
+public class MonthlyStatisticsAggregatorIntegrationTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+
+    @Autowired
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Autowired
+    private MonthlyDurationHistogramRepository monthlyDurationHistogramRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private CustomUserDetails requesterDetails;
+    private CustomUserDetails managerDetails;
+    private User manager;
+    private Category parentCategory;
+    private Category childCategory;
+    private TicketType typeA;
+    private TicketType typeB;
+
+    @BeforeEach
+    void setUp() {
+        User requester = userRepository.saveAndFlush(User.builder()
+                .username("statUser")
+                .email("stat.user@test.com")
+                .password("statpass")
+                .role(Role.USER)
+                .build());
+        manager = userRepository.saveAndFlush(User.builder()
+                .username("statManager")
+                .email("stat.manager@test.com")
+                .password("statpass")
+                .role(Role.MANAGER)
+                .build());
+        requesterDetails = new CustomUserDetails(requester);
+        managerDetails = new CustomUserDetails(manager);
+
+        parentCategory = categoryRepository.saveAndFlush(new Category("통계 1차", null));
+        childCategory = categoryRepository.saveAndFlush(new Category("통계 2차", parentCategory));
+        typeA = ticketTypeRepository.saveAndFlush(new TicketType("통계 유형 A"));
+        typeB = ticketTypeRepository.saveAndFlush(new TicketType("통계 유형 B"));
+    }
+
+    @Test
+    @DisplayName("티켓 변경을 증분 반영한 결과는 재집계 결과와 같고, 재집계는 여러 번 실행해도 결과가 같다.")
+    void should_MatchRebuild_When_TicketChangesAppliedIncrementally() {
+        // given
+        Long first = createTicket(parentCategory, childCategory, typeA, true);
+        ticketService.approveTicket(first, managerDetails);
+
+        Long second = createTicket(parentCategory, null, typeA, false);
+        ticketService.editManager(second, manager.getId(), managerDetails);
+        ticketService.editStatus(second, Ticket.Status.DONE, managerDetails);
+
+        Long third = createTicket(null, null, typeB, false);
+        ticketService.editTypeForManager(third, typeA.getId(), managerDetails);
+        ticketService.deleteTicket(third, requesterDetails);
+
+        Long fourth = createTicket(null, null, typeB, true);
+        ticketService.editUrgent(fourth, EditTicketRequest.builder().urgent(false).build(), requesterDetails);
+        applyRecordedChanges();
+
+        YearMonth now = YearMonth.now();
+        List<String> dimensions = List.of(
+                MonthlyStatistics.dimensionKeyOf(parentCategory.getId(), null, null),
+                MonthlyStatistics.dimensionKeyOf(childCategory.getId(), null, null),
+                MonthlyStatistics.dimensionKeyOf(null, manager.getId(), null),
+                MonthlyStatistics.dimensionKeyOf(null, null, typeA.getId()),
+                MonthlyStatistics.dimensionKeyOf(null, null, typeB.getId())
+        );
+
+        // when
+        Map<String, List<Integer>> incremental = readStatistics(now, dimensions);
+        monthlyStatisticsAggregator.rebuild(now.getYear(), now.getMonthValue());
+        Map<String, List<Integer>> rebuilt = readStatistics(now, dimensions);
+        monthlyStatisticsAggregator.rebuild(now.getYear(), now.getMonthValue());
+        Map<String, List<Integer>> rebuiltAgain = readStatistics(now, dimensions);
+
+        // then
+        assertThat(incremental).isEqualTo(rebuilt);
+        assertThat(rebuiltAgain).isEqualTo(rebuilt);
+
+        // [생성, 완료, 긴급, 처리 중]
+        assertThat(rebuilt.get(dimensions.get(0))).containsExactly(1, 1, 1, 1);
+        assertThat(rebuilt.get(dimensions.get(1))).containsExactly(1, 0, 0, 0);
+        assertThat(rebuilt.get(dimensions.get(2))).containsExactly(2, 1, 1, 1);
+        assertThat(rebuilt.get(dimensions.get(3))).containsExactly(2, 1, 1, 1);
+        assertThat(rebuilt.get(dimensions.get(4))).containsExactly(1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("완료/응답 처리 기간은 증분 반영 결과와 재집계 결과가 같고, 다시 처리 중으로 바꾸면 완료 기간이 빠진다.")
+    void should_MatchRebuild_When_DurationsAppliedIncrementally() {
+        // given
+        Long first = createTicket(parentCategory, childCategory, typeA, false);
+        ticketService.approveTicket(first, managerDetails);
+        ticketService.editStatus(first, Ticket.Status.DONE, managerDetails);
+
+        Long second = createTicket(parentCategory, null, typeA, false);
+        ticketService.approveTicket(second, managerDetails);
+        ticketService.editStatus(second, Ticket.Status.DONE, managerDetails);
+        ticketService.editStatus(second, Ticket.Status.IN_PROGRESS, managerDetails);
+        applyRecordedChanges();
+
+        YearMonth now = YearMonth.now();
+        String managerDimension = MonthlyStatistics.dimensionKeyOf(null, manager.getId(), null);
+
+        // when
+        MonthlyStatistics incremental = readStatistics(now, managerDimension);
+        Map<String, Long> incrementalBuckets = readBuckets(now, managerDimension);
+        monthlyStatisticsAggregator.rebuild(now.getYear(), now.getMonthValue());
+        MonthlyStatistics rebuilt = readStatistics(now, managerDimension);
+        Map<String, Long> rebuiltBuckets = readBuckets(now, managerDimension);
+
+        // then
+        assertThat(incremental.getCompletionTimeCount()).isEqualTo(1);
+        assertThat(incremental.getResponseTimeCount()).isEqualTo(2);
+        assertThat(rebuilt.getCompletionTimeCount()).isEqualTo(incremental.getCompletionTimeCount());
+        assertThat(rebuilt.getCompletionTimeSum()).isEqualTo(incremental.getCompletionTimeSum());
+        assertThat(rebuilt.getResponseTimeCount()).isEqualTo(incremental.getResponseTimeCount());
+        assertThat(rebuilt.getResponseTimeSum()).isEqualTo(incremental.getResponseTimeSum());
+        assertThat(rebuilt.getAverageCompletionTime()).isEqualTo(incremental.getAverageCompletionTime());
+        assertThat(rebuiltBuckets).isEqualTo(incrementalBuckets);
+        assertThat(rebuiltBuckets.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(3);
+    }
+
+    private MonthlyStatistics readStatistics(YearMonth month, String dimension) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return monthlyStatisticsRepository.findAllByStatYearAndStatMonth(month.getYear(), month.getMonthValue()).stream()
+                .filter(statistics -> statistics.getDimensionKey().equals(dimension))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // "지표:구간" 별 건수 (건수가 0 인 구간은 제외)
+    private Map<String, Long> readBuckets(YearMonth month, String dimension) {
+        Map<String, Long> result = new HashMap<>();
+        for (MonthlyDurationHistogram histogram : monthlyDurationHistogramRepository.findAll()) {
+            if (histogram.getStatYear() != month.getYear() || histogram.getStatMonth() != month.getMonthValue()) continue;
+            if (!histogram.getDimensionKey().equals(dimension) || histogram.getTicketCount() == 0) continue;
+            result.put(histogram.getMetric() + ":" + histogram.getBucket(), histogram.getTicketCount());
+        }
+        return result;
+    }
+
+    private Map<String, List<Integer>> readStatistics(YearMonth month, List<String> dimensions) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, List<Integer>> result = new HashMap<>();
+        for (MonthlyStatistics statistics : monthlyStatisticsRepository.findAllByStatYearAndStatMonth(month.getYear(), month.getMonthValue())) {
+            if (!dimensions.contains(statistics.getDimensionKey())) continue;
+            result.put(statistics.getDimensionKey(), List.of(statistics.getTotalCreated(), statistics.getTotalCompleted(),
+                    statistics.getUrgentTickets(), statistics.getInProgressCount()));
+        }
+        return result;
+    }
+
+    // 테스트 트랜잭션은 커밋되지 않아 커밋 후 리스너가 실행되지 않으므로, 기록된 변경 이벤트를 직접 반영한다.
+    private void applyRecordedChanges() {
+        applicationEvents.stream(TicketChangeEvent.class)
+                .forEach(event -> monthlyStatisticsAggregator.applyChange(event.getBefore(), event.getAfter()));
+        applicationEvents.clear();
+    }
+
+    private Long createTicket(Category firstCategory, Category secondCategory, TicketType ticketType, boolean urgent) {
+        CreateTicketRequest request = CreateTicketRequest.builder()
+                .title("통계 티켓")
+                .description("통계 티켓 내용")
+                .typeId(ticketType.getId())
+                .firstCategoryId(firstCategory != null ? firstCategory.getId() : null)
+                .secondCategoryId(secondCategory != null ? secondCategory.getId() : null)
+                .deadline(LocalDateTime.now().plusDays(3))
+                .urgent(urgent)
+                .build();
+        return ticketService.createTicket(request, null, requesterDetails);
+    }
+}
@@ -0,0 +1,81 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.global.scheduling.ScheduledJobRunner;
+import com.trillion.tikitaka.global.scheduling.SchedulerRunHistory;
+import com.trillion.tikitaka.global.scheduling.SchedulerRunHistoryRepository;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsAggregator;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsBackfillRunner;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsReader;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("월별 통계 백필 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class MonthlyStatisticsBackfillRunnerTest {
+
+    @Mock
+    private MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+
+    @Mock
+    private MonthlyStatisticsReader monthlyStatisticsReader;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private SchedulerRunHistoryRepository historyRepository;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @InjectMocks
+    private MonthlyStatisticsBackfillRunner backfillRunner;
+
+    @Test
+    @DisplayName("가장 이른 티켓 생성월부터 당월까지 모든 월을 재집계한다.")
+    void should_RebuildEveryMonth_When_NotBackfilledYet() {
+        // given
+        YearMonth current = YearMonth.now();
+        YearMonth earliest = current.minusMonths(14);
+        when(historyRepository.existsByLockNameAndStatus(anyString(), eq(SchedulerRunHistory.Status.SUCCEEDED)))
+                .thenReturn(false);
+        when(ticketRepository.findEarliestCreatedAtIncludingDeleted()).thenReturn(earliest.atDay(3).atTime(10, 0));
+        when(scheduledJobRunner.run(anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        });
+
+        // when
+        backfillRunner.run(null);
+
+        // then
+        verify(monthlyStatisticsAggregator, times(15)).rebuild(anyInt(), anyInt());
+        verify(monthlyStatisticsAggregator).rebuild(earliest.getYear(), earliest.getMonthValue());
+        verify(monthlyStatisticsAggregator).rebuild(current.getYear(), current.getMonthValue());
+        verify(monthlyStatisticsReader).invalidate(earliest);
+    }
+
+    @Test
+    @DisplayName("이미 성공한 이력이 있으면 다시 실행하지 않는다.")
+    void should_Skip_When_AlreadyBackfilled() {
+        // given
+        when(historyRepository.existsByLockNameAndStatus(anyString(), eq(SchedulerRunHistory.Status.SUCCEEDED)))
+                .thenReturn(true);
+
+        // when
+        backfillRunner.run(null);
+
+        // then
+        verifyNoInteractions(scheduledJobRunner, monthlyStatisticsAggregator);
+    }
+}
@@ -0,0 +1,120 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsAggregator;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsReader;
+import com.trillion.tikitaka.statistics.domain.MonthlyStatistics;
+import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("월별 통계 조회 캐시 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class MonthlyStatisticsReaderTest {
+
+    @Mock
+    private MonthlyStatisticsRepository statisticsRepository;
+
+    @Mock
+    private MonthlyStatisticsAggregator monthlyStatisticsAggregator;
+
+    private MonthlyStatisticsReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new MonthlyStatisticsReader(statisticsRepository, monthlyStatisticsAggregator, 10, 3600);
+    }
+
+    @Test
+    @DisplayName("통계 행을 집계 차원 키별로 반환하고, 같은 월은 한 번만 조회한다.")
+    void should_ReadSnapshotOnce_When_SameMonthRequested() {
+        // given
+        YearMonth closed = YearMonth.now().minusMonths(2);
+        when(statisticsRepository.findAllByStatYearAndStatMonth(closed.getYear(), closed.getMonthValue()))
+                .thenReturn(List.of(statistics(MonthlyStatistics.ALL_DIMENSION, 10, 4, 2, 1)));
+
+        // when
+        Map<String, MonthlyTicketCount> first = reader.read(closed.getYear(), closed.getMonthValue());
+        Map<String, MonthlyTicketCount> second = reader.read(closed.getYear(), closed.getMonthValue());
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.get(MonthlyStatistics.ALL_DIMENSION).getCreated()).isEqualTo(10);
+        assertThat(first.get(MonthlyStatistics.ALL_DIMENSION).getCompleted()).isEqualTo(4);
+        verify(statisticsRepository, times(1)).findAllByStatYearAndStatMonth(closed.getYear(), closed.getMonthValue());
+    }
+
+    @Test
+    @DisplayName("캐시를 비운 월은 통계 행을 다시 조회한다.")
+    void should_Reload_When_Invalidated() {
+        // given
+        YearMonth current = YearMonth.now();
+        when(statisticsRepository.findAllByStatYearAndStatMonth(current.getYear(), current.getMonthValue()))
+                .thenReturn(List.of(statistics(MonthlyStatistics.ALL_DIMENSION, 1, 0, 0, 0)))
+                .thenReturn(List.of(statistics(MonthlyStatistics.ALL_DIMENSION, 2, 0, 0, 0)));
+
+        // when
+        int before = reader.read(current.getYear(), current.getMonthValue()).get(MonthlyStatistics.ALL_DIMENSION).getCreated();
+        reader.invalidate(current);
+        int after = reader.read(current.getYear(), current.getMonthValue()).get(MonthlyStatistics.ALL_DIMENSION).getCreated();
+
+        // then
+        assertThat(before).isEqualTo(1);
+        assertThat(after).isEqualTo(2);
+        verify(statisticsRepository, times(2)).findAllByStatYearAndStatMonth(current.getYear(), current.getMonthValue());
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 월은 티켓 테이블에서 바로 집계한 값을 반환한다.")
+    void should_CountLive_When_MonthHasNoRows() {
+        // given
+        YearMonth closed = YearMonth.now().minusMonths(3);
+        when(statisticsRepository.findAllByStatYearAndStatMonth(closed.getYear(), closed.getMonthValue()))
+                .thenReturn(List.of());
+        when(monthlyStatisticsAggregator.countMonth(closed.getYear(), closed.getMonthValue()))
+                .thenReturn(Map.of(MonthlyStatistics.ALL_DIMENSION, new MonthlyTicketCount(null, 7, 3, 1, 2)));
+
+        // when
+        Map<String, MonthlyTicketCount> counts = reader.read(closed.getYear(), closed.getMonthValue());
+
+        // then
+        assertThat(counts.get(MonthlyStatistics.ALL_DIMENSION).getCreated()).isEqualTo(7);
+        assertThat(counts.get(MonthlyStatistics.ALL_DIMENSION).getCompleted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("통계 행이 있는 월은 티켓 테이블을 집계하지 않는다.")
+    void should_NotCountLive_When_MonthHasRows() {
+        // given
+        YearMonth closed = YearMonth.now().minusMonths(3);
+        when(statisticsRepository.findAllByStatYearAndStatMonth(closed.getYear(), closed.getMonthValue()))
+                .thenReturn(List.of(statistics(MonthlyStatistics.ALL_DIMENSION, 1, 0, 0, 0)));
+
+        // when
+        reader.read(closed.getYear(), closed.getMonthValue());
+
+        // then
+        verifyNoInteractions(monthlyStatisticsAggregator);
+    }
+
+    private MonthlyStatistics statistics(String dimensionKey, int created, int completed, int urgent, int inProgress) {
+        return MonthlyStatistics.builder()
+                .dimensionKey(dimensionKey)
+                .totalCreated(created)
+                .totalCompleted(completed)
+                .urgentTickets(urgent)
+                .inProgressCount(inProgress)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.trillion.tikitaka.statistic;
 
 import com.trillion.tikitaka.category.domain.Category;
 import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.statistics.application.MonthlyStatisticsReader;
 import com.trillion.tikitaka.statistics.application.StatisticsService;
 import com.trillion.tikitaka.statistics.dto.response.AllCategory;
 import com.trillion.tikitaka.statistics.dto.response.AllMonth;
@@ -9,15 +10,14 @@ import com.trillion.tikitaka.statistics.dto.response.AllType;
 import com.trillion.tikitaka.statistics.dto.response.AllUser;
 import com.trillion.tikitaka.statistics.infrastructure.MonthlyStatisticsRepository;
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.MonthlyTicketCount;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
 import com.trillion.tikitaka.tickettype.application.TicketTypeService;
-import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.dto.response.TicketTypeListResponse;
 import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.domain.Role;
-import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.dto.response.UserResponse;
-import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,7 +27,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -48,7 +48,7 @@ class StatisticsServiceTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ManagerDirectory managerDirectory;
 
     @Mock
     private TicketTypeRepository ticketTypeRepository;
@@ -56,6 +56,9 @@ class StatisticsServiceTest {
     @Mock
     private TicketTypeService ticketTypeService;
 
+    @Mock
+    private MonthlyStatisticsReader monthlyStatisticsReader;
+
     @Mock
     private Ticket ticket;
 
@@ -73,9 +76,8 @@ class StatisticsServiceTest {
         void should_ReturnCorrectMonthlyStatistics() {
             // given
             int year = 2025, month = 1;
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, null, null, null)).thenReturn(100);
-            when(ticketRepository.countUrgentTicketsByCategoryAndUserAndType(year, month, null, null, null)).thenReturn(20);
-            when(ticketRepository.countByCompletedStatusAndCategoryAndUserAndType(year, month, null, null, null)).thenReturn(80);
+            when(monthlyStatisticsReader.read(year, month))
+                    .thenReturn(Map.of("ALL", new MonthlyTicketCount(null, 100, 80, 20, 10)));
 
             // when
             AllMonth allMonth = statisticsService.getAllMonthlyTicket(year, month);
@@ -96,12 +98,13 @@ class StatisticsServiceTest {
         void should_ReturnCategoryStatistics() {
             // given
             int year = 2025, month = 1;
-            Category parentCategory = new Category("DevOps",  null);
-            Category subCategory = new Category("CI/CD", parentCategory);
+            Category parentCategory = new Category(1L, "DevOps", null);
+            Category subCategory = new Category(2L, "CI/CD", parentCategory);
 
             when(categoryRepository.findAll()).thenReturn(List.of(parentCategory, subCategory));
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, parentCategory, null, null)).thenReturn(50);
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, subCategory, null, null)).thenReturn(30);
+            when(monthlyStatisticsReader.read(year, month)).thenReturn(Map.of(
+                    "CATEGORY:1", new MonthlyTicketCount(1L, 20, 0, 0, 0),
+                    "CATEGORY:2", new MonthlyTicketCount(2L, 30, 0, 0, 0)));
 
             // when
             List<AllCategory> result = statisticsService.getAllCategoryTicket(year, month);
@@ -111,6 +114,8 @@ class StatisticsServiceTest {
             assertThat(result.get(0).getFirstCategoryName()).isEqualTo("DevOps");
             assertThat(result.get(1).getFirstCategoryName()).isEqualTo("DevOps");
             assertThat(result.get(1).getSecondCategoryName()).isEqualTo("CI/CD");
+            assertThat(result.get(0).getTotalCreated()).isEqualTo(50);
+            assertThat(result.get(1).getTotalCreated()).isEqualTo(30);
         }
     }
 
@@ -125,16 +130,10 @@ class StatisticsServiceTest {
             int year = 2025, month = 1;
 
             UserResponse managerUserResponse = new UserResponse(1L, "ManagerA", "manager@example.com", Role.MANAGER, "profile_url");
-            UserResponse normalUserResponse = new UserResponse(2L, "UserB", "user@example.com", Role.USER, "profile_url");
 
-            User managerUser = new User(1L, "ManagerA", "MANAGER");
-            User normalUser = new User(2L, "UserB", "USER");
-
-            when(userRepository.getAllUsers()).thenReturn(List.of(managerUserResponse, normalUserResponse));
-            when(userRepository.findById(managerUserResponse.getUserId())).thenReturn(Optional.of(managerUser));
-            when(userRepository.findById(normalUserResponse.getUserId())).thenReturn(Optional.of(normalUser));
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, null, managerUser, null))
-                    .thenReturn(40);
+            when(managerDirectory.getManagers()).thenReturn(List.of(managerUserResponse));
+            when(monthlyStatisticsReader.read(year, month))
+                    .thenReturn(Map.of("USER:1", new MonthlyTicketCount(1L, 40, 0, 0, 0)));
 
             // when
             List<AllUser> result = statisticsService.getAllUserTicket(year, month);
@@ -161,14 +160,10 @@ class StatisticsServiceTest {
             TicketTypeListResponse bugFixResponse = new TicketTypeListResponse(1L, "Bug Fix");
             TicketTypeListResponse featureResponse = new TicketTypeListResponse(2L, "Feature");
 
-            TicketType bugFix = new TicketType(1L, "Bug Fix");
-            TicketType feature = new TicketType(2L, "Feature");
-
             when(ticketTypeService.getTicketTypes()).thenReturn(List.of(bugFixResponse, featureResponse));
-            when(ticketTypeRepository.findById(1L)).thenReturn(Optional.of(bugFix));
-            when(ticketTypeRepository.findById(2L)).thenReturn(Optional.of(feature));
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, null, null, bugFix)).thenReturn(25);
-            when(ticketRepository.countByCreatedAtBetweenAndCategoryAndUserAndType(year, month, null, null, feature)).thenReturn(50);
+            when(monthlyStatisticsReader.read(year, month)).thenReturn(Map.of(
+                    "TYPE:1", new MonthlyTicketCount(1L, 25, 0, 0, 0),
+                    "TYPE:2", new MonthlyTicketCount(2L, 50, 0, 0, 0)));
 
             // when
             List<AllType> result = statisticsService.getAllTypeTicket(year, month);
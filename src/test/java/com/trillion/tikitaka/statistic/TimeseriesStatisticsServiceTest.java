@@ -0,0 +1,136 @@
+package com.trillion.tikitaka.statistic;
+
+import com.trillion.tikitaka.global.exception.CustomException;
+import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.statistics.application.TimeseriesStatisticsService;
+import com.trillion.tikitaka.statistics.dto.TimeseriesCount;
+import com.trillion.tikitaka.statistics.dto.TimeseriesGranularity;
+import com.trillion.tikitaka.statistics.dto.TimeseriesMetric;
+import com.trillion.tikitaka.statistics.dto.response.TimeseriesResponse;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("시계열 통계 서비스 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class TimeseriesStatisticsServiceTest {
+
+    @Mock
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
+
+    @InjectMocks
+    private TimeseriesStatisticsService timeseriesStatisticsService;
+
+    @Nested
+    @DisplayName("시계열 조회")
+    class DescribeGetTimeseries {
+
+        @Test
+        @DisplayName("일 단위로 조회하면 티켓이 없는 날도 0 으로 채운다.")
+        void should_FillGaps_When_DailyGranularity() {
+            // given
+            LocalDate start = LocalDate.of(2025, 2, 1);
+            LocalDate end = LocalDate.of(2025, 2, 4);
+            when(dailyTicketStatsRepository.sumTimeseries(start, end.plusDays(1), TimeseriesMetric.CREATED, false, null, null, null))
+                    .thenReturn(List.of(
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 1, 0, 0), 3),
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 3, 0, 0), 5)
+                    ));
+
+            // when
+            TimeseriesResponse response = timeseriesStatisticsService.getTimeseries(
+                    TimeseriesMetric.CREATED, TimeseriesGranularity.DAY, start, end, null, null, null);
+
+            // then
+            assertThat(response.getPoints()).extracting(TimeseriesResponse.Point::getBucketStart).containsExactly(
+                    LocalDateTime.of(2025, 2, 1, 0, 0),
+                    LocalDateTime.of(2025, 2, 2, 0, 0),
+                    LocalDateTime.of(2025, 2, 3, 0, 0),
+                    LocalDateTime.of(2025, 2, 4, 0, 0)
+            );
+            assertThat(response.getPoints()).extracting(TimeseriesResponse.Point::getValue).containsExactly(3L, 0L, 5L, 0L);
+            assertThat(response.getTotal()).isEqualTo(8L);
+        }
+
+        @Test
+        @DisplayName("주 단위로 조회하면 일별 합계를 월요일 시작 구간으로 묶는다.")
+        void should_FoldDaysIntoWeeks_When_WeeklyGranularity() {
+            // given (2025-02-05 수요일 ~ 2025-02-18 화요일)
+            LocalDate start = LocalDate.of(2025, 2, 5);
+            LocalDate end = LocalDate.of(2025, 2, 18);
+            when(dailyTicketStatsRepository.sumTimeseries(start, end.plusDays(1), TimeseriesMetric.DONE, false, 7L, null, null))
+                    .thenReturn(List.of(
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 5, 0, 0), 1),
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 9, 0, 0), 2),
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 10, 0, 0), 4),
+                            new TimeseriesCount(LocalDateTime.of(2025, 2, 18, 0, 0), 8)
+                    ));
+
+            // when
+            TimeseriesResponse response = timeseriesStatisticsService.getTimeseries(
+                    TimeseriesMetric.DONE, TimeseriesGranularity.WEEK, start, end, 7L, null, null);
+
+            // then
+            assertThat(response.getPoints()).extracting(TimeseriesResponse.Point::getBucketStart).containsExactly(
+                    LocalDateTime.of(2025, 2, 3, 0, 0),
+                    LocalDateTime.of(2025, 2, 10, 0, 0),
+                    LocalDateTime.of(2025, 2, 17, 0, 0)
+            );
+            assertThat(response.getPoints()).extracting(TimeseriesResponse.Point::getValue).containsExactly(3L, 4L, 8L);
+        }
+
+        @Test
+        @DisplayName("시간 단위로 조회하면 시간별 합계를 읽고 하루 24개 구간을 만든다.")
+        void should_ReadHourlyRows_When_HourlyGranularity() {
+            // given
+            LocalDate day = LocalDate.of(2025, 2, 1);
+            when(dailyTicketStatsRepository.sumTimeseries(day, day.plusDays(1), TimeseriesMetric.URGENT, true, null, null, 3L))
+                    .thenReturn(List.of(new TimeseriesCount(LocalDateTime.of(2025, 2, 1, 13, 0), 2)));
+
+            // when
+            TimeseriesResponse response = timeseriesStatisticsService.getTimeseries(
+                    TimeseriesMetric.URGENT, TimeseriesGranularity.HOUR, day, day, null, null, 3L);
+
+            // then
+            assertThat(response.getPoints()).hasSize(24);
+            assertThat(response.getPoints().get(13).getValue()).isEqualTo(2L);
+            assertThat(response.getTotal()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("구간 수가 상한을 넘으면 조회하지 않고 예외가 발생한다.")
+        void should_ThrowException_When_TooManyBuckets() {
+            // when & then
+            assertThatThrownBy(() -> timeseriesStatisticsService.getTimeseries(
+                    TimeseriesMetric.CREATED, TimeseriesGranularity.HOUR,
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), null, null, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.TOO_MANY_TIMESERIES_BUCKETS.getMessage());
+            verifyNoInteractions(dailyTicketStatsRepository);
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다.")
+        void should_ThrowException_When_StartDateAfterEndDate() {
+            // when & then
+            assertThatThrownBy(() -> timeseriesStatisticsService.getTimeseries(
+                    TimeseriesMetric.CREATED, TimeseriesGranularity.DAY,
+                    LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1), null, null, null))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.INVALID_STATISTICS_PERIOD.getMessage());
+        }
+    }
+}
@@ -2,8 +2,9 @@ package com.trillion.tikitaka.statistic;
 
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.statistics.application.WeeklyStatisticsService;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
 import com.trillion.tikitaka.statistics.dto.response.WeeklyStatisticsResponse;
-import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
 import com.trillion.tikitaka.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,18 +13,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,7 +34,7 @@ class WeeklyStatisticsIntegrationTest {
     private WeeklyStatisticsService weeklyStatisticsService;
 
     @Mock
-    private TicketRepository ticketRepository;
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
 
     private CustomUserDetails mockUserDetails;
 
@@ -53,48 +52,29 @@ class WeeklyStatisticsIntegrationTest {
         @DisplayName("주간 요약 데이터를 정확히 반환해야 한다")
         void shouldReturnCorrectWeeklyStatistics() {
             Long managerId = 100L;
-            LocalDate fixedDate = LocalDate.of(2025, 1, 1);
-            LocalDate expectedMonday = fixedDate.with(DayOfWeek.MONDAY);
-
-            try (MockedStatic<LocalDate> mockedDate = Mockito.mockStatic(LocalDate.class)) {
-                mockedDate.when(LocalDate::now).thenReturn(fixedDate);
-                mockedDate.when(() -> fixedDate.with(DayOfWeek.MONDAY)).thenReturn(expectedMonday);
-
-                LocalDate productionMonday = fixedDate.with(DayOfWeek.MONDAY);
-                assertThat(productionMonday).isEqualTo(expectedMonday);
-
-                LocalDateTime todayStart = fixedDate.atStartOfDay();
-                LocalDateTime todayEnd = todayStart.plusDays(1);
-                LocalDateTime mondayStart = productionMonday.atStartOfDay();
-                LocalDateTime saturdayStart = mondayStart.plusDays(5);
-
-                lenient().when(ticketRepository.countDoneBetweenAndManager(eq(todayStart), eq(todayEnd), eq(managerId)))
-                        .thenReturn(5);
-                lenient().when(ticketRepository.countUrgentCreatedToday(eq(todayStart), eq(todayEnd), eq(managerId)))
-                        .thenReturn(2);
-                lenient().when(ticketRepository.countDoneBetweenAndManager(eq(mondayStart), eq(saturdayStart), eq(managerId)))
-                        .thenReturn(20);
-
-                int[] dailyCounts = {3, 4, 5, 6, 7, 2, 1};
-                for (int i = 0; i < dailyCounts.length; i++) {
-                    lenient().when(ticketRepository.countDoneBetweenAndManager(eq(mondayStart.plusDays(i)), eq(mondayStart.plusDays(i + 1)), eq(managerId)))
-                            .thenReturn(dailyCounts[i]);
-                }
+            LocalDate today = LocalDate.now();
+            LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+
+            int[] dailyCounts = {3, 4, 5, 6, 7, 2, 1};
+            List<DailyTicketStatsCount> rows = new ArrayList<>();
+            for (int i = 0; i < dailyCounts.length; i++) {
+                LocalDate date = monday.plusDays(i);
+                rows.add(new DailyTicketStatsCount(date, managerId, null, null, null, 0,
+                        dailyCounts[i], 0, date.equals(today) ? 2 : 0));
+            }
+            when(dailyTicketStatsRepository.sumGroupByDate(monday, monday.plusDays(7), managerId)).thenReturn(rows);
 
-                WeeklyStatisticsResponse response = weeklyStatisticsService.getWeeklySummary(mockUserDetails);
+            WeeklyStatisticsResponse response = weeklyStatisticsService.getWeeklySummary(mockUserDetails);
 
-                assertThat(response).isNotNull();
-                assertThat(response.getDayTickets()).isEqualTo(5);
-                assertThat(response.getDayUrgentTickets()).isEqualTo(2);
-                assertThat(response.getWeekTickets()).isEqualTo(20);
+            assertThat(response).isNotNull();
+            assertThat(response.getDayTickets()).isEqualTo(dailyCounts[today.getDayOfWeek().getValue() - 1]);
+            assertThat(response.getDayUrgentTickets()).isEqualTo(2);
+            assertThat(response.getWeekTickets()).isEqualTo(25);
+            assertThat(response.getWeeklyTicketCounts())
+                    .containsEntry("Mon", 3)
+                    .containsEntry("Sun", 1);
 
-                verify(ticketRepository, atLeastOnce())
-                        .countDoneBetweenAndManager(eq(todayStart), eq(todayEnd), eq(managerId));
-                verify(ticketRepository, atLeastOnce())
-                        .countUrgentCreatedToday(eq(todayStart), eq(todayEnd), eq(managerId));
-                verify(ticketRepository, atLeastOnce())
-                        .countDoneBetweenAndManager(eq(mondayStart), eq(saturdayStart), eq(managerId));
-            }
+            verify(dailyTicketStatsRepository, times(1)).sumGroupByDate(monday, monday.plusDays(7), managerId);
         }
     }
 }
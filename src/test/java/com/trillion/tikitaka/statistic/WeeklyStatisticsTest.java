@@ -1,8 +1,9 @@
 package com.trillion.tikitaka.statistic;
 
 import com.trillion.tikitaka.statistics.application.WeeklyStatisticsService;
+import com.trillion.tikitaka.statistics.dto.DailyTicketStatsCount;
 import com.trillion.tikitaka.statistics.dto.response.WeeklyStatisticsResponse;
-import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.statistics.infrastructure.DailyTicketStatsRepository;
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,19 +13,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
-import static org.mockito.Mockito.lenient;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +34,7 @@ class WeeklyStatisticsTest {
     private WeeklyStatisticsService weeklyStatisticsService;
 
     @Mock
-    private TicketRepository ticketRepository;
+    private DailyTicketStatsRepository dailyTicketStatsRepository;
 
     private CustomUserDetails mockUserDetails;
 
@@ -53,73 +51,51 @@ class WeeklyStatisticsTest {
         @Test
         @DisplayName("케이스 1 - 주간 완료된 티켓 수 검증")
         void shouldReturnWeeklyStatistics_Case1() {
-            testWeeklyStatistics(new int[]{3, 4, 5, 6, 7, 2, 1}, 5, 2, 28);
+            testWeeklyStatistics(new int[]{3, 4, 5, 6, 7, 2, 1}, 2, 25);
         }
 
         @Test
         @DisplayName("케이스 2 - 주간 완료된 티켓 수 검증")
         void shouldReturnWeeklyStatistics_Case2() {
-            testWeeklyStatistics(new int[]{2, 3, 4, 5, 6, 7, 8}, 4, 1, 35);
+            testWeeklyStatistics(new int[]{2, 3, 4, 5, 6, 7, 8}, 1, 20);
         }
 
         @Test
         @DisplayName("케이스 3 - 주간 완료된 티켓 수 검증")
         void shouldReturnWeeklyStatistics_Case3() {
-            testWeeklyStatistics(new int[]{10, 5, 8, 3, 4, 7, 6}, 8, 3, 43);
+            testWeeklyStatistics(new int[]{10, 5, 8, 3, 4, 7, 6}, 3, 30);
         }
 
-        private void testWeeklyStatistics(int[] dailyCounts, int expectedDayTickets, int expectedUrgentTickets, int expectedWeekTickets) {
+        // 주간 완료 수는 월~금 완료 건수의 합이다.
+        private void testWeeklyStatistics(int[] dailyCounts, int expectedUrgentTickets, int expectedWeekTickets) {
             Long managerId = 100L;
-            LocalDate fixedDate = LocalDate.of(2025, 1, 1);
-            LocalDate expectedMonday = fixedDate.with(DayOfWeek.MONDAY);
-
-            try (MockedStatic<LocalDate> mockedDate = Mockito.mockStatic(LocalDate.class)) {
-                mockedDate.when(LocalDate::now).thenReturn(fixedDate);
-                mockedDate.when(() -> fixedDate.with(DayOfWeek.MONDAY)).thenReturn(expectedMonday);
-
-                LocalDate productionMonday = fixedDate.with(DayOfWeek.MONDAY);
-                assertThat(productionMonday).isEqualTo(expectedMonday);
-
-                LocalDateTime todayStart = fixedDate.atStartOfDay();
-                LocalDateTime todayEnd = todayStart.plusDays(1);
-                LocalDateTime mondayStart = productionMonday.atStartOfDay();
-                LocalDateTime saturdayStart = mondayStart.plusDays(5);
-
-                lenient().when(ticketRepository.countDoneBetweenAndManager(eq(todayStart), eq(todayEnd), eq(managerId)))
-                        .thenReturn(expectedDayTickets);
-                lenient().when(ticketRepository.countUrgentCreatedToday(eq(todayStart), eq(todayEnd), eq(managerId)))
-                        .thenReturn(expectedUrgentTickets);
-                lenient().when(ticketRepository.countDoneBetweenAndManager(eq(mondayStart), eq(saturdayStart), eq(managerId)))
-                        .thenReturn(expectedWeekTickets);
-
-                int calculatedSum = 0;
-                for (int i = 0; i < dailyCounts.length; i++) {
-                    lenient().when(ticketRepository.countDoneBetweenAndManager(eq(mondayStart.plusDays(i)), eq(mondayStart.plusDays(i + 1)), eq(managerId)))
-                            .thenReturn(dailyCounts[i]);
-                    calculatedSum += dailyCounts[i];
-                }
-
-                assertThat(calculatedSum).isEqualTo(expectedWeekTickets);
-
-                WeeklyStatisticsResponse response = weeklyStatisticsService.getWeeklySummary(mockUserDetails);
-
-                System.out.println("테스트 케이스");
-                System.out.println("오늘 완료된 티켓 수: " + response.getDayTickets());
-                System.out.println("오늘 긴급 티켓 수: " + response.getDayUrgentTickets());
-                System.out.println("주간 완료된 티켓 수: " + response.getWeekTickets());
-
-                assertThat(response).isNotNull();
-                assertThat(response.getDayTickets()).isEqualTo(expectedDayTickets);
-                assertThat(response.getDayUrgentTickets()).isEqualTo(expectedUrgentTickets);
-                assertThat(response.getWeekTickets()).isEqualTo(expectedWeekTickets);
-
-                verify(ticketRepository, atLeastOnce())
-                        .countDoneBetweenAndManager(eq(todayStart), eq(todayEnd), eq(managerId));
-                verify(ticketRepository, atLeastOnce())
-                        .countUrgentCreatedToday(eq(todayStart), eq(todayEnd), eq(managerId));
-                verify(ticketRepository, atLeastOnce())
-                        .countDoneBetweenAndManager(eq(mondayStart), eq(saturdayStart), eq(managerId));
+            LocalDate today = LocalDate.now();
+            LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+            int expectedDayTickets = dailyCounts[today.getDayOfWeek().getValue() - 1];
+
+            List<DailyTicketStatsCount> rows = new ArrayList<>();
+            for (int i = 0; i < dailyCounts.length; i++) {
+                LocalDate date = monday.plusDays(i);
+                rows.add(new DailyTicketStatsCount(date, managerId, null, null, null, 0,
+                        dailyCounts[i], 0, date.equals(today) ? expectedUrgentTickets : 0));
             }
+
+            when(dailyTicketStatsRepository.sumGroupByDate(monday, monday.plusDays(7), managerId)).thenReturn(rows);
+
+            WeeklyStatisticsResponse response = weeklyStatisticsService.getWeeklySummary(mockUserDetails);
+
+            System.out.println("테스트 케이스");
+            System.out.println("오늘 완료된 티켓 수: " + response.getDayTickets());
+            System.out.println("오늘 긴급 티켓 수: " + response.getDayUrgentTickets());
+            System.out.println("주간 완료된 티켓 수: " + response.getWeekTickets());
+
+            assertThat(response).isNotNull();
+            assertThat(response.getDayTickets()).isEqualTo(expectedDayTickets);
+            assertThat(response.getDayUrgentTickets()).isEqualTo(expectedUrgentTickets);
+            assertThat(response.getWeekTickets()).isEqualTo(expectedWeekTickets);
+            assertThat(response.getWeeklyTicketCounts()).hasSize(7);
+
+            verify(dailyTicketStatsRepository, times(1)).sumGroupByDate(monday, monday.plusDays(7), managerId);
         }
     }
 }
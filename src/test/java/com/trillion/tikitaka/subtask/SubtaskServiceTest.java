@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,12 +33,15 @@ class SubtaskServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SubtaskService subtaskService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        subtaskService = new SubtaskService(subtaskRepository, ticketRepository);
+        subtaskService = new SubtaskService(subtaskRepository, ticketRepository, eventPublisher);
     }
 
     @Nested
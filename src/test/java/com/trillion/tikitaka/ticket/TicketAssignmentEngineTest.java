@@ -0,0 +1,185 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.notification.event.TicketAssignmentEvent;
+import com.trillion.tikitaka.ticket.application.TicketAssignmentEngine;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.ManagerTicketLoad;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.dto.response.UserResponse;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("티켓 자동 배정 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class TicketAssignmentEngineTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TicketAssignmentEngine ticketAssignmentEngine;
+
+    private UserResponse busyManager;
+    private UserResponse idleManager;
+    private LocalDateTime createdBefore;
+
+    @BeforeEach
+    void setUp() {
+        busyManager = new UserResponse(1L, "busy.tk", "busy@email.com", Role.MANAGER, null);
+        idleManager = new UserResponse(2L, "idle.tk", "idle@email.com", Role.MANAGER, null);
+        createdBefore = LocalDateTime.now().minusHours(1);
+    }
+
+    @Nested
+    @DisplayName("미배정 티켓 배정 시")
+    class DescribeAssignUnassignedTickets {
+
+        @Test
+        @DisplayName("담당자 부하는 한 번만 조회하고, 진행 중 티켓이 적은 담당자부터 배정한다.")
+        void should_AssignToLeastLoadedManager_When_LoadsDiffer() {
+            // given
+            List<Ticket> tickets = pendingTickets(4);
+            when(ticketRepository.findUnassignedTickets(createdBefore)).thenReturn(tickets);
+            when(userRepository.getUsersByRole(Role.MANAGER)).thenReturn(List.of(busyManager, idleManager));
+            when(ticketRepository.countManagerLoads(anyList()))
+                    .thenReturn(List.of(new ManagerTicketLoad(1L, 3L, 0L)));
+            when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                    .thenReturn(new int[][]{{1, 1, 1, 1}});
+
+            // when
+            int assigned = ticketAssignmentEngine.assignUnassignedTickets(createdBefore);
+
+            // then
+            assertThat(assigned).isEqualTo(4);
+            verify(ticketRepository, times(1)).countManagerLoads(anyList());
+            verify(ticketRepository, never()).countTicketsByManagerAndStatusIn(any(), anyList());
+
+            // 진행 중 0건인 담당자가 3건까지 먼저 받고, 동률이면 대기 티켓이 적은 담당자가 받는다.
+            Map<Long, Long> assignedByManager = capturedChanges().stream()
+                    .collect(Collectors.groupingBy(e -> e.getAfter().managerId(), Collectors.counting()));
+            assertThat(assignedByManager).containsEntry(2L, 3L).containsEntry(1L, 1L);
+        }
+
+        @Test
+        @DisplayName("담당자마다 배정된 티켓을 모아 알림을 한 번만 보낸다.")
+        void should_PublishOneNotificationPerManager() {
+            // given
+            List<Ticket> tickets = pendingTickets(4);
+            when(ticketRepository.findUnassignedTickets(createdBefore)).thenReturn(tickets);
+            when(userRepository.getUsersByRole(Role.MANAGER)).thenReturn(List.of(busyManager, idleManager));
+            when(ticketRepository.countManagerLoads(anyList())).thenReturn(List.of());
+            when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                    .thenReturn(new int[][]{{1, 1, 1, 1}});
+
+            // when
+            ticketAssignmentEngine.assignUnassignedTickets(createdBefore);
+
+            // then
+            List<TicketAssignmentEvent> notifications = capturedNotifications();
+            assertThat(notifications).hasSize(2);
+            assertThat(notifications).extracting(TicketAssignmentEvent::getEmail)
+                    .containsExactlyInAnyOrder("busy@email.com", "idle@email.com");
+            assertThat(notifications).allSatisfy(e -> assertThat(e.getTickets()).hasSize(2));
+        }
+
+        @Test
+        @DisplayName("그사이 담당자가 지정되어 갱신되지 않은 티켓은 이벤트와 알림에서 제외한다.")
+        void should_SkipTicket_When_AlreadyAssigned() {
+            // given
+            List<Ticket> tickets = pendingTickets(2);
+            when(ticketRepository.findUnassignedTickets(createdBefore)).thenReturn(tickets);
+            when(userRepository.getUsersByRole(Role.MANAGER)).thenReturn(List.of(idleManager));
+            when(ticketRepository.countManagerLoads(anyList())).thenReturn(List.of());
+            when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                    .thenReturn(new int[][]{{1, 0}});
+
+            // when
+            int assigned = ticketAssignmentEngine.assignUnassignedTickets(createdBefore);
+
+            // then
+            assertThat(assigned).isEqualTo(1);
+            assertThat(capturedChanges()).extracting(TicketChangeEvent::getTicketId).containsExactly(1L);
+            assertThat(capturedNotifications()).singleElement()
+                    .satisfies(e -> assertThat(e.getTickets())
+                            .containsExactly(new TicketAssignmentEvent.AssignedTicket(1L, "티켓 1")));
+        }
+
+        @Test
+        @DisplayName("매니저가 없으면 배정하지 않는다.")
+        void should_NotAssign_When_NoManagers() {
+            // given
+            when(ticketRepository.findUnassignedTickets(createdBefore)).thenReturn(pendingTickets(1));
+            when(userRepository.getUsersByRole(Role.MANAGER)).thenReturn(List.of());
+
+            // when
+            int assigned = ticketAssignmentEngine.assignUnassignedTickets(createdBefore);
+
+            // then
+            assertThat(assigned).isZero();
+            verifyNoInteractions(jdbcTemplate, eventPublisher);
+        }
+    }
+
+    private List<Ticket> pendingTickets(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    Ticket ticket = Ticket.builder().title("티켓 " + id).status(Ticket.Status.PENDING).build();
+                    ReflectionTestUtils.setField(ticket, "id", id);
+                    return ticket;
+                })
+                .toList();
+    }
+
+    private List<ApplicationEvent> capturedEvents() {
+        ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<TicketChangeEvent> capturedChanges() {
+        return capturedEvents().stream()
+                .filter(TicketChangeEvent.class::isInstance)
+                .map(TicketChangeEvent.class::cast)
+                .toList();
+    }
+
+    private List<TicketAssignmentEvent> capturedNotifications() {
+        return capturedEvents().stream()
+                .filter(TicketAssignmentEvent.class::isInstance)
+                .map(TicketAssignmentEvent.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,163 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.ticket.application.TicketService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 목록 내보내기의 힙 사용량 확인용.
+ * 대량의 데이터를 적재하므로 기본 테스트에서는 제외되며 -Dbenchmark=true 로 실행한다. (행 수: -Dexport.rows, 기본 1,000,000)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("티켓 목록 내보내기 힙 사용량 테스트")
+public class TicketExportHeapTest {
+
+    private static final int ROW_COUNT = Integer.getInteger("export.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SAMPLE_INTERVAL = Math.max(ROW_COUNT / 10, 1);
+    private static final long HEAP_CEILING_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User requester;
+    private User admin;
+    private TicketType ticketType;
+
+    @BeforeAll
+    void seed() {
+        requester = userRepository.saveAndFlush(User.builder()
+                .username("exportBenchUser")
+                .email("export.bench@test.com")
+                .password("benchpass")
+                .role(Role.USER)
+                .build());
+        admin = userRepository.saveAndFlush(User.builder()
+                .username("exportBenchAdmin")
+                .email("export.bench.admin@test.com")
+                .password("benchpass")
+                .role(Role.ADMIN)
+                .build());
+        ticketType = ticketTypeRepository.saveAndFlush(new TicketType("내보내기 벤치마크 유형"));
+
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        String sql = "INSERT INTO tickets (title, description, description_preview, status, type_id, deadline, requester_id, urgent, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String description = "내보내기 벤치마크 티켓 상세 내용 ".repeat(10);
+        Ticket.Status[] statuses = Ticket.Status.values();
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{
+                    "내보내기 벤치마크 티켓 " + i,
+                    description,
+                    Ticket.previewOf(description),
+                    statuses[i % statuses.length].name(),
+                    ticketType.getId(),
+                    Timestamp.valueOf(base.plusDays(i % 60)),
+                    requester.getId(),
+                    i % 10 == 0,
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tickets WHERE requester_id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", requester.getId(), admin.getId());
+        jdbcTemplate.update("DELETE FROM ticket_types WHERE id = ?", ticketType.getId());
+    }
+
+    @Test
+    @DisplayName("내보내는 행 수와 관계없이 내보내기 중 힙 사용량 증가가 상한을 넘지 않는다.")
+    void should_KeepHeapBelowCeiling_When_ExportingAllRows() throws IOException {
+        // given
+        StreamingResponseBody body = ticketService.exportTicketList(
+                null, null, null, ticketType.getId(), null, requester.getId(), null, null, new CustomUserDetails(admin));
+        long baseline = usedHeapAfterGc();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        // when
+        body.writeTo(out);
+
+        // then
+        System.out.printf("[export] rows: %d, bytes: %d, heap growth peak: %d KB%n",
+                out.lines - 1, out.bytes, (out.peakUsedHeap - baseline) / 1024);
+
+        assertThat(out.lines - 1).isEqualTo(ROW_COUNT);
+        assertThat(out.peakUsedHeap - baseline).isLessThan(HEAP_CEILING_BYTES);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 쓴 바이트를 버리면서 일정 행마다 GC 후 남은 힙 사용량을 기록한다.
+     * GC 후에도 남는 양은 내보내기가 붙잡고 있는 메모리이므로, 행 수에 비례해 늘어나면 결과를 모으고 있다는 뜻이다.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+        private long peakUsedHeap;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % SAMPLE_INTERVAL == 0) sample();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) write(b[i]);
+        }
+
+        private void sample() {
+            peakUsedHeap = Math.max(peakUsedHeap, usedHeapAfterGc());
+        }
+    }
+}
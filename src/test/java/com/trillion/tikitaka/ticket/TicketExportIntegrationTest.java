@@ -0,0 +1,125 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.ticket.application.TicketService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("티켓 목록 내보내기 통합 테스트")
+public class TicketExportIntegrationTest {
+
+    private static final String BOM = "\uFEFF";
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    private User requester;
+    private User otherRequester;
+    private User manager;
+    private User admin;
+    private TicketType ticketType;
+
+    @BeforeEach
+    void setUp() {
+        requester = saveUser("exportUser", Role.USER);
+        otherRequester = saveUser("exportOther", Role.USER);
+        manager = saveUser("exportManager", Role.MANAGER);
+        admin = saveUser("exportAdmin", Role.ADMIN);
+        ticketType = ticketTypeRepository.saveAndFlush(new TicketType("내보내기 유형"));
+
+        saveTicket("=SUM(A1), \"견적\" 요청", requester, manager);
+        saveTicket("일반 요청", requester, null);
+        saveTicket("다른 사용자 요청", otherRequester, manager);
+    }
+
+    @Test
+    @DisplayName("사용자는 본인이 요청한 티켓만 ID 순으로 내보내고, 값은 CSV 규칙에 맞게 이스케이프된다.")
+    void should_ExportOwnTickets_When_User() throws IOException {
+        // when
+        List<String> lines = export(null, null, new CustomUserDetails(requester));
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("티켓 ID,제목,");
+        assertThat(lines.get(1)).contains("\"'=SUM(A1), \"\"견적\"\" 요청\"");
+        assertThat(lines.get(1)).contains("exportManager");
+        assertThat(lines.get(2)).contains("일반 요청");
+    }
+
+    @Test
+    @DisplayName("관리자는 목록 조회와 같은 필터로 내보낼 수 있다.")
+    void should_ApplyListFilters_When_Admin() throws IOException {
+        // when
+        List<String> lines = export(manager.getId(), ticketType.getId(), new CustomUserDetails(admin));
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(lines.subList(1, 3)).allSatisfy(line -> assertThat(line).contains("exportManager"));
+        assertThat(lines).noneMatch(line -> line.contains("일반 요청"));
+    }
+
+    private List<String> export(Long managerId, Long ticketTypeId, CustomUserDetails userDetails) throws IOException {
+        StreamingResponseBody body = ticketService.exportTicketList(
+                null, null, null, ticketTypeId, managerId, null, null, null, userDetails);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(BOM);
+        return List.of(csv.substring(BOM.length()).split("\r\n"));
+    }
+
+    private User saveUser(String username, Role role) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("exportpass")
+                .role(role)
+                .build());
+    }
+
+    private void saveTicket(String title, User requester, User manager) {
+        ticketRepository.saveAndFlush(Ticket.builder()
+                .title(title)
+                .description("내보내기 티켓 내용")
+                .ticketType(ticketType)
+                .requester(requester)
+                .manager(manager)
+                .deadline(LocalDateTime.now().plusDays(3))
+                .build());
+    }
+}
@@ -0,0 +1,237 @@
+package com.trillion.tikitaka.ticket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.TicketListCursor;
+import com.trillion.tikitaka.ticket.dto.response.TicketCursorResponse;
+import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 목록 조회 성능 비교용 벤치마크.
+ * 대량의 데이터를 적재하므로 기본 테스트에서는 제외되며 -Dbenchmark=true 로 실행한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("티켓 목록 조회 벤치마크")
+public class TicketListBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 5_000;
+    private static final int ROW_COUNT = PAGE_SIZE * (DEEP_PAGE + 50);
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User requester;
+    private TicketType ticketType;
+
+    @BeforeAll
+    void seed() {
+        requester = userRepository.saveAndFlush(User.builder()
+                .username("benchUser")
+                .email("bench@test.com")
+                .password("benchpass")
+                .role(Role.USER)
+                .build());
+        ticketType = ticketTypeRepository.saveAndFlush(new TicketType("벤치마크 유형"));
+
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        String sql = "INSERT INTO tickets (title, description, description_preview, status, type_id, deadline, requester_id, urgent, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String description = "벤치마크 티켓 상세 내용 ".repeat(50);
+        Ticket.Status[] statuses = Ticket.Status.values();
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i * 10L));
+            batch.add(new Object[]{
+                    "벤치마크 티켓 " + i,
+                    description,
+                    Ticket.previewOf(description),
+                    statuses[i % statuses.length].name(),
+                    ticketType.getId(),
+                    Timestamp.valueOf(base.plusDays(i % 60)),
+                    requester.getId(),
+                    i % 10 == 0,
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tickets WHERE requester_id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM ticket_types WHERE id = ?", ticketType.getId());
+    }
+
+    @Test
+    @DisplayName("오프셋 페이지네이션과 커서 페이지네이션의 1페이지/5,000페이지 응답 시간을 비교한다.")
+    void compareOffsetAndCursorPaging() {
+        long offsetFirst = measure(() -> offsetPage(0));
+        long offsetDeep = measure(() -> offsetPage(DEEP_PAGE - 1));
+
+        TicketListCursor deepCursor = cursorAfter(offsetPage(DEEP_PAGE - 2));
+        long cursorFirst = measure(() -> cursorPage(null));
+        long cursorDeep = measure(() -> cursorPage(deepCursor));
+
+        System.out.printf("[offset] page 1: %d us, page %d: %d us%n", offsetFirst, DEEP_PAGE, offsetDeep);
+        System.out.printf("[cursor] page 1: %d us, page %d: %d us%n", cursorFirst, DEEP_PAGE, cursorDeep);
+
+        assertThat(cursorPage(deepCursor).getContent()).hasSize(PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("마감일 정렬에서 CASE 식 정렬과 마감 전/후 구간 정렬의 실행 계획과 응답 시간을 비교한다.")
+    void compareDeadlineOrdering() {
+        String legacySql = "SELECT t.id FROM tickets t WHERE t.deleted_at IS NULL AND t.requester_id = ? " +
+                "ORDER BY CASE WHEN t.urgent = 1 AND t.status IN ('PENDING', 'IN_PROGRESS', 'REVIEW') THEN 0 ELSE 1 END, " +
+                "CASE WHEN t.deadline < NOW() THEN 999999999 ELSE TIMESTAMPDIFF(SECOND, NOW(), t.deadline) END " +
+                "LIMIT ? OFFSET ?";
+        String partitionSql = "SELECT t.id FROM tickets t WHERE t.deleted_at IS NULL AND t.requester_id = ? " +
+                "AND NOT (t.urgent = 1 AND t.status IN ('PENDING', 'IN_PROGRESS', 'REVIEW')) AND t.deadline >= NOW() " +
+                "ORDER BY t.deadline, t.id LIMIT ? OFFSET ?";
+
+        printPlan("legacy", legacySql);
+        printPlan("partition", partitionSql);
+
+        long legacyFirst = measure(() -> jdbcTemplate.queryForList(legacySql, Long.class, requester.getId(), PAGE_SIZE, 0));
+        long legacyDeep = measure(() -> jdbcTemplate.queryForList(legacySql, Long.class, requester.getId(), PAGE_SIZE, 100 * PAGE_SIZE));
+        long partitionFirst = measure(() -> deadlinePage(0));
+        long partitionDeep = measure(() -> deadlinePage(100));
+
+        System.out.printf("[deadline legacy] page 1: %d us, page 101: %d us%n", legacyFirst, legacyDeep);
+        System.out.printf("[deadline partition] page 1: %d us, page 101: %d us%n", partitionFirst, partitionDeep);
+
+        assertThat(deadlinePage(0)).hasSize(PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("목록 조회에서 description 전체를 읽을 때와 미리보기 컬럼을 읽을 때의 페이지 크기와 p99 응답 시간을 비교한다.")
+    void compareDescriptionProjection() throws Exception {
+        String columns = "t.id, t.title, %s AS description, t.status, t.urgent, t.priority, t.deadline, t.created_at, t.progress";
+        String sql = "SELECT " + columns + " FROM tickets t WHERE t.deleted_at IS NULL AND t.requester_id = ? " +
+                "ORDER BY t.created_at DESC LIMIT ? OFFSET ?";
+        String fullSql = String.format(sql, "t.description");
+        String previewSql = String.format(sql, "t.description_preview");
+
+        long fullBytes = pageBytes(jdbcTemplate.queryForList(fullSql, requester.getId(), PAGE_SIZE, 0));
+        long previewBytes = pageBytes(jdbcTemplate.queryForList(previewSql, requester.getId(), PAGE_SIZE, 0));
+        long repositoryBytes = objectMapper.writeValueAsBytes(offsetPage(0)).length;
+
+        long fullP99 = measureP99(() -> jdbcTemplate.queryForList(fullSql, requester.getId(), PAGE_SIZE, 10 * PAGE_SIZE));
+        long previewP99 = measureP99(() -> jdbcTemplate.queryForList(previewSql, requester.getId(), PAGE_SIZE, 10 * PAGE_SIZE));
+
+        System.out.printf("[description full] %d bytes/page, p99: %d us%n", fullBytes, fullP99);
+        System.out.printf("[description preview] %d bytes/page, p99: %d us (list response %d bytes/page)%n",
+                previewBytes, previewP99, repositoryBytes);
+
+        assertThat(offsetPage(0)).allMatch(row -> row.getDescription().length() <= Ticket.DESCRIPTION_PREVIEW_LENGTH);
+    }
+
+    private long pageBytes(List<Map<String, Object>> rows) throws Exception {
+        return objectMapper.writeValueAsBytes(rows).length;
+    }
+
+    // 워밍업 후 반복 측정한 p99(마이크로초)
+    private long measureP99(Supplier<?> action) {
+        for (int i = 0; i < WARMUP; i++) action.get();
+
+        int iterations = ITERATIONS * 10;
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(iterations * 0.99) - 1];
+    }
+
+    private void printPlan(String label, String sql) {
+        jdbcTemplate.queryForList("EXPLAIN " + sql, requester.getId(), PAGE_SIZE, 0)
+                .forEach(row -> System.out.printf("[%s plan] %s%n", label, row));
+    }
+
+    private List<TicketListResponse> deadlinePage(int page) {
+        return ticketRepository.getTicketList(PageRequest.of(page, PAGE_SIZE), null, null, null, null,
+                null, requester.getId(), null, "ADMIN", null, "deadline", null).getContent();
+    }
+
+    private List<TicketListResponse> offsetPage(int page) {
+        return ticketRepository.getTicketList(PageRequest.of(page, PAGE_SIZE), null, null, null, null,
+                null, requester.getId(), null, "ADMIN", null, "newest", null).getContent();
+    }
+
+    private TicketCursorResponse cursorPage(TicketListCursor cursor) {
+        return ticketRepository.getTicketListByCursor(cursor, PAGE_SIZE, null, null, null, null,
+                null, requester.getId(), null, "ADMIN", null, "newest");
+    }
+
+    private TicketListCursor cursorAfter(List<TicketListResponse> page) {
+        TicketListResponse last = page.get(page.size() - 1);
+        boolean urgentActive = last.getUrgent()
+                && Arrays.asList(Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW).contains(last.getStatus());
+        return TicketListCursor.of("newest", null, urgentActive ? 0 : 1, last.getCreatedAt(), last.getTicketId(), LocalDateTime.now());
+    }
+
+    // 워밍업 후 반복 측정한 중앙값(마이크로초)
+    private long measure(Supplier<?> action) {
+        for (int i = 0; i < WARMUP; i++) action.get();
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+}
@@ -0,0 +1,142 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.ticket.application.TicketListCountProvider;
+import com.trillion.tikitaka.ticket.application.TicketStatusCounterService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.TicketCountStrategy;
+import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("티켓 목록 건수 조회 유닛 테스트")
+@ExtendWith(MockitoExtension.class)
+class TicketListCountProviderTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketStatusCounterService ticketStatusCounterService;
+
+    private TicketListCountProvider countProvider;
+
+    @BeforeEach
+    void setUp() {
+        countProvider = new TicketListCountProvider(ticketRepository, ticketStatusCounterService, 30);
+    }
+
+    @Nested
+    @DisplayName("CACHED 방식 테스트")
+    class DescribeCached {
+
+        @Test
+        @DisplayName("같은 필터 조합은 count 쿼리를 한 번만 실행한다.")
+        void should_CountOnce_When_SameFilterRequested() {
+            // given
+            when(ticketRepository.countTicketList(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(42L);
+
+            // when
+            long first = countProvider.count(TicketCountStrategy.CACHED, Ticket.Status.PENDING,
+                    null, null, null, null, null, false, "ADMIN", "Week");
+            long second = countProvider.count(TicketCountStrategy.CACHED, Ticket.Status.PENDING,
+                    null, null, null, null, null, null, "ADMIN", "week");
+
+            // then
+            assertThat(first).isEqualTo(42L);
+            assertThat(second).isEqualTo(42L);
+            verify(ticketRepository, times(1)).countTicketList(
+                    eq(Ticket.Status.PENDING), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq("ADMIN"), eq("week"));
+        }
+
+        @Test
+        @DisplayName("긴급 필터가 켜져 있으면 상태 값이 달라도 같은 캐시를 사용한다.")
+        void should_IgnoreStatus_When_UrgentFilterOn() {
+            // given
+            when(ticketRepository.countTicketList(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(3L);
+
+            // when
+            countProvider.count(TicketCountStrategy.CACHED, Ticket.Status.PENDING,
+                    null, null, null, null, null, true, "ADMIN", null);
+            countProvider.count(TicketCountStrategy.CACHED, Ticket.Status.DONE,
+                    null, null, null, null, null, true, "ADMIN", null);
+
+            // then
+            verify(ticketRepository, times(1)).countTicketList(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(true), eq("ADMIN"), isNull());
+        }
+
+        @Test
+        @DisplayName("필터 조합이 다르면 각각 count 쿼리를 실행한다.")
+        void should_CountEach_When_FilterDiffers() {
+            // given
+            when(ticketRepository.countTicketList(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(1L);
+
+            // when
+            countProvider.count(TicketCountStrategy.CACHED, null, 1L, null, null, null, null, null, "ADMIN", null);
+            countProvider.count(TicketCountStrategy.CACHED, null, 2L, null, null, null, null, null, "ADMIN", null);
+
+            // then
+            verify(ticketRepository, times(2)).countTicketList(
+                    any(), any(), any(), any(), any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("ESTIMATED 방식 테스트")
+    class DescribeEstimated {
+
+        @Test
+        @DisplayName("상태 필터만 있으면 상태별 카운터 테이블에서 건수를 계산하고 티켓 테이블은 세지 않는다.")
+        void should_UseStatusCounters_When_OnlyStatusFiltered() {
+            // given
+            when(ticketStatusCounterService.countTicketsByStatus(isNull()))
+                    .thenReturn(new TicketCountByStatusResponse(20L, 5L, 4L, 3L, 6L, 2L));
+
+            // when
+            long pending = countProvider.count(TicketCountStrategy.ESTIMATED, Ticket.Status.PENDING,
+                    null, null, null, null, null, null, "ADMIN", null);
+            long rejected = countProvider.count(TicketCountStrategy.ESTIMATED, Ticket.Status.REJECTED,
+                    null, null, null, null, null, null, "ADMIN", null);
+            long urgent = countProvider.count(TicketCountStrategy.ESTIMATED, null,
+                    null, null, null, null, null, true, "ADMIN", null);
+
+            // then
+            assertThat(pending).isEqualTo(5L);
+            assertThat(rejected).isEqualTo(2L);
+            assertThat(urgent).isEqualTo(2L);
+            verify(ticketStatusCounterService, times(3)).countTicketsByStatus(isNull());
+            verify(ticketRepository, never()).countTicketsByStatus(any());
+            verify(ticketRepository, never()).countTicketList(
+                    any(), any(), any(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("상태별 티켓 수로 표현할 수 없는 필터가 있으면 CACHED 방식으로 센다.")
+        void should_FallbackToCached_When_FilterNotEstimable() {
+            // given
+            when(ticketRepository.countTicketList(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(7L);
+
+            // when
+            long count = countProvider.count(TicketCountStrategy.ESTIMATED, Ticket.Status.PENDING,
+                    null, null, 3L, null, null, null, "ADMIN", null);
+
+            // then
+            assertThat(count).isEqualTo(7L);
+            verifyNoInteractions(ticketStatusCounterService);
+        }
+    }
+}
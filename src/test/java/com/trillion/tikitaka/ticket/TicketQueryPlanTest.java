@@ -0,0 +1,269 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 QueryDSL 조회 쿼리의 실행 계획 검증.
+ * 실제 실행된 SQL 과 바인딩 값을 그대로 EXPLAIN 하여 전체 테이블 스캔(type = ALL)이 없는지 확인한다.
+ * 테스트 프로필의 MySQL 에서 실행되며, 옵티마이저가 인덱스를 고를 수 있도록 적당한 양의 데이터를 적재한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("티켓 조회 쿼리 실행 계획 테스트")
+public class TicketQueryPlanTest {
+
+    private static final int ROW_COUNT = 3_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> requesters = new ArrayList<>();
+    private final List<User> managers = new ArrayList<>();
+    private TicketType ticketType;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < 10; i++) {
+            requesters.add(userRepository.saveAndFlush(User.builder()
+                    .username("planUser" + i)
+                    .email("plan.user" + i + "@test.com")
+                    .password("planpass")
+                    .role(Role.USER)
+                    .build()));
+            managers.add(userRepository.saveAndFlush(User.builder()
+                    .username("planManager" + i)
+                    .email("plan.manager" + i + "@test.com")
+                    .password("planpass")
+                    .role(Role.MANAGER)
+                    .build()));
+        }
+        ticketType = ticketTypeRepository.saveAndFlush(new TicketType("실행 계획 유형"));
+
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        String sql = "INSERT INTO tickets (title, description, status, type_id, deadline, requester_id, manager_id, urgent, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Ticket.Status[] statuses = Ticket.Status.values();
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i * 150L));
+            batch.add(new Object[]{
+                    "실행 계획 티켓 " + i,
+                    "실행 계획 티켓 상세 내용",
+                    statuses[i % statuses.length].name(),
+                    ticketType.getId(),
+                    Timestamp.valueOf(base.plusDays(i % 400)),
+                    requesters.get(i % requesters.size()).getId(),
+                    (i % 7 == 0) ? null : managers.get(i % managers.size()).getId(),
+                    i % 20 == 0,
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbcTemplate.batchUpdate(sql, batch);
+        jdbcTemplate.execute("ANALYZE TABLE tickets");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        requesters.forEach(user -> jdbcTemplate.update("DELETE FROM tickets WHERE requester_id = ?", user.getId()));
+        requesters.forEach(user -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId()));
+        managers.forEach(user -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId()));
+        jdbcTemplate.update("DELETE FROM ticket_types WHERE id = ?", ticketType.getId());
+    }
+
+    @Test
+    @DisplayName("상태별 티켓 수 조회는 전체 스캔을 하지 않는다.")
+    void countTicketsByStatus() {
+        assertNoFullScan(() -> ticketRepository.countTicketsByStatus(null));
+        assertNoFullScan(() -> ticketRepository.countTicketsByStatus(requesters.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("사용자 본인 티켓 목록 조회는 전체 스캔을 하지 않는다.")
+    void getTicketListByRequester() {
+        Long requesterId = requesters.get(0).getId();
+        for (String sort : List.of("newest", "oldest", "deadline")) {
+            assertNoFullScan(() -> ticketRepository.getTicketList(PageRequest.of(1, 20), null, null, null, null,
+                    null, requesterId, null, "USER", null, sort, null));
+            assertNoFullScan(() -> ticketRepository.getTicketListByCursor(null, 20, null, null, null, null,
+                    null, requesterId, null, "USER", null, sort));
+        }
+    }
+
+    @Test
+    @DisplayName("담당자/상태/긴급/기간 필터 목록 조회는 전체 스캔을 하지 않는다.")
+    void getTicketListWithFilters() {
+        Long managerId = managers.get(1).getId();
+        assertNoFullScan(() -> ticketRepository.getTicketList(PageRequest.of(0, 20), null, null, null, null,
+                managerId, null, null, "MANAGER", null, "newest", null));
+        assertNoFullScan(() -> ticketRepository.getTicketList(PageRequest.of(0, 20), Ticket.Status.REVIEW, null, null, null,
+                null, null, null, "MANAGER", null, "newest", null));
+        assertNoFullScan(() -> ticketRepository.getTicketList(PageRequest.of(0, 20), null, null, null, null,
+                null, null, true, "MANAGER", null, "newest", null));
+        assertNoFullScan(() -> ticketRepository.getTicketList(PageRequest.of(0, 20), null, null, null, null,
+                null, null, null, "MANAGER", "week", "newest", null));
+        assertNoFullScan(() -> ticketRepository.countTicketList(Ticket.Status.PENDING, null, null, null,
+                managerId, null, null, "MANAGER", null));
+    }
+
+    @Test
+    @DisplayName("티켓 단건 조회는 전체 스캔을 하지 않는다.")
+    void getTicket() {
+        Long ticketId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM tickets WHERE requester_id = ?", Long.class, requesters.get(0).getId());
+        assertNoFullScan(() -> ticketRepository.getTicket(ticketId, requesters.get(0).getId(), "USER"));
+    }
+
+    @Test
+    @DisplayName("자동 배정/담당자별 건수 조회는 전체 스캔을 하지 않는다.")
+    void assignmentQueries() {
+        User manager = managers.get(2);
+        assertNoFullScan(() -> ticketRepository.findUnassignedTickets(LocalDateTime.now().minusDays(300)));
+        assertNoFullScan(() -> ticketRepository.countTicketsByManagerAndStatusIn(
+                manager, List.of(Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS)));
+        assertNoFullScan(() -> ticketRepository.countByManagerAndTicketStatus(manager, Ticket.Status.IN_PROGRESS));
+        assertNoFullScan(() -> ticketRepository.countManagerLoads(
+                List.of(Ticket.Status.PENDING, Ticket.Status.IN_PROGRESS, Ticket.Status.REVIEW)));
+    }
+
+    private void assertNoFullScan(Runnable query) {
+        List<CapturedQuery> captured = QueryCapture.capture(query);
+        assertThat(captured).isNotEmpty();
+
+        for (CapturedQuery capturedQuery : captured) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN " + capturedQuery.sql(), capturedQuery.parameters().toArray());
+
+            assertThat(plan)
+                    .as("EXPLAIN %s%n%s", capturedQuery.sql(), plan)
+                    .noneMatch(row -> "ALL".equals(row.get("type")));
+        }
+    }
+
+    record CapturedQuery(String sql, List<Object> parameters) {
+    }
+
+    /**
+     * PreparedStatement 를 감싸 실행된 SELECT 문과 바인딩 값을 기록한다.
+     */
+    static class QueryCapture {
+
+        private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+        static List<CapturedQuery> capture(Runnable action) {
+            CAPTURED.set(new ArrayList<>());
+            try {
+                action.run();
+                return CAPTURED.get();
+            } finally {
+                CAPTURED.remove();
+            }
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return (result instanceof Connection connection) ? wrap(connection) : result;
+            });
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return wrap(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            SortedMap<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                }
+                if (name.equals("executeQuery") && (args == null || args.length == 0)) {
+                    List<CapturedQuery> captured = CAPTURED.get();
+                    if (captured != null && sql.trim().toLowerCase().startsWith("select")) {
+                        captured.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+                    }
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Invocation<T> invocation) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                try {
+                    return invocation.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface Invocation<T> {
+            Object invoke(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource dataSource) ? QueryCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
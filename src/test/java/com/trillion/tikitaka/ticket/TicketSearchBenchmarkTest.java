@@ -0,0 +1,123 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import com.trillion.tikitaka.ticket.infrastructure.TicketSearchIndex;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 검색 색인 응답 시간 벤치마크.
+ * 가상 티켓 1,000,000건을 디스크 색인에 적재하므로 기본 테스트에서는 제외되며 -Dbenchmark=true 로 실행한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("티켓 검색 벤치마크")
+public class TicketSearchBenchmarkTest {
+
+    private static final int TICKET_COUNT = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int REQUESTER_COUNT = 500;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    private static final String[] WORDS = {
+            "비밀번호", "변경", "계정", "잠금", "프린터", "인쇄", "오류", "네트워크", "접속", "VPN",
+            "메일", "발송", "실패", "권한", "요청", "서버", "배포", "장애", "로그인", "인증서",
+            "모니터", "교체", "노트북", "설치", "라이선스", "데이터베이스", "백업", "복구", "회의실", "예약"
+    };
+    private static final String[] KEYWORDS = {"비밀번호", "프린터 오류", "VPN 접속", "인증서", "데이터베이스 백업 실패"};
+
+    @TempDir
+    Path indexDir;
+
+    private TicketSearchIndex index;
+
+    @BeforeAll
+    void seed() throws IOException {
+        index = new TicketSearchIndex(indexDir.toString());
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusYears(3);
+
+        long start = System.nanoTime();
+        List<TicketSearchDocument> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= TICKET_COUNT; id++) {
+            batch.add(new TicketSearchDocument(
+                    id,
+                    sentence(random, 4),
+                    sentence(random, 40),
+                    (long) random.nextInt(REQUESTER_COUNT),
+                    base.plusMinutes(id)
+            ));
+            if (batch.size() == BATCH_SIZE) {
+                index.addAll(batch);
+                batch.clear();
+            }
+        }
+        index.addAll(batch);
+        index.commit();
+        System.out.printf("[search] indexed %d tickets in %d ms%n", index.numDocs(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    @DisplayName("전체 검색과 요청자 필터 검색의 p50/p99 응답 시간을 측정한다.")
+    void measureSearchLatency() throws IOException {
+        Random random = new Random(7);
+        long[] all = measure(() -> index.search(KEYWORDS[random.nextInt(KEYWORDS.length)], null, 0, 20));
+        long[] byRequester = measure(() -> index.search(
+                KEYWORDS[random.nextInt(KEYWORDS.length)], (long) random.nextInt(REQUESTER_COUNT), 0, 20));
+
+        System.out.printf("[search all] p50: %d us, p99: %d us%n", percentile(all, 50), percentile(all, 99));
+        System.out.printf("[search requester] p50: %d us, p99: %d us%n", percentile(byRequester, 50), percentile(byRequester, 99));
+
+        assertThat(index.search("비밀번호", null, 0, 20).ticketIds()).hasSize(20);
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(3) == 0) builder.append("을 ");
+        }
+        return builder.toString();
+    }
+
+    private long[] measure(SearchAction action) throws IOException {
+        for (int i = 0; i < WARMUP; i++) action.run();
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    @FunctionalInterface
+    private interface SearchAction {
+        void run() throws IOException;
+    }
+}
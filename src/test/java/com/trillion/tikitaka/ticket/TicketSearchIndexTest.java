@@ -0,0 +1,160 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.ticket.dto.TicketSearchDocument;
+import com.trillion.tikitaka.ticket.infrastructure.TicketSearchIndex;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("티켓 검색 색인 유닛 테스트")
+class TicketSearchIndexTest {
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TicketSearchIndex("");
+        LocalDateTime now = LocalDateTime.now();
+        index.addAll(List.of(
+                new TicketSearchDocument(1L, "비밀번호를 변경하고 싶습니다", "메일 계정 비밀번호가 만료되었습니다.", 10L, now.minusDays(2)),
+                new TicketSearchDocument(2L, "프린터 연결 오류", "3층 회의실 프린터에서 인쇄가 되지 않습니다.", 10L, now.minusDays(1)),
+                new TicketSearchDocument(3L, "VPN 접속 문의", "재택근무 중 비밀번호 입력 후 접속이 끊깁니다.", 20L, now)
+        ));
+        index.commit();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한국어 단어도 형태소 단위로 검색되고 제목 일치가 먼저 나온다.")
+    void should_MatchKoreanMorphemes() throws IOException {
+        // when
+        TicketSearchIndex.Hits hits = index.search("비밀번호", null, 0, 10);
+
+        // then
+        assertThat(hits.totalHits()).isEqualTo(2L);
+        assertThat(hits.ticketIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("요청자 필터가 있으면 해당 요청자의 티켓만 검색한다.")
+    void should_FilterByRequester() throws IOException {
+        // when
+        TicketSearchIndex.Hits hits = index.search("비밀번호", 20L, 0, 10);
+
+        // then
+        assertThat(hits.ticketIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 commit 전에도 검색에 바로 반영된다.")
+    void should_ReflectUpsertAndDelete() throws IOException {
+        // when
+        index.upsert(new TicketSearchDocument(2L, "프린터 드라이버 설치", "비밀번호 없이 설치 가능한가요?", 10L, LocalDateTime.now()));
+        index.delete(1L);
+
+        // then
+        assertThat(index.search("비밀번호", null, 0, 10).ticketIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("연결", null, 0, 10).ticketIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재생성 중에는 이전 색인이 그대로 검색되고, 그사이 들어온 수정/삭제는 새 색인에 이어서 반영된다.")
+    void should_KeepServingOldIndex_When_UpdatedDuringRebuild() throws IOException {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger calls = new AtomicInteger();
+        List<List<TicketSearchDocument>> batches = List.of(
+                List.of(new TicketSearchDocument(1L, "비밀번호를 변경하고 싶습니다", "메일 계정 비밀번호가 만료되었습니다.", 10L, now)),
+                List.of(new TicketSearchDocument(3L, "VPN 접속 문의", "재택근무 중 비밀번호 입력 후 접속이 끊깁니다.", 20L, now)),
+                List.of());
+
+        // when
+        int indexed = index.rebuild(lastTicketId -> {
+            try {
+                if (calls.get() == 1) {
+                    // 재생성 도중 티켓이 수정/삭제되어 이벤트 리스너가 색인을 갱신한다.
+                    index.upsert(new TicketSearchDocument(4L, "모니터 교체 요청", "비밀번호 잠금 화면이 깜빡입니다.", 10L, now));
+                    index.delete(1L);
+                    assertThat(index.search("비밀번호", null, 0, 10).ticketIds()).containsExactlyInAnyOrder(1L, 3L);
+                    assertThat(index.search("프린터", null, 0, 10).ticketIds()).containsExactly(2L);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return batches.get(calls.getAndIncrement());
+        });
+
+        // then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(index.search("비밀번호", null, 0, 10).ticketIds()).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(index.search("프린터", null, 0, 10).ticketIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재생성 중 읽기에 실패하면 기존 색인을 유지하고, 그사이 들어온 변경은 반영한다.")
+    void should_KeepOldIndex_When_RebuildFails() throws IOException {
+        // when & then
+        assertThatThrownBy(() -> index.rebuild(lastTicketId -> {
+            try {
+                index.delete(2L);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("DB 조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.search("비밀번호", null, 0, 10).ticketIds()).containsExactly(1L, 3L);
+        assertThat(index.search("프린터", null, 0, 10).ticketIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재생성한 색인을 반영하다 실패하면 되돌려 기존 문서가 그대로 검색되고, 그사이 들어온 변경은 반영한다.")
+    void should_KeepOldIndex_When_SwapFails() throws IOException {
+        // given
+        index.destroy();
+        index = new TicketSearchIndex("") {
+            @Override
+            protected void addRebuiltIndex(IndexWriter target, Directory rebuilt) throws IOException {
+                throw new IOException("디스크 공간 부족");
+            }
+        };
+        index.addAll(List.of(
+                new TicketSearchDocument(1L, "비밀번호를 변경하고 싶습니다", "메일 계정 비밀번호가 만료되었습니다.", 10L, LocalDateTime.now()),
+                new TicketSearchDocument(2L, "프린터 연결 오류", "3층 회의실 프린터에서 인쇄가 되지 않습니다.", 10L, LocalDateTime.now())
+        ));
+        index.commit();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> index.rebuild(lastTicketId -> {
+            if (calls.getAndIncrement() > 0) return List.of();
+            try {
+                index.delete(2L);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return List.of(new TicketSearchDocument(3L, "VPN 접속 문의", "재택근무 중 접속이 끊깁니다.", 20L, LocalDateTime.now()));
+        })).isInstanceOf(IOException.class);
+
+        // then
+        assertThat(index.search("비밀번호", null, 0, 10).ticketIds()).containsExactly(1L);
+        assertThat(index.search("프린터", null, 0, 10).ticketIds()).isEmpty();
+        assertThat(index.search("VPN", null, 0, 10).ticketIds()).isEmpty();
+        assertThat(index.numDocs()).isEqualTo(1);
+    }
+}
@@ -5,21 +5,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.category.domain.Category;
 import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
+import com.trillion.tikitaka.subtask.domain.Subtask;
+import com.trillion.tikitaka.subtask.infrastructure.SubtaskRepository;
+import com.trillion.tikitaka.ticket.application.TicketDetailService;
 import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.dto.TicketListCursor;
 import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
 import com.trillion.tikitaka.ticket.dto.request.EditSettingRequest;
 import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
 import com.trillion.tikitaka.ticket.dto.response.TicketListResponse;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticketcomment.domain.TicketComment;
+import com.trillion.tikitaka.ticketcomment.infrastructure.TicketCommentRepository;
 import com.trillion.tikitaka.tickettype.domain.TicketType;
 import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
 import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -34,13 +47,15 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -65,6 +80,21 @@ public class TicketServiceIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TicketCommentRepository ticketCommentRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private TicketDetailService ticketDetailService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
 
     private User manager1;
     private User manager2;
@@ -708,6 +738,450 @@ public class TicketServiceIntegrationTest {
 
 
     }
+    @Nested
+    @DisplayName("티켓 목록 커서 조회 테스트")
+    class DescribeGetTicketListByCursor {
+
+        @Test
+        @DisplayName("커서를 따라 조회하면 오프셋 조회와 같은 순서로 중복 없이 모든 티켓을 반환한다.")
+        void should_ReturnSameOrderAsOffsetPaging_when_FollowingCursor() throws Exception {
+            // given
+            for (int i = 0; i < 5; i++) {
+                ticketRepository.save(Ticket.builder()
+                        .title("커서 티켓 " + i)
+                        .description("커서 티켓 상세 내용")
+                        .ticketType(ticketType1)
+                        .deadline(LocalDateTime.now().plusDays(i + 1))
+                        .urgent(i % 2 == 0)
+                        .requester(normalUser1)
+                        .status(Ticket.Status.PENDING)
+                        .build());
+            }
+            ticketRepository.flush();
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+
+            String offsetBody = mockMvc.perform(get("/tickets/list")
+                            .param("size", "100")
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Long> expectedIds = new ArrayList<>();
+            objectMapper.readTree(offsetBody).path("data").path("content")
+                    .forEach(node -> expectedIds.add(node.path("ticketId").asLong()));
+
+            // when
+            List<Long> cursorIds = new ArrayList<>();
+            String cursor = null;
+            boolean hasNext = true;
+            while (hasNext) {
+                var request = get("/tickets/list")
+                        .param("paging", "cursor")
+                        .param("size", "3")
+                        .with(user(customUserDetails));
+                if (cursor != null) request.param("cursor", cursor);
+
+                String body = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                JsonNode data = objectMapper.readTree(body).path("data");
+                data.path("content").forEach(node -> cursorIds.add(node.path("ticketId").asLong()));
+                hasNext = data.path("hasNext").asBoolean();
+                cursor = data.path("nextCursor").asText(null);
+            }
+
+            // then
+            assertThat(cursorIds).hasSize(7);
+            assertThat(cursorIds).doesNotHaveDuplicates();
+            assertThat(cursorIds).containsExactlyElementsOf(expectedIds);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회하면 실패한다.")
+        void should_FailToGetTicketList_when_InvalidCursor() throws Exception {
+            // when
+            String responseBody = mockMvc.perform(get("/tickets/list")
+                            .param("paging", "cursor")
+                            .param("cursor", "not-a-cursor")
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isBadRequest())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            assertThat(responseBody).contains("유효하지 않은 페이지 커서입니다.");
+        }
+
+        @ParameterizedTest
+        @CsvSource(value = {"oldest, null", "deadline, null", "newest, true"}, nullValues = "null")
+        @DisplayName("커서를 만든 정렬 방식/긴급 필터와 다른 조건으로 다음 페이지를 조회하면 실패한다.")
+        void should_FailToGetTicketList_when_CursorConditionMismatch(String sort, String urgent) throws Exception {
+            // given
+            for (int i = 0; i < 3; i++) {
+                ticketRepository.save(Ticket.builder()
+                        .title("커서 조건 티켓 " + i)
+                        .description("커서 조건 티켓 내용")
+                        .ticketType(ticketType1)
+                        .deadline(LocalDateTime.now().plusDays(i + 1))
+                        .requester(normalUser1)
+                        .urgent(true)
+                        .build());
+            }
+            ticketRepository.flush();
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+
+            String firstBody = mockMvc.perform(get("/tickets/list")
+                            .param("paging", "cursor")
+                            .param("sort", "newest")
+                            .param("size", "1")
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = objectMapper.readTree(firstBody).path("data").path("nextCursor").asText();
+
+            // when
+            var request = get("/tickets/list")
+                    .param("paging", "cursor")
+                    .param("cursor", nextCursor)
+                    .param("sort", sort)
+                    .param("size", "1")
+                    .with(user(customUserDetails));
+            if (urgent != null) request.param("urgent", urgent);
+            String responseBody = mockMvc.perform(request)
+                    .andExpect(status().isBadRequest())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            assertThat(TicketListCursor.decode(nextCursor).getSort()).isEqualTo("newest");
+            assertThat(responseBody).contains("유효하지 않은 페이지 커서입니다.");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, 101})
+        @DisplayName("페이지 크기가 1~100 을 벗어나면 실패한다.")
+        void should_FailToGetTicketList_when_InvalidSize(int size) throws Exception {
+            // when & then
+            mockMvc.perform(get("/tickets/list")
+                            .param("paging", "cursor")
+                            .param("size", String.valueOf(size))
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("티켓 상세 일괄 조회 테스트")
+    class DescribeGetTicketDetail {
+
+        @Test
+        @DisplayName("티켓 상세를 일괄 조회하면 ETag 를 내려주고, 같은 ETag 로 다시 조회하면 304 를 반환한다.")
+        void should_ReturnNotModified_when_ETagMatches() throws Exception {
+            // given
+            Ticket ticket = ticketRepository.saveAndFlush(Ticket.builder()
+                    .title("상세 조회 티켓")
+                    .description("상세 조회 티켓 내용")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser1)
+                    .manager(manager1)
+                    .build());
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+
+            // when
+            var firstResult = mockMvc.perform(get("/tickets/{ticketId}/full", ticket.getId())
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            String eTag = firstResult.getHeader("ETag");
+
+            // then
+            JsonNode data = objectMapper.readTree(firstResult.getContentAsString()).path("data");
+            assertThat(eTag).isNotBlank();
+            assertThat(data.path("ticket").path("ticketId").asLong()).isEqualTo(ticket.getId());
+            assertThat(data.path("comments").isArray()).isTrue();
+            assertThat(data.path("subtasks").isArray()).isTrue();
+            assertThat(data.has("reviews")).isFalse();
+
+            mockMvc.perform(get("/tickets/{ticketId}/full", ticket.getId())
+                            .header("If-None-Match", eTag)
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("댓글이나 하위 태스크가 추가되면 이전 ETag 로 조회해도 새 ETag 와 함께 200 을 반환한다.")
+        void should_ChangeETag_when_CommentOrSubtaskAdded() throws Exception {
+            // given
+            Ticket ticket = ticketRepository.saveAndFlush(Ticket.builder()
+                    .title("ETag 변경 티켓")
+                    .description("ETag 변경 티켓 내용")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser1)
+                    .manager(manager1)
+                    .build());
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+            String initialETag = getTicketDetailETag(ticket.getId(), null, customUserDetails);
+
+            // when
+            ticketCommentRepository.saveAndFlush(TicketComment.builder()
+                    .content("새 댓글")
+                    .ticket(ticket)
+                    .author(manager1)
+                    .build());
+            String commentedETag = getTicketDetailETag(ticket.getId(), initialETag, customUserDetails);
+
+            subtaskRepository.saveAndFlush(Subtask.builder()
+                    .description("새 하위 태스크")
+                    .parentTicket(ticket)
+                    .build());
+            String subtaskETag = getTicketDetailETag(ticket.getId(), commentedETag, customUserDetails);
+
+            // then
+            assertThat(commentedETag).isNotBlank().isNotEqualTo(initialETag);
+            assertThat(subtaskETag).isNotBlank().isNotEqualTo(commentedETag).isNotEqualTo(initialETag);
+        }
+
+        @Test
+        @DisplayName("댓글/첨부파일/하위 태스크 수와 관계없이 티켓 상세 일괄 조회는 최대 7개의 쿼리만 실행한다.")
+        void should_ExecuteAtMostSevenStatements_when_GetTicketDetail() {
+            // given
+            Ticket ticket = ticketRepository.saveAndFlush(Ticket.builder()
+                    .title("쿼리 수 확인 티켓")
+                    .description("쿼리 수 확인 티켓 내용")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser1)
+                    .manager(manager1)
+                    .status(Ticket.Status.IN_PROGRESS)
+                    .build());
+            for (int i = 0; i < 20; i++) {
+                ticketCommentRepository.save(TicketComment.builder()
+                        .content("댓글 " + i)
+                        .ticket(ticket)
+                        .author(i % 2 == 0 ? manager1 : normalUser1)
+                        .build());
+                subtaskRepository.save(Subtask.builder()
+                        .description("하위 태스크 " + i)
+                        .parentTicket(ticket)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            // when
+            TicketDetailService.TicketDetail detail = ticketDetailService.getTicketDetail(ticket.getId(), new CustomUserDetails(manager1));
+
+            // then
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+            assertThat(detail.response().getComments()).hasSize(20);
+            assertThat(detail.response().getSubtasks()).hasSize(20);
+            assertThat(detail.response().getReviews()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 티켓을 일괄 조회하면 실패한다.")
+        void should_FailToGetTicketDetail_when_OtherUserTicket() throws Exception {
+            // given
+            Ticket ticket = ticketRepository.saveAndFlush(Ticket.builder()
+                    .title("다른 사용자 티켓")
+                    .description("다른 사용자 티켓 내용")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser2)
+                    .build());
+
+            // when & then
+            mockMvc.perform(get("/tickets/{ticketId}/full", ticket.getId())
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isNotFound());
+        }
+
+        private String getTicketDetailETag(Long ticketId, String ifNoneMatch, CustomUserDetails customUserDetails) throws Exception {
+            var request = get("/tickets/{ticketId}/full", ticketId).with(user(customUserDetails));
+            if (ifNoneMatch != null) request.header("If-None-Match", ifNoneMatch);
+
+            return mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+        }
+    }
+
+    @Nested
+    @DisplayName("티켓 검색 테스트")
+    class DescribeSearchTickets {
+
+        @Test
+        @DisplayName("색인을 재생성하면 한국어 검색어로 본인 티켓만 검색된다.")
+        void should_SearchOwnTicketsByKoreanKeyword_when_IndexRebuilt() throws Exception {
+            // given
+            Ticket ownTicket = ticketRepository.save(Ticket.builder()
+                    .title("비밀번호를 변경하고 싶습니다")
+                    .description("사내 메일 계정의 비밀번호가 만료되었습니다.")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser1)
+                    .build());
+            ticketRepository.save(Ticket.builder()
+                    .title("비밀번호 초기화 요청")
+                    .description("다른 사용자의 티켓")
+                    .ticketType(ticketType1)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .requester(normalUser2)
+                    .build());
+            ticketRepository.flush();
+
+            mockMvc.perform(post("/tickets/search/rebuild")
+                            .with(user(new CustomUserDetails(admin1))))
+                    .andExpect(status().isOk());
+
+            // when
+            String responseBody = mockMvc.perform(get("/tickets/search")
+                            .param("keyword", "비밀번호")
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            JsonNode data = objectMapper.readTree(responseBody).path("data");
+            assertThat(data.path("totalElements").asLong()).isEqualTo(1L);
+            assertThat(data.path("content").get(0).path("ticketId").asLong()).isEqualTo(ownTicket.getId());
+        }
+
+        @Test
+        @DisplayName("검색어 없이 검색하면 실패한다.")
+        void should_FailToSearchTickets_when_KeywordBlank() throws Exception {
+            // when
+            String responseBody = mockMvc.perform(get("/tickets/search")
+                            .param("keyword", " ")
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isBadRequest())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            assertThat(responseBody).contains("검색어를 입력해주세요.");
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-1, 20", "0, 0", "0, 101"})
+        @DisplayName("페이지 번호가 음수이거나 페이지 크기가 1~100 을 벗어나면 실패한다.")
+        void should_FailToSearchTickets_when_InvalidPageOrSize(int page, int size) throws Exception {
+            // when & then
+            mockMvc.perform(get("/tickets/search")
+                            .param("keyword", "비밀번호")
+                            .param("page", String.valueOf(page))
+                            .param("size", String.valueOf(size))
+                            .with(user(new CustomUserDetails(normalUser1))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("티켓 목록 마감일 정렬 테스트")
+    class DescribeGetTicketListByDeadline {
+
+        @Test
+        @DisplayName("긴급 티켓, 마감 전 티켓(임박한 순), 마감이 지난 티켓 순으로 조회되고 커서 조회도 같은 순서를 따른다.")
+        void should_OrderUpcomingBeforeOverdue_when_SortByDeadline() throws Exception {
+            // given
+            Ticket urgent = saveTicket("긴급 마감 티켓", LocalDateTime.now().plusDays(5), true);
+            Ticket upcomingSoon = saveTicket("마감 임박 티켓", LocalDateTime.now().plusDays(1), false);
+            Ticket upcomingLater = saveTicket("마감 여유 티켓", LocalDateTime.now().plusDays(3), false);
+            Ticket overdue = saveTicket("마감 지난 티켓", LocalDateTime.now().minusDays(1), false);
+            ticketRepository.flush();
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+
+            // when
+            String offsetBody = mockMvc.perform(get("/tickets/list")
+                            .param("sort", "deadline")
+                            .param("page", "1")
+                            .param("size", "2")
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<String> secondPage = new ArrayList<>();
+            objectMapper.readTree(offsetBody).path("data").path("content")
+                    .forEach(node -> secondPage.add(node.path("title").asText()));
+
+            List<Long> cursorIds = new ArrayList<>();
+            String cursor = null;
+            boolean hasNext = true;
+            while (hasNext) {
+                var request = get("/tickets/list")
+                        .param("paging", "cursor")
+                        .param("sort", "deadline")
+                        .param("size", "2")
+                        .with(user(customUserDetails));
+                if (cursor != null) request.param("cursor", cursor);
+
+                JsonNode data = objectMapper.readTree(mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString()).path("data");
+                data.path("content").forEach(node -> cursorIds.add(node.path("ticketId").asLong()));
+                hasNext = data.path("hasNext").asBoolean();
+                cursor = data.path("nextCursor").asText(null);
+            }
+
+            // then
+            assertThat(secondPage).containsExactly("마감 여유 티켓", "TicketA");
+            assertThat(cursorIds).hasSize(6);
+            assertThat(cursorIds.subList(0, 3)).containsExactly(urgent.getId(), upcomingSoon.getId(), upcomingLater.getId());
+            assertThat(cursorIds.get(5)).isEqualTo(overdue.getId());
+        }
+
+        @Test
+        @DisplayName("마감 전/후 구간은 기준 시각(asOf)으로 나누고, 커서는 첫 페이지의 기준 시각을 이어 받는다.")
+        void should_KeepPartitionBoundary_when_PagingWithAsOf() throws Exception {
+            // given
+            Ticket urgent = saveTicket("긴급 마감 티켓", LocalDateTime.now().plusDays(5), true);
+            Ticket overdue = saveTicket("마감 지난 티켓", LocalDateTime.now().minusDays(1), false);
+            ticketRepository.flush();
+            CustomUserDetails customUserDetails = new CustomUserDetails(normalUser1);
+            LocalDateTime asOf = LocalDateTime.now().minusDays(2).withNano(0);
+
+            // when
+            String offsetBody = mockMvc.perform(get("/tickets/list")
+                            .param("sort", "deadline")
+                            .param("page", "0")
+                            .param("size", "2")
+                            .param("asOf", asOf.toString())
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Long> firstPage = new ArrayList<>();
+            objectMapper.readTree(offsetBody).path("data").path("content")
+                    .forEach(node -> firstPage.add(node.path("ticketId").asLong()));
+
+            LocalDateTime before = LocalDateTime.now();
+            String cursorBody = mockMvc.perform(get("/tickets/list")
+                            .param("paging", "cursor")
+                            .param("sort", "deadline")
+                            .param("size", "1")
+                            .with(user(customUserDetails)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = objectMapper.readTree(cursorBody).path("data").path("nextCursor").asText();
+
+            // then
+            // 기준 시각이 이틀 전이면 하루 전에 마감된 티켓도 마감 전 구간에 들어가 가장 먼저 나온다.
+            assertThat(firstPage).containsExactly(urgent.getId(), overdue.getId());
+            assertThat(TicketListCursor.decode(nextCursor).getAsOf()).isBetween(before, LocalDateTime.now());
+        }
+
+        private Ticket saveTicket(String title, LocalDateTime deadline, boolean urgent) {
+            return ticketRepository.save(Ticket.builder()
+                    .title(title)
+                    .description("마감일 정렬 티켓 상세 내용")
+                    .ticketType(ticketType1)
+                    .deadline(deadline)
+                    .urgent(urgent)
+                    .requester(normalUser1)
+                    .status(Ticket.Status.PENDING)
+                    .build());
+        }
+    }
+
     @Nested
     @DisplayName("티켓 삭제 테스트")
     class DescribeDeleteTicket {
@@ -9,6 +9,8 @@ import com.trillion.tikitaka.category.exception.CategoryNotFoundException;
 import com.trillion.tikitaka.category.exception.InvalidCategoryLevelException;
 import com.trillion.tikitaka.category.infrastructure.CategoryRepository;
 import com.trillion.tikitaka.history.application.HistoryService;
+import com.trillion.tikitaka.ticket.application.TicketListCountProvider;
+import com.trillion.tikitaka.ticket.application.TicketStatusCounterService;
 import com.trillion.tikitaka.ticket.application.TicketService;
 import com.trillion.tikitaka.ticket.domain.Ticket;
 import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
@@ -83,6 +85,12 @@ class TicketServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private TicketListCountProvider ticketListCountProvider;
+
+    @Mock
+    private TicketStatusCounterService ticketStatusCounterService;
+
     @InjectMocks
     private TicketService ticketService;
     private CustomUserDetails userDetails;
@@ -224,7 +232,8 @@ class TicketServiceTest {
                     eq(false),
                     anyString(),
                     isNull(),
-                    eq("newest")
+                    eq("newest"),
+                    isNull()
             )).thenReturn(page);
 
             Pageable pageable = PageRequest.of(0, 20);
@@ -270,7 +279,8 @@ class TicketServiceTest {
                     eq(false),
                     anyString(), // "USER" 예상 값 추가
                     isNull(),
-                    eq("newest")
+                    eq("newest"),
+                    isNull()
             )).thenReturn(page);
 
 
@@ -328,7 +338,8 @@ class TicketServiceTest {
                     eq(false),
                     anyString(),  // "USER" 예상 값 추가
                     isNull(),
-                    eq("newest")
+                    eq("newest"),
+                    isNull()
             )).thenReturn(page);
 
 
@@ -383,7 +394,8 @@ class TicketServiceTest {
                     anyBoolean(),
                     eq("USER"),  // ✅ "USER"로 전달된 값을 맞춤
                     nullable(String.class),
-                    eq("newest")
+                    eq("newest"),
+                    isNull()
             )).thenReturn(page);
 
             Pageable pageable = PageRequest.of(0, 20);
@@ -443,7 +455,8 @@ class TicketServiceTest {
                     eq(false),
                     eq("USER"),  // 정확한 값 매칭
                     nullable(String.class),
-                    eq("newest")  // 정확한 값 매칭
+                    eq("newest"),  // 정확한 값 매칭
+                    isNull()
             )).thenReturn(page);
 
 
@@ -510,6 +523,7 @@ class TicketServiceTest {
             // then
             assertThat(ticket.getTitle()).isEqualTo("수정된 제목");
             assertThat(ticket.getDescription()).isEqualTo("수정된 설명");
+            assertThat(ticket.getDescriptionPreview()).isEqualTo("수정된 설명");
             assertThat(ticket.getDeadline()).isEqualTo(editRequest.getDeadline());
             assertThat(ticket.getTicketType()).isEqualTo(newTicketType);
             assertThat(ticket.getFirstCategory()).isEqualTo(newCategory1);
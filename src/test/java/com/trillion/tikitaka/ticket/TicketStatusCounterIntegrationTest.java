@@ -0,0 +1,209 @@
+package com.trillion.tikitaka.ticket;
+
+import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
+import com.trillion.tikitaka.ticket.application.TicketService;
+import com.trillion.tikitaka.ticket.application.TicketStatusCounterService;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.domain.TicketStatusCounter;
+import com.trillion.tikitaka.ticket.dto.request.CreateTicketRequest;
+import com.trillion.tikitaka.ticket.dto.request.EditTicketRequest;
+import com.trillion.tikitaka.ticket.dto.response.TicketCountByStatusResponse;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticket.infrastructure.TicketStatusCounterRepository;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("상태별 티켓 수 카운터 통합 테스트")
+public class TicketStatusCounterIntegrationTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketStatusCounterService ticketStatusCounterService;
+
+    @Autowired
+    private TicketStatusCounterRepository ticketStatusCounterRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User requester;
+    private User manager;
+    private TicketType ticketType;
+    private CustomUserDetails requesterDetails;
+    private CustomUserDetails managerDetails;
+
+    @BeforeEach
+    void setUp() {
+        requester = userRepository.saveAndFlush(User.builder()
+                .username("counterUser")
+                .email("counter.user@test.com")
+                .password("counterpass")
+                .role(Role.USER)
+                .build());
+        manager = userRepository.saveAndFlush(User.builder()
+                .username("counterManager")
+                .email("counter.manager@test.com")
+                .password("counterpass")
+                .role(Role.MANAGER)
+                .build());
+        ticketType = ticketTypeRepository.saveAndFlush(new TicketType("카운터 유형"));
+
+        requesterDetails = new CustomUserDetails(requester);
+        managerDetails = new CustomUserDetails(manager);
+    }
+
+    @Nested
+    @DisplayName("카운터 갱신 테스트")
+    class DescribeApplyChange {
+
+        @Test
+        @DisplayName("티켓 생성/상태/긴급/삭제 변경 후 카운터 조회 결과가 실제 집계와 같다.")
+        void should_MatchExactCount_When_TicketTransitions() {
+            // given
+            Long first = createTicket(false);
+            Long second = createTicket(true);
+            Long third = createTicket(false);
+            Long fourth = createTicket(false);
+
+            // when
+            ticketService.approveTicket(first, managerDetails);
+            ticketService.editStatus(first, Ticket.Status.REVIEW, managerDetails);
+            ticketService.editUrgent(third, EditTicketRequest.builder().urgent(true).build(), requesterDetails);
+            ticketService.rejectTicket(third, managerDetails);
+            ticketService.deleteTicket(fourth, requesterDetails);
+            ticketService.editManager(second, manager.getId(), managerDetails);
+            applyRecordedChanges();
+
+            // then
+            TicketCountByStatusResponse counted = ticketStatusCounterService.countTicketsByStatus(requester.getId());
+            TicketCountByStatusResponse exact = ticketRepository.countTicketsByStatus(requester.getId());
+
+            assertThat(counted).usingRecursiveComparison().isEqualTo(exact);
+            assertThat(counted.getTotal()).isEqualTo(3L);
+            assertThat(counted.getReviewing()).isEqualTo(1L);
+            assertThat(counted.getPending()).isEqualTo(1L);
+            assertThat(counted.getUrgent()).isEqualTo(1L);
+
+            long managerCount = ticketStatusCounterRepository
+                    .findAllByScopeAndOwnerId(TicketStatusCounter.Scope.MANAGER, manager.getId())
+                    .stream().mapToLong(TicketStatusCounter::getTicketCount).sum();
+            assertThat(managerCount).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("상태가 바뀌지 않는 수정은 카운터를 바꾸지 않는다.")
+        void should_KeepCounters_When_StatusUnchanged() {
+            // given
+            Long ticketId = createTicket(false);
+            applyRecordedChanges();
+            TicketCountByStatusResponse before = ticketStatusCounterService.countTicketsByStatus(requester.getId());
+
+            // when
+            ticketService.editStatus(ticketId, Ticket.Status.PENDING, managerDetails);
+            applyRecordedChanges();
+
+            // then
+            TicketCountByStatusResponse after = ticketStatusCounterService.countTicketsByStatus(requester.getId());
+            assertThat(after).usingRecursiveComparison().isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("카운터 갱신 리스너는 티켓 트랜잭션이 커밋된 뒤에 실행된다.")
+        void should_ApplyAfterCommit_When_TicketTransactionInProgress() {
+            // given
+            TicketCountByStatusResponse before = ticketStatusCounterService.countTicketsByStatus(requester.getId());
+
+            // when
+            createTicket(false);
+
+            // then
+            assertThat(applicationEvents.stream(TicketChangeEvent.class)).isNotEmpty();
+            assertThat(ticketStatusCounterService.countTicketsByStatus(requester.getId()))
+                    .usingRecursiveComparison()
+                    .isEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("카운터 보정 테스트")
+    class DescribeReconcile {
+
+        @Test
+        @DisplayName("카운터를 거치지 않고 저장된 티켓이 있으면 보정 후 실제 집계와 같아진다.")
+        void should_RepairDrift_When_Reconcile() {
+            // given
+            createTicket(false);
+            applyRecordedChanges();
+            ticketRepository.saveAndFlush(Ticket.builder()
+                    .title("카운터 누락 티켓")
+                    .description("카운터 누락 티켓 내용")
+                    .ticketType(ticketType)
+                    .requester(requester)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .status(Ticket.Status.DONE)
+                    .build());
+            assertThat(ticketStatusCounterService.countTicketsByStatus(requester.getId()).getCompleted()).isZero();
+
+            // when
+            int repaired = ticketStatusCounterService.reconcile();
+
+            // then
+            assertThat(repaired).isPositive();
+            assertThat(ticketStatusCounterService.countTicketsByStatus(requester.getId()))
+                    .usingRecursiveComparison()
+                    .isEqualTo(ticketRepository.countTicketsByStatus(requester.getId()));
+            assertThat(ticketStatusCounterService.reconcile()).isZero();
+        }
+    }
+
+    // 테스트 트랜잭션은 커밋되지 않아 커밋 후 리스너가 실행되지 않으므로, 기록된 변경 이벤트를 직접 반영한다.
+    private void applyRecordedChanges() {
+        applicationEvents.stream(TicketChangeEvent.class)
+                .forEach(event -> ticketStatusCounterService.applyChange(event.getBefore(), event.getAfter()));
+        applicationEvents.clear();
+    }
+
+    private Long createTicket(boolean urgent) {
+        CreateTicketRequest request = CreateTicketRequest.builder()
+                .title("카운터 티켓")
+                .description("카운터 티켓 내용")
+                .typeId(ticketType.getId())
+                .deadline(LocalDateTime.now().plusDays(3))
+                .urgent(urgent)
+                .build();
+        return ticketService.createTicket(request, null, requesterDetails);
+    }
+}
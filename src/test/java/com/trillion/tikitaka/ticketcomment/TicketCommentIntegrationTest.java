@@ -17,6 +17,8 @@ import com.trillion.tikitaka.user.infrastructure.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -293,6 +295,34 @@ public class TicketCommentIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("댓글 커서 조회 - 페이지 크기 1~100 은 정상 조회")
+    void should_GetTicketCommentsByCursor_When_SizeInRange(int size) throws Exception {
+        Ticket ticket = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        CustomUserDetails customUserDetails = new CustomUserDetails(manager1);
+
+        mockMvc.perform(get("/tickets/" + ticket.getId() + "/comments")
+                        .param("paging", "cursor")
+                        .param("size", String.valueOf(size))
+                        .with(user(customUserDetails)))
+                .andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101})
+    @DisplayName("댓글 커서 조회 - 페이지 크기가 1~100 을 벗어나면 예외 발생")
+    void should_ThrowException_When_CursorSizeOutOfRange(int size) throws Exception {
+        Ticket ticket = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        CustomUserDetails customUserDetails = new CustomUserDetails(manager1);
+
+        mockMvc.perform(get("/tickets/" + ticket.getId() + "/comments")
+                        .param("paging", "cursor")
+                        .param("size", String.valueOf(size))
+                        .with(user(customUserDetails)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("티켓 댓글 수정 - 정상 수정")
     void should_UpdateTicketComment_When_ValidRequest() throws Exception {
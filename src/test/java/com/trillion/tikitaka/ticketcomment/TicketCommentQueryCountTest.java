@@ -0,0 +1,157 @@
+package com.trillion.tikitaka.ticketcomment;
+
+import com.trillion.tikitaka.attachment.domain.Attachment;
+import com.trillion.tikitaka.attachment.infrastructure.AttachmentRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.ticketcomment.domain.TicketComment;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentCursorResponse;
+import com.trillion.tikitaka.ticketcomment.dto.response.TicketCommentResponse;
+import com.trillion.tikitaka.ticketcomment.infrastructure.TicketCommentRepository;
+import com.trillion.tikitaka.tickettype.domain.TicketType;
+import com.trillion.tikitaka.tickettype.infrastructure.TicketTypeRepository;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.domain.User;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("티켓 댓글 조회 쿼리 수 테스트")
+public class TicketCommentQueryCountTest {
+
+    private static final int COMMENT_COUNT = 200;
+
+    @Autowired
+    private TicketCommentRepository ticketCommentRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Ticket ticket;
+    private final List<TicketComment> comments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.saveAndFlush(User.builder()
+                .username("commentManager")
+                .email("comment.manager@test.com")
+                .password("managerpass")
+                .role(Role.MANAGER)
+                .build());
+        TicketType ticketType = ticketTypeRepository.saveAndFlush(new TicketType("댓글 쿼리 유형"));
+
+        ticket = ticketRepository.saveAndFlush(Ticket.builder()
+                .title("댓글 많은 티켓")
+                .description("댓글 쿼리 수 확인용")
+                .ticketType(ticketType)
+                .requester(manager)
+                .manager(manager)
+                .deadline(LocalDateTime.now().plusDays(3))
+                .status(Ticket.Status.IN_PROGRESS)
+                .build());
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            TicketComment comment = ticketCommentRepository.save(TicketComment.builder()
+                    .content("댓글 " + i)
+                    .ticket(ticket)
+                    .author(manager)
+                    .build());
+            comments.add(comment);
+            if (i % 2 == 0) {
+                attachmentRepository.save(Attachment.builder()
+                        .comment(comment)
+                        .fileName("file" + i + ".png")
+                        .filePath("https://files.test/file" + i + ".png")
+                        .fileSize(1024L)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 수와 관계없이 댓글 목록 조회는 댓글 1회, 첨부 파일 1회의 쿼리만 실행한다.")
+    void should_ExecuteTwoStatements_When_GetTicketComments() {
+        // when
+        List<TicketCommentResponse> result = ticketCommentRepository.getTicketComments(ticket.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(result).hasSize(COMMENT_COUNT);
+        assertThat(result.get(0).getAttachments()).hasSize(1);
+        assertThat(result.get(1).getAttachments()).isEmpty();
+        assertThat(result.get(0).getAttachments().get(0).getFileName()).isEqualTo("file0.png");
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회는 페이지마다 2회의 쿼리만 실행하고 다음 커서로 이어서 조회한다.")
+    void should_PageThroughComments_When_GetTicketCommentsByCursor() {
+        // when
+        TicketCommentCursorResponse first = ticketCommentRepository.getTicketCommentsByCursor(ticket.getId(), null, 50);
+        long firstPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        TicketCommentCursorResponse second = ticketCommentRepository.getTicketCommentsByCursor(ticket.getId(), first.getNextCursor(), 50);
+
+        // then
+        assertThat(firstPageStatements).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(first.getContent()).hasSize(50);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(comments.get(49).getId());
+        assertThat(second.getContent().get(0).getCommentId()).isEqualTo(comments.get(50).getId());
+        assertThat(second.getContent().get(0).getAttachments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서는 다음 커서가 없다.")
+    void should_ReturnNoNextCursor_When_LastPage() {
+        // when
+        TicketCommentCursorResponse result = ticketCommentRepository.getTicketCommentsByCursor(
+                ticket.getId(), comments.get(COMMENT_COUNT - 11).getId(), 50);
+
+        // then
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+}
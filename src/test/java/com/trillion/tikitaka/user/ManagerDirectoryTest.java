@@ -0,0 +1,90 @@
+package com.trillion.tikitaka.user;
+
+import com.trillion.tikitaka.user.application.ManagerDirectory;
+import com.trillion.tikitaka.user.domain.Role;
+import com.trillion.tikitaka.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("담당자 목록 캐시 유닛 테스트")
+class ManagerDirectoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ManagerDirectory managerDirectory;
+
+    @BeforeEach
+    void setUp() {
+        managerDirectory = new ManagerDirectory(userRepository, 60);
+        when(userRepository.getUsersByRole(Role.MANAGER)).thenReturn(List.of());
+        managerDirectory.getManagers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋 전까지는 캐시를 유지하고 커밋 후에 비운다.")
+    void should_InvalidateAfterCommit_When_InTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        managerDirectory.invalidate();
+        managerDirectory.getManagers();
+
+        // then
+        verify(userRepository, times(1)).getUsersByRole(Role.MANAGER);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        managerDirectory.getManagers();
+
+        // then
+        verify(userRepository, times(2)).getUsersByRole(Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 캐시를 비우지 않는다.")
+    void should_KeepCache_When_RolledBack() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        managerDirectory.invalidate();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        managerDirectory.getManagers();
+
+        // then
+        verify(userRepository, times(1)).getUsersByRole(Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 비운다.")
+    void should_InvalidateImmediately_When_NoTransaction() {
+        // when
+        managerDirectory.invalidate();
+        managerDirectory.getManagers();
+
+        // then
+        verify(userRepository, times(2)).getUsersByRole(Role.MANAGER);
+    }
+}
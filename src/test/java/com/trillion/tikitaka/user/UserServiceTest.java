@@ -3,8 +3,13 @@ package com.trillion.tikitaka.user;
 import com.trillion.tikitaka.authentication.domain.CustomUserDetails;
 import com.trillion.tikitaka.global.exception.CustomException;
 import com.trillion.tikitaka.global.exception.ErrorCode;
+import com.trillion.tikitaka.notification.application.KakaoWorkRecipientCache;
 import com.trillion.tikitaka.registration.infrastructure.RegistrationRepository;
+import com.trillion.tikitaka.ticket.domain.Ticket;
+import com.trillion.tikitaka.ticket.event.TicketChangeEvent;
+import com.trillion.tikitaka.ticket.event.TicketSnapshot;
 import com.trillion.tikitaka.ticket.infrastructure.TicketRepository;
+import com.trillion.tikitaka.user.application.ManagerDirectory;
 import com.trillion.tikitaka.user.application.UserService;
 import com.trillion.tikitaka.user.domain.Role;
 import com.trillion.tikitaka.user.domain.User;
@@ -16,14 +21,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -44,6 +55,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ManagerDirectory managerDirectory;
+
+    @Mock
+    private KakaoWorkRecipientCache kakaoWorkRecipientCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -123,6 +143,38 @@ class UserServiceTest {
             assertThatCode(() -> userService.deleteUser(2L, userDetails))
                     .doesNotThrowAnyException();
             verify(userRepository, times(1)).delete(anotherUser);
+            verify(kakaoWorkRecipientCache, times(1)).invalidate("another@email.com");
+        }
+
+        @Test
+        @DisplayName("사용자와 함께 삭제되는 티켓마다 삭제 이벤트를 발행해 집계에서 뺀다.")
+        void should_PublishDeleteEvents_When_RequesterTicketsSoftDeleted() {
+            // given
+            User anotherUser = new User("anotherUser", "another@email.com", "encodedPassword", Role.USER);
+            ReflectionTestUtils.setField(anotherUser, "id", 2L);
+            TicketSnapshot pending = new TicketSnapshot(10L, 2L, null, Ticket.Status.PENDING, false,
+                    null, null, 1L, LocalDateTime.now(), LocalDateTime.now(), null, null);
+            TicketSnapshot done = new TicketSnapshot(11L, 2L, 3L, Ticket.Status.DONE, false,
+                    null, null, 1L, LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+
+            when(userRepository.findById(2L)).thenReturn(Optional.of(anotherUser));
+            when(userDetails.getId()).thenReturn(1L);
+            when(ticketRepository.findSnapshotsByRequester(2L)).thenReturn(List.of(pending, done));
+
+            // when
+            userService.deleteUser(2L, userDetails);
+
+            // then
+            verify(ticketRepository).softDeleteTicketsByRequester(2L);
+            ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(captor.capture());
+            assertThat(captor.getAllValues()).allSatisfy(event -> {
+                TicketChangeEvent change = (TicketChangeEvent) event;
+                assertThat(change.getChangeType()).isEqualTo(TicketChangeEvent.ChangeType.DELETED);
+                assertThat(change.getAfter()).isNull();
+            });
+            assertThat(captor.getAllValues()).extracting(event -> ((TicketChangeEvent) event).getBefore())
+                    .containsExactly(pending, done);
         }
 
         @Test